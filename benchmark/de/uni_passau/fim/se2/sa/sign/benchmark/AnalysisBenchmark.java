@@ -0,0 +1,79 @@
+package de.uni_passau.fim.se2.sa.sign.benchmark;
+
+import com.google.common.collect.SortedSetMultimap;
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.SignAnalysisImpl;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointStrategy;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the end-to-end analysis of every method of {@code PublicFunctional}.
+ *
+ * <p>The class is parsed once and then served from the class model cache, such that the
+ * benchmark measures the analysis and not the class loading. Every method is analysed with each
+ * fixpoint strategy, with ASM's analyzer as the reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalysisBenchmark {
+
+  private static final String CLASS_NAME = "de.uni_passau.fim.se2.sa.examples.PublicFunctional";
+
+  @Param({
+    "allCases:()I",
+    "twoErrors:()V",
+    "ifelse:()I",
+    "loop0:()V",
+    "add:()I",
+    "div:()I",
+    "foo:()I",
+    "bar:()I",
+    "first:()I",
+    "second:(I)I",
+    "listSize:()I",
+    "negativeArrayAccessCall:()I",
+    "getNegativeValue:()I",
+    "divZeroCall:()I",
+    "getZero:()I",
+    "divZeroIndirectCall:()I",
+    "getValueIndirect:()I",
+    "divMaybeZeroCall:()I",
+    "getMaybeZero:(I)I"
+  })
+  public String method;
+
+  @Param({"WEAK_TOPOLOGICAL_ORDER", "ASM_ANALYZER"})
+  public FixpointStrategy strategy;
+
+  private SignAnalysisImpl analysis;
+
+  @Setup
+  public void setUp() {
+    analysis =
+        new SignAnalysisImpl(AnalysisOptions.builder().fixpointStrategy(strategy).build());
+  }
+
+  @Benchmark
+  public SortedSetMultimap<Integer, AnalysisResult> analyse()
+      throws AnalyzerException, IOException {
+    return analysis.analyse(CLASS_NAME, method);
+  }
+}
@@ -0,0 +1,113 @@
+package de.uni_passau.fim.se2.sa.sign.benchmark;
+
+import com.google.common.collect.SortedSetMultimap;
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.SignAnalysisImpl;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the interprocedural analysis on a synthetic chain of calls.
+ *
+ * <p>The generated class has an entry method that calls the head of a chain of {@code depth}
+ * static methods from inside a loop; each method calls the next one and adds one to its result,
+ * and the last one returns zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallChainBenchmark {
+
+  private static final String CLASS_NAME = "benchmark/CallChain";
+
+  @Param({"4", "16", "64"})
+  public int depth;
+
+  private final SignAnalysisImpl analysis = new SignAnalysisImpl();
+  private ClassModel model;
+
+  @Setup
+  public void generateClass() {
+    model = ClassModel.parse(generateCallChain(depth));
+  }
+
+  @Benchmark
+  public SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> analyseEntry()
+      throws AnalyzerException {
+    return analysis.analyseClass(model, "entry");
+  }
+
+  static byte[] generateCallChain(final int pDepth) {
+    final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    writer.visit(
+        Opcodes.V21, Opcodes.ACC_PUBLIC, CLASS_NAME, null, "java/lang/Object", null);
+
+    final MethodVisitor entry =
+        writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "entry", "()I", null, null);
+    entry.visitCode();
+    final Label loop = new Label();
+    final Label end = new Label();
+    entry.visitInsn(Opcodes.ICONST_0);
+    entry.visitVarInsn(Opcodes.ISTORE, 0);
+    entry.visitInsn(Opcodes.ICONST_0);
+    entry.visitVarInsn(Opcodes.ISTORE, 1);
+    entry.visitLabel(loop);
+    entry.visitVarInsn(Opcodes.ILOAD, 1);
+    entry.visitIntInsn(Opcodes.BIPUSH, 10);
+    entry.visitJumpInsn(Opcodes.IF_ICMPGE, end);
+    entry.visitVarInsn(Opcodes.ILOAD, 0);
+    entry.visitIntInsn(Opcodes.BIPUSH, 100);
+    entry.visitVarInsn(Opcodes.ILOAD, 1);
+    entry.visitMethodInsn(Opcodes.INVOKESTATIC, CLASS_NAME, "m0", "(I)I", false);
+    entry.visitInsn(Opcodes.IDIV);
+    entry.visitInsn(Opcodes.IADD);
+    entry.visitVarInsn(Opcodes.ISTORE, 0);
+    entry.visitIincInsn(1, 1);
+    entry.visitJumpInsn(Opcodes.GOTO, loop);
+    entry.visitLabel(end);
+    entry.visitVarInsn(Opcodes.ILOAD, 0);
+    entry.visitInsn(Opcodes.IRETURN);
+    entry.visitMaxs(0, 0);
+    entry.visitEnd();
+
+    for (int i = 0; i < pDepth; i++) {
+      final MethodVisitor method =
+          writer.visitMethod(Opcodes.ACC_STATIC, "m" + i, "(I)I", null, null);
+      method.visitCode();
+      if (i + 1 < pDepth) {
+        method.visitVarInsn(Opcodes.ILOAD, 0);
+        method.visitMethodInsn(Opcodes.INVOKESTATIC, CLASS_NAME, "m" + (i + 1), "(I)I", false);
+        method.visitInsn(Opcodes.ICONST_1);
+        method.visitInsn(Opcodes.IADD);
+      } else {
+        method.visitInsn(Opcodes.ICONST_0);
+      }
+      method.visitInsn(Opcodes.IRETURN);
+      method.visitMaxs(0, 0);
+      method.visitEnd();
+    }
+
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+}
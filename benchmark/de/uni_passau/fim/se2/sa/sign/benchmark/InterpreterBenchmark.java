@@ -0,0 +1,77 @@
+package de.uni_passau.fim.se2.sa.sign.benchmark;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignInterpreter;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Measures the instruction-level operations of the {@link SignInterpreter}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpreterBenchmark {
+
+  private static final SignValue[] VALUES = SignValue.values();
+
+  private final SignInterpreter interpreter = new SignInterpreter("Benchmark", Map.of());
+  private final InsnNode[] arithmetic = {
+    new InsnNode(Opcodes.IADD),
+    new InsnNode(Opcodes.ISUB),
+    new InsnNode(Opcodes.IMUL),
+    new InsnNode(Opcodes.IDIV)
+  };
+  private final InsnNode negation = new InsnNode(Opcodes.INEG);
+  private final IincInsnNode increment = new IincInsnNode(1, -1);
+  private final IntInsnNode push = new IntInsnNode(Opcodes.BIPUSH, -42);
+
+  @Benchmark
+  public void binaryOperation(final Blackhole pBlackhole) {
+    for (final InsnNode instruction : arithmetic) {
+      for (final SignValue lhs : VALUES) {
+        for (final SignValue rhs : VALUES) {
+          pBlackhole.consume(interpreter.binaryOperation(instruction, lhs, rhs));
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public void unaryOperation(final Blackhole pBlackhole) throws AnalyzerException {
+    for (final SignValue value : VALUES) {
+      pBlackhole.consume(interpreter.unaryOperation(negation, value));
+      pBlackhole.consume(interpreter.unaryOperation(increment, value));
+    }
+  }
+
+  @Benchmark
+  public SignValue newOperation() throws AnalyzerException {
+    return interpreter.newOperation(push);
+  }
+
+  @Benchmark
+  public void merge(final Blackhole pBlackhole) {
+    for (final SignValue lhs : VALUES) {
+      for (final SignValue rhs : VALUES) {
+        pBlackhole.consume(interpreter.merge(lhs, rhs));
+      }
+    }
+  }
+}
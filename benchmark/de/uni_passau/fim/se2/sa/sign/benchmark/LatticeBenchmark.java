@@ -0,0 +1,82 @@
+package de.uni_passau.fim.se2.sa.sign.benchmark;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignTransferRelation;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import de.uni_passau.fim.se2.sa.sign.interpretation.TransferRelation;
+import de.uni_passau.fim.se2.sa.sign.interpretation.TransferRelation.Operation;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the abstract arithmetic and the lattice operations.
+ *
+ * <p>Every invocation applies the operation to all 64 pairs of lattice elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatticeBenchmark {
+
+  private static final SignValue[] ELEMENTS = {
+    SignValue.BOTTOM,
+    SignValue.MINUS,
+    SignValue.ZERO,
+    SignValue.ZERO_MINUS,
+    SignValue.PLUS,
+    SignValue.PLUS_MINUS,
+    SignValue.ZERO_PLUS,
+    SignValue.TOP
+  };
+
+  @Param({"ADD", "SUB", "MUL", "DIV"})
+  public Operation operation;
+
+  private final TransferRelation transferRelation = new SignTransferRelation();
+
+  @Benchmark
+  public void evaluateBinary(final Blackhole pBlackhole) {
+    for (final SignValue lhs : ELEMENTS) {
+      for (final SignValue rhs : ELEMENTS) {
+        pBlackhole.consume(transferRelation.evaluate(operation, lhs, rhs));
+      }
+    }
+  }
+
+  @Benchmark
+  public void evaluateNegation(final Blackhole pBlackhole) {
+    for (final SignValue value : ELEMENTS) {
+      pBlackhole.consume(transferRelation.evaluate(Operation.NEG, value));
+    }
+  }
+
+  @Benchmark
+  public void join(final Blackhole pBlackhole) {
+    for (final SignValue lhs : ELEMENTS) {
+      for (final SignValue rhs : ELEMENTS) {
+        pBlackhole.consume(lhs.join(rhs));
+      }
+    }
+  }
+
+  @Benchmark
+  public void isLessOrEqual(final Blackhole pBlackhole) {
+    for (final SignValue lhs : ELEMENTS) {
+      for (final SignValue rhs : ELEMENTS) {
+        pBlackhole.consume(lhs.isLessOrEqual(rhs));
+      }
+    }
+  }
+}
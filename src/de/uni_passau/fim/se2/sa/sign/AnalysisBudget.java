@@ -0,0 +1,47 @@
+package de.uni_passau.fim.se2.sa.sign;
+
+import com.google.common.base.Preconditions;
+import java.time.Duration;
+
+/**
+ * Limits the work spent on the analysis of one method, including the analyses of its callees.
+ *
+ * <p>Once the number of callee analyses or the call depth is exhausted, further calls return
+ * {@code TOP}. Once the time or the instruction visits are exhausted, the frames of the method are
+ * given up and every checked value is {@code TOP}. Either way, the results stay sound, but the
+ * method is reported as degraded.
+ *
+ * @param time The wall-clock time, or {@code null} if unlimited
+ * @param instructionVisits The number of instructions interpreted in the method and its callees
+ * @param calleeAnalyses The number of callee analyses
+ * @param callDepth The length of the call chains that are followed, {@code 0} to follow no calls
+ */
+public record AnalysisBudget(
+    Duration time, long instructionVisits, int calleeAnalyses, int callDepth) {
+
+  /** No limits. */
+  public static final AnalysisBudget UNLIMITED =
+      new AnalysisBudget(null, Long.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+  /**
+   * Validates the limits.
+   *
+   * @throws IllegalArgumentException If a limit is negative
+   */
+  public AnalysisBudget {
+    Preconditions.checkArgument(
+        time == null || !time.isNegative(), "Time budget must not be negative");
+    Preconditions.checkArgument(instructionVisits >= 0, "Visit budget must not be negative");
+    Preconditions.checkArgument(calleeAnalyses >= 0, "Callee budget must not be negative");
+    Preconditions.checkArgument(callDepth >= 0, "Depth budget must not be negative");
+  }
+
+  /**
+   * Retrieve whether no limit is set.
+   *
+   * @return {@code true} if this budget never runs out
+   */
+  public boolean isUnlimited() {
+    return equals(UNLIMITED);
+  }
+}
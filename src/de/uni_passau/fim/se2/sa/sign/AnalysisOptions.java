@@ -0,0 +1,474 @@
+package de.uni_passau.fim.se2.sa.sign;
+
+import com.google.common.base.Preconditions;
+import de.uni_passau.fim.se2.sa.sign.check.CheckerRegistry;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointStrategy;
+import de.uni_passau.fim.se2.sa.sign.summary.ContextSensitivity;
+import java.util.Objects;
+
+/**
+ * The settings of a sign analysis.
+ *
+ * <p>Options are immutable; use {@link #builder()} or {@link #toBuilder()} to create them.
+ */
+public final class AnalysisOptions {
+
+  private static final AnalysisOptions DEFAULTS = builder().build();
+
+  private final FixpointStrategy fixpointStrategy;
+  private final boolean sparseFrames;
+  private final boolean discardFrames;
+  private final boolean packedFrames;
+  private final ContextSensitivity contextSensitivity;
+  private final int callSiteDepth;
+  private final int contextLimit;
+  private final AnalysisBudget budget;
+  private final boolean bottomUpSummaries;
+  private final CheckerRegistry checkers;
+  private final boolean refineBranches;
+  private final boolean skipUncheckedMethods;
+  private final boolean backwardSlicing;
+
+  private AnalysisOptions(final Builder pBuilder) {
+    fixpointStrategy = pBuilder.fixpointStrategy;
+    sparseFrames = pBuilder.sparseFrames;
+    discardFrames = pBuilder.discardFrames;
+    packedFrames = pBuilder.packedFrames;
+    contextSensitivity = pBuilder.contextSensitivity;
+    callSiteDepth = pBuilder.callSiteDepth;
+    contextLimit = pBuilder.contextLimit;
+    budget = pBuilder.budget;
+    bottomUpSummaries = pBuilder.bottomUpSummaries;
+    checkers = pBuilder.checkers;
+    refineBranches = pBuilder.refineBranches;
+    skipUncheckedMethods = pBuilder.skipUncheckedMethods;
+    backwardSlicing = pBuilder.backwardSlicing;
+  }
+
+  /**
+   * Retrieve the default options.
+   *
+   * @return The default options
+   */
+  public static AnalysisOptions defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Creates a builder that starts from the default options.
+   *
+   * @return A new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Creates a builder that starts from these options.
+   *
+   * @return A new builder
+   */
+  public Builder toBuilder() {
+    return new Builder()
+        .fixpointStrategy(fixpointStrategy)
+        .sparseFrames(sparseFrames)
+        .discardFrames(discardFrames)
+        .packedFrames(packedFrames)
+        .contextSensitivity(contextSensitivity)
+        .callSiteDepth(callSiteDepth)
+        .contextLimit(contextLimit)
+        .budget(budget)
+        .bottomUpSummaries(bottomUpSummaries)
+        .checkers(checkers)
+        .refineBranches(refineBranches)
+        .skipUncheckedMethods(skipUncheckedMethods)
+        .backwardSlicing(backwardSlicing);
+  }
+
+  /**
+   * Retrieve the algorithm that computes the frames of a method.
+   *
+   * @return The fixpoint strategy
+   */
+  public FixpointStrategy fixpointStrategy() {
+    return fixpointStrategy;
+  }
+
+  /**
+   * Retrieve whether the frames store only the locals that are read as ints. All other locals are
+   * read as {@code TOP}, which may turn precise values derived from references into warnings.
+   *
+   * @return {@code true} if sparse frames are used
+   * @see de.uni_passau.fim.se2.sa.sign.fixpoint.SparseFrame
+   */
+  public boolean sparseFrames() {
+    return sparseFrames;
+  }
+
+  /**
+   * Retrieve whether the checks and return values are evaluated while the fixpoint is computed,
+   * such that the frames of the instructions are not kept until the analysis of a method ends.
+   *
+   * @return {@code true} if the frames are discarded
+   * @see de.uni_passau.fim.se2.sa.sign.fixpoint.FrameObserver
+   */
+  public boolean discardFrames() {
+    return discardFrames;
+  }
+
+  /**
+   * Retrieve whether the frames pack their values into four bits each.
+   *
+   * @return {@code true} if packed frames are used
+   * @see de.uni_passau.fim.se2.sa.sign.interpretation.PackedSignFrame
+   */
+  public boolean packedFrames() {
+    return packedFrames;
+  }
+
+  /**
+   * Retrieve how the analyses of a callee are distinguished.
+   *
+   * @return The context sensitivity
+   */
+  public ContextSensitivity contextSensitivity() {
+    return contextSensitivity;
+  }
+
+  /**
+   * Retrieve the number of call sites that distinguish call-site sensitive contexts.
+   *
+   * @return The call-site depth
+   */
+  public int callSiteDepth() {
+    return callSiteDepth;
+  }
+
+  /**
+   * Retrieve the maximum number of contexts per method, after which calls use the merged context.
+   *
+   * @return The context limit
+   */
+  public int contextLimit() {
+    return contextLimit;
+  }
+
+  /**
+   * Retrieve the limits of the work spent on the analysis of one method.
+   *
+   * @return The budget
+   */
+  public AnalysisBudget budget() {
+    return budget;
+  }
+
+  /**
+   * Retrieve whether the summaries of the methods called by the analysed methods of a class are
+   * computed bottom-up over the strongly connected components of the call graph before the
+   * methods themselves are analysed. Only {@link ContextSensitivity#INSENSITIVE} analyses read
+   * the summaries computed ahead; all others keep computing their summaries top-down.
+   *
+   * @return {@code true} if the summaries are computed bottom-up
+   * @see de.uni_passau.fim.se2.sa.sign.summary.CallGraph
+   */
+  public boolean bottomUpSummaries() {
+    return bottomUpSummaries;
+  }
+
+  /**
+   * Retrieve the checks that turn the operands of instructions into findings.
+   *
+   * @return The checkers by opcode
+   */
+  public CheckerRegistry checkers() {
+    return checkers;
+  }
+
+  /**
+   * Retrieve whether the signs of compared ints are narrowed on the edges of conditional jumps,
+   * such that edges that cannot be taken and the code only they reach are skipped.
+   *
+   * @return {@code true} if branches are refined
+   * @see de.uni_passau.fim.se2.sa.sign.interpretation.SignBranchRefiner
+   */
+  public boolean refineBranches() {
+    return refineBranches;
+  }
+
+  /**
+   * Retrieve whether methods without a checked instruction are skipped. Findings are only reported
+   * at the checked instructions of a method itself, so such a method has none; its fixpoint, the
+   * analyses of its callees, and its fingerprints are not computed.
+   *
+   * @return {@code true} if methods without checked instructions are skipped
+   */
+  public boolean skipUncheckedMethods() {
+    return skipUncheckedMethods;
+  }
+
+  /**
+   * Retrieve whether only the calls whose results reach a checked operand, a returned value, or,
+   * with refined branches, a compared int are analysed. All other calls yield {@code TOP} without
+   * analysing the callee.
+   *
+   * @return {@code true} if calls are sliced
+   * @see de.uni_passau.fim.se2.sa.sign.slice.BackwardSlice
+   */
+  public boolean backwardSlicing() {
+    return backwardSlicing;
+  }
+
+  @Override
+  public boolean equals(final Object pOther) {
+    return pOther instanceof AnalysisOptions other
+        && fixpointStrategy == other.fixpointStrategy
+        && sparseFrames == other.sparseFrames
+        && discardFrames == other.discardFrames
+        && packedFrames == other.packedFrames
+        && contextSensitivity == other.contextSensitivity
+        && callSiteDepth == other.callSiteDepth
+        && contextLimit == other.contextLimit
+        && budget.equals(other.budget)
+        && bottomUpSummaries == other.bottomUpSummaries
+        && checkers.equals(other.checkers)
+        && refineBranches == other.refineBranches
+        && skipUncheckedMethods == other.skipUncheckedMethods
+        && backwardSlicing == other.backwardSlicing;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        fixpointStrategy,
+        sparseFrames,
+        discardFrames,
+        packedFrames,
+        contextSensitivity,
+        callSiteDepth,
+        contextLimit,
+        budget,
+        bottomUpSummaries,
+        checkers,
+        refineBranches,
+        skipUncheckedMethods,
+        backwardSlicing);
+  }
+
+  @Override
+  public String toString() {
+    return describe(checkers.toString());
+  }
+
+  /**
+   * Describes the settings in a form that is stable across runs, e.g., to salt stored results.
+   *
+   * @return The description, with the checkers as in {@link CheckerRegistry#identity()}
+   */
+  public String identity() {
+    return describe(checkers.identity());
+  }
+
+  private String describe(final String pCheckers) {
+    return "AnalysisOptions{fixpointStrategy="
+        + fixpointStrategy
+        + ", sparseFrames="
+        + sparseFrames
+        + ", discardFrames="
+        + discardFrames
+        + ", packedFrames="
+        + packedFrames
+        + ", contextSensitivity="
+        + contextSensitivity
+        + ", callSiteDepth="
+        + callSiteDepth
+        + ", contextLimit="
+        + contextLimit
+        + ", budget="
+        + budget
+        + ", bottomUpSummaries="
+        + bottomUpSummaries
+        + ", checkers="
+        + pCheckers
+        + ", refineBranches="
+        + refineBranches
+        + ", skipUncheckedMethods="
+        + skipUncheckedMethods
+        + ", backwardSlicing="
+        + backwardSlicing
+        + '}';
+  }
+
+  /** A builder for {@link AnalysisOptions}. */
+  public static final class Builder {
+
+    private FixpointStrategy fixpointStrategy = FixpointStrategy.WEAK_TOPOLOGICAL_ORDER;
+    private boolean sparseFrames;
+    private boolean discardFrames;
+    private boolean packedFrames;
+    private ContextSensitivity contextSensitivity = ContextSensitivity.INSENSITIVE;
+    private int callSiteDepth = 1;
+    private int contextLimit = 32;
+    private AnalysisBudget budget = AnalysisBudget.UNLIMITED;
+    private boolean bottomUpSummaries;
+    private CheckerRegistry checkers = CheckerRegistry.defaults();
+    private boolean refineBranches;
+    private boolean skipUncheckedMethods;
+    private boolean backwardSlicing;
+
+    private Builder() {}
+
+    /**
+     * Sets the algorithm that computes the frames of a method.
+     *
+     * @param pFixpointStrategy The fixpoint strategy
+     * @return This builder
+     */
+    public Builder fixpointStrategy(final FixpointStrategy pFixpointStrategy) {
+      fixpointStrategy = Objects.requireNonNull(pFixpointStrategy);
+      return this;
+    }
+
+    /**
+     * Sets whether the frames store only the locals that are read as ints.
+     *
+     * @param pSparseFrames {@code true} to use sparse frames
+     * @return This builder
+     */
+    public Builder sparseFrames(final boolean pSparseFrames) {
+      sparseFrames = pSparseFrames;
+      return this;
+    }
+
+    /**
+     * Sets whether the checks and return values are evaluated while the fixpoint is computed.
+     *
+     * @param pDiscardFrames {@code true} to discard the frames of the instructions
+     * @return This builder
+     */
+    public Builder discardFrames(final boolean pDiscardFrames) {
+      discardFrames = pDiscardFrames;
+      return this;
+    }
+
+    /**
+     * Sets whether the frames pack their values into four bits each.
+     *
+     * @param pPackedFrames {@code true} to use packed frames
+     * @return This builder
+     */
+    public Builder packedFrames(final boolean pPackedFrames) {
+      packedFrames = pPackedFrames;
+      return this;
+    }
+
+    /**
+     * Sets how the analyses of a callee are distinguished.
+     *
+     * @param pContextSensitivity The context sensitivity
+     * @return This builder
+     */
+    public Builder contextSensitivity(final ContextSensitivity pContextSensitivity) {
+      contextSensitivity = Objects.requireNonNull(pContextSensitivity);
+      return this;
+    }
+
+    /**
+     * Sets the number of call sites that distinguish call-site sensitive contexts.
+     *
+     * @param pCallSiteDepth The call-site depth, at least one
+     * @return This builder
+     */
+    public Builder callSiteDepth(final int pCallSiteDepth) {
+      Preconditions.checkArgument(pCallSiteDepth >= 1, "Call-site depth must be positive");
+      callSiteDepth = pCallSiteDepth;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of contexts per method.
+     *
+     * @param pContextLimit The context limit, at least one
+     * @return This builder
+     */
+    public Builder contextLimit(final int pContextLimit) {
+      Preconditions.checkArgument(pContextLimit >= 1, "Context limit must be positive");
+      contextLimit = pContextLimit;
+      return this;
+    }
+
+    /**
+     * Sets the limits of the work spent on the analysis of one method.
+     *
+     * @param pBudget The budget
+     * @return This builder
+     */
+    public Builder budget(final AnalysisBudget pBudget) {
+      budget = Objects.requireNonNull(pBudget);
+      return this;
+    }
+
+    /**
+     * Sets whether the summaries of called methods are computed bottom-up over the call graph.
+     *
+     * @param pBottomUpSummaries {@code true} to compute the summaries bottom-up
+     * @return This builder
+     */
+    public Builder bottomUpSummaries(final boolean pBottomUpSummaries) {
+      bottomUpSummaries = pBottomUpSummaries;
+      return this;
+    }
+
+    /**
+     * Sets the checks that turn the operands of instructions into findings.
+     *
+     * @param pCheckers The checkers by opcode
+     * @return This builder
+     */
+    public Builder checkers(final CheckerRegistry pCheckers) {
+      checkers = Objects.requireNonNull(pCheckers);
+      return this;
+    }
+
+    /**
+     * Sets whether the signs of compared ints are narrowed on the edges of conditional jumps.
+     *
+     * @param pRefineBranches {@code true} to refine branches
+     * @return This builder
+     */
+    public Builder refineBranches(final boolean pRefineBranches) {
+      refineBranches = pRefineBranches;
+      return this;
+    }
+
+    /**
+     * Sets whether methods without a checked instruction are skipped.
+     *
+     * @param pSkipUncheckedMethods {@code true} to skip methods without checked instructions
+     * @return This builder
+     */
+    public Builder skipUncheckedMethods(final boolean pSkipUncheckedMethods) {
+      skipUncheckedMethods = pSkipUncheckedMethods;
+      return this;
+    }
+
+    /**
+     * Sets whether only the calls whose results reach a relevant value are analysed.
+     *
+     * @param pBackwardSlicing {@code true} to slice calls
+     * @return This builder
+     */
+    public Builder backwardSlicing(final boolean pBackwardSlicing) {
+      backwardSlicing = pBackwardSlicing;
+      return this;
+    }
+
+    /**
+     * Creates the options.
+     *
+     * @return The options
+     */
+    public AnalysisOptions build() {
+      return new AnalysisOptions(this);
+    }
+  }
+}
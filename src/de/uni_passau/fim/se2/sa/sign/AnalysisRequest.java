@@ -0,0 +1,269 @@
+package de.uni_passau.fim.se2.sa.sign;
+
+import com.google.common.collect.SortedSetMultimap;
+import de.uni_passau.fim.se2.sa.sign.report.FindingWriter;
+import de.uni_passau.fim.se2.sa.sign.report.ReportFormat;
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import de.uni_passau.fim.se2.sa.sign.scan.ScanPipeline;
+import de.uni_passau.fim.se2.sa.sign.scan.ScanResult;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+
+/**
+ * What to analyse in one invocation: a single method, the methods of a class that match a glob
+ * pattern, all classes of a jar file or class directory, or a batch of such targets listed in a
+ * file.
+ *
+ * <p>A target file holds one target per line, a class name followed by a method key or glob
+ * pattern, which defaults to {@code *}. Blank lines and lines starting with {@code #} are
+ * skipped. The file is read while the targets are analysed and their findings are written as soon
+ * as a target is complete, such that a batch is never held in memory as a whole.
+ *
+ * @param className The class to analyse, or {@code null}
+ * @param methodName The method key or glob pattern; for a scan {@code null} selects all methods
+ * @param scanPath The jar file or class directory to scan, or {@code null}
+ * @param targetsPath The file that lists the targets, or {@code null}
+ */
+public record AnalysisRequest(
+    String className, String methodName, Path scanPath, Path targetsPath) {
+
+  private static final String NO_FINDINGS = "No warnings or errors found";
+  private static final String DEGRADED = "Degraded: analysis budget exhausted";
+  private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+  /**
+   * Validates the combination of targets.
+   *
+   * @throws IllegalArgumentException If not exactly one of a class and a method, a scan, and a
+   *     target file is given
+   */
+  public AnalysisRequest {
+    int targets =
+        (className != null ? 1 : 0) + (scanPath != null ? 1 : 0) + (targetsPath != null ? 1 : 0);
+    if (targets > 1) {
+      throw new IllegalArgumentException("Options --class, --scan, and --targets are exclusive");
+    }
+    if (targets == 0 || (className != null && methodName == null)) {
+      throw new IllegalArgumentException(
+          "Missing required options: --class and --method, --scan, or --targets");
+    }
+  }
+
+  /**
+   * Runs the analysis and prints its findings as text.
+   *
+   * @param pAnalysis The analysis to run
+   * @param pOut Receives the findings
+   * @param pErr Receives the classes and targets that could not be analysed
+   * @return {@code 0}, or {@code 1} if a target of a batch could not be analysed
+   * @throws AnalyzerException In case of an error during the analysis
+   * @throws IOException In case of an I/O error
+   * @throws InterruptedException If a scan is interrupted
+   */
+  public int execute(
+      final SignAnalysisImpl pAnalysis, final PrintStream pOut, final PrintStream pErr)
+      throws AnalyzerException, IOException, InterruptedException {
+    return execute(pAnalysis, ReportFormat.TEXT, pOut, pErr);
+  }
+
+  /**
+   * Runs the analysis and writes its findings in a format.
+   *
+   * <p>The text format of a single class keeps the layout of the command line; all other findings
+   * are written one by one through a {@link FindingWriter}.
+   *
+   * @param pAnalysis The analysis to run
+   * @param pFormat The format of the findings
+   * @param pOut Receives the findings
+   * @param pErr Receives the classes and targets that could not be analysed
+   * @return {@code 0}, or {@code 1} if a target of a batch could not be analysed
+   * @throws AnalyzerException In case of an error during the analysis
+   * @throws IOException In case of an I/O error
+   * @throws InterruptedException If a scan is interrupted
+   */
+  public int execute(
+      final SignAnalysisImpl pAnalysis,
+      final ReportFormat pFormat,
+      final PrintStream pOut,
+      final PrintStream pErr)
+      throws AnalyzerException, IOException, InterruptedException {
+    if (pFormat == ReportFormat.TEXT && targetsPath == null) {
+      if (scanPath != null) {
+        printScanResult(new ScanPipeline(pAnalysis, scanPattern()).scan(scanPath), pOut, pErr);
+      } else if (isMethodPattern(methodName)) {
+        printClassAnalysisResults(pAnalysis.analyseMethods(className, methodName), pOut);
+      } else {
+        MethodResults results = pAnalysis.analyseMethod(className, methodName);
+        printAnalysisResults(results.findings(), pOut);
+        if (results.degraded()) {
+          pOut.println(DEGRADED);
+        }
+      }
+      return 0;
+    }
+
+    Writer buffer =
+        new BufferedWriter(
+            new OutputStreamWriter(pOut, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+    try (FindingWriter writer = FindingWriter.create(pFormat, buffer)) {
+      if (targetsPath != null) {
+        return executeBatch(pAnalysis, writer, pErr);
+      }
+      if (scanPath != null) {
+        ScanResult result = new ScanPipeline(pAnalysis, scanPattern()).scan(scanPath);
+        printScanDiagnostics(result, pErr);
+        Set<String> degraded = new HashSet<>(result.degraded());
+        for (final Finding finding : result.findings()) {
+          writer.write(
+              finding, degraded.contains(finding.className() + "." + finding.methodKey()));
+        }
+      } else {
+        analyseTarget(pAnalysis, className, methodName, writer, pErr);
+      }
+      return 0;
+    }
+  }
+
+  private int executeBatch(
+      final SignAnalysisImpl pAnalysis, final FindingWriter pWriter, final PrintStream pErr)
+      throws IOException {
+    int status = 0;
+    try (BufferedReader targets = Files.newBufferedReader(targetsPath, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = targets.readLine()) != null) {
+        String target = line.strip();
+        if (target.isEmpty() || target.startsWith("#")) {
+          continue;
+        }
+        String[] parts = target.split("\\s+");
+        try {
+          if (parts.length > 2) {
+            throw new IllegalArgumentException("Expected a class and a method");
+          }
+          analyseTarget(
+              pAnalysis, parts[0], parts.length == 2 ? parts[1] : "*", pWriter, pErr);
+        } catch (IllegalArgumentException | AnalyzerException | IOException e) {
+          pErr.println("Skipped " + target + ": " + e.getMessage());
+          status = 1;
+        }
+      }
+    }
+    return status;
+  }
+
+  private static void analyseTarget(
+      final SignAnalysisImpl pAnalysis,
+      final String pClassName,
+      final String pMethodName,
+      final FindingWriter pWriter,
+      final PrintStream pErr)
+      throws AnalyzerException, IOException {
+    String internalName = pClassName.replace('.', '/');
+    if (isMethodPattern(pMethodName)) {
+      for (final Map.Entry<String, MethodResults> entry :
+          pAnalysis.analyseMethods(pClassName, pMethodName).entrySet()) {
+        writeFindings(internalName, entry.getKey(), entry.getValue(), pWriter, pErr);
+      }
+    } else {
+      writeFindings(
+          internalName,
+          pMethodName,
+          pAnalysis.analyseMethod(pClassName, pMethodName),
+          pWriter,
+          pErr);
+    }
+  }
+
+  private static void writeFindings(
+      final String pClassName,
+      final String pMethodKey,
+      final MethodResults pResults,
+      final FindingWriter pWriter,
+      final PrintStream pErr)
+      throws IOException {
+    if (pResults.degraded()) {
+      pErr.println("Degraded " + pClassName + "." + pMethodKey);
+    }
+    for (final Map.Entry<Integer, AnalysisResult> result : pResults.findings().entries()) {
+      pWriter.write(
+          new Finding(pClassName, pMethodKey, result.getKey(), result.getValue()),
+          pResults.degraded());
+    }
+  }
+
+  private String scanPattern() {
+    return methodName == null ? "*" : methodName;
+  }
+
+  private static boolean isMethodPattern(final String pMethodName) {
+    return pMethodName.indexOf('*') >= 0 || pMethodName.indexOf('?') >= 0;
+  }
+
+  private static void printClassAnalysisResults(
+      final SortedMap<String, MethodResults> pAnalysisResults, final PrintStream pOut) {
+    boolean found = false;
+    for (final Map.Entry<String, MethodResults> entry : pAnalysisResults.entrySet()) {
+      MethodResults method = entry.getValue();
+      if (method.findings().isEmpty() && !method.degraded()) {
+        continue;
+      }
+      found = true;
+      pOut.println(method.degraded() ? entry.getKey() + " (degraded)" : entry.getKey());
+      for (final Map.Entry<Integer, AnalysisResult> result : method.findings().entries()) {
+        pOut.printf("  Line %d: %s%n", result.getKey(), result.getValue().getValue());
+      }
+    }
+    if (!found) {
+      pOut.println(NO_FINDINGS);
+    }
+  }
+
+  private static void printScanResult(
+      final ScanResult pScanResult, final PrintStream pOut, final PrintStream pErr) {
+    printScanDiagnostics(pScanResult, pErr);
+    if (pScanResult.findings().isEmpty()) {
+      pOut.println(NO_FINDINGS);
+      return;
+    }
+    for (final Finding finding : pScanResult.findings()) {
+      pOut.println(finding);
+    }
+  }
+
+  private static void printScanDiagnostics(final ScanResult pScanResult, final PrintStream pErr) {
+    for (final String failure : pScanResult.failures()) {
+      pErr.println("Skipped " + failure);
+    }
+    for (final String method : pScanResult.degraded()) {
+      pErr.println("Degraded " + method);
+    }
+  }
+
+  private static void printAnalysisResults(
+      final SortedSetMultimap<Integer, AnalysisResult> pAnalysisResults, final PrintStream pOut) {
+    if (pAnalysisResults.isEmpty()) {
+      pOut.println(NO_FINDINGS);
+      return;
+    }
+
+    for (final Integer lineNumber : pAnalysisResults.keySet()) {
+      final SortedSet<AnalysisResult> analysisResults = pAnalysisResults.get(lineNumber);
+      for (final AnalysisResult analysisResult : analysisResults) {
+        pOut.printf("Line %d: %s%n", lineNumber, analysisResult.getValue());
+      }
+    }
+  }
+}
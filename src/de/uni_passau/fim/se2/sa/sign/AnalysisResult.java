@@ -21,4 +21,13 @@ public enum AnalysisResult {
   public String getValue() {
     return value;
   }
+
+  /**
+   * Checks whether this result is definite, as opposed to a warning about a possible violation.
+   *
+   * @return {@code true} if this result is an error
+   */
+  public boolean isError() {
+    return this == DIVISION_BY_ZERO || this == NEGATIVE_ARRAY_INDEX;
+  }
 }
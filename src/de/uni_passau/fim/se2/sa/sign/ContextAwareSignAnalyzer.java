@@ -1,16 +1,19 @@
 package de.uni_passau.fim.se2.sa.sign;
 
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointAnalyzer;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointStatistics;
+import de.uni_passau.fim.se2.sa.sign.interpretation.PackedSignFrame;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignBranchRefiner;
 import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.MethodNode;
-import org.objectweb.asm.tree.analysis.Analyzer;
 import org.objectweb.asm.tree.analysis.AnalyzerException;
 import org.objectweb.asm.tree.analysis.Frame;
 import org.objectweb.asm.tree.analysis.Interpreter;
 
 import java.util.List;
 
-public class ContextAwareSignAnalyzer extends Analyzer<SignValue> {
+public class ContextAwareSignAnalyzer extends FixpointAnalyzer<SignValue> {
   private final List<? extends SignValue> argumentSigns;
   private final String methodDesc;
   private final boolean isStatic;
@@ -20,17 +23,38 @@ public ContextAwareSignAnalyzer(
           List<? extends SignValue> argumentSigns,
           String methodDesc,
           boolean isStatic) {
-    super(interpreter);
+    this(
+        interpreter,
+        argumentSigns,
+        methodDesc,
+        isStatic,
+        AnalysisOptions.defaults(),
+        new FixpointStatistics());
+  }
+
+  public ContextAwareSignAnalyzer(
+          Interpreter<SignValue> interpreter,
+          List<? extends SignValue> argumentSigns,
+          String methodDesc,
+          boolean isStatic,
+          AnalysisOptions options,
+          FixpointStatistics statistics) {
+    super(
+        interpreter,
+        options.fixpointStrategy(),
+        options.sparseFrames() ? SignValue.TOP : null,
+        statistics,
+        options.packedFrames() ? PackedSignFrame::new : null,
+        options.refineBranches() ? new SignBranchRefiner() : null);
     this.argumentSigns = argumentSigns;
     this.methodDesc = methodDesc;
     this.isStatic = isStatic;
   }
 
-  @Override
-  protected Frame<SignValue> newFrame(int nLocals, int nStack) {
-    return new Frame<>(nLocals, nStack);
-  }
-
+  /**
+   * Initializes the parameters from the arguments of the context. Without arguments, i.e., in the
+   * context-insensitive case, all parameters are unknown.
+   */
   @Override
   protected void init(final String owner, final MethodNode method) throws AnalyzerException {
     super.init(owner, method);
@@ -38,15 +62,18 @@ protected void init(final String owner, final MethodNode method) throws Analyzer
 
     Type[] args = Type.getArgumentTypes(methodDesc);
     int localIndex = 0;
+    int argumentIndex = 0;
 
     if (!isStatic) {
       localIndex++;
+      argumentIndex++;
     }
 
-    for (Type ignored : args) {
-      // frame.setLocal(localIndex, argumentSigns.get(localIndex));
-      frame.setLocal(localIndex, SignValue.TOP); // don't set exact values of arguments
-      localIndex++;
+    for (Type arg : args) {
+      SignValue sign = argumentSigns.isEmpty() ? SignValue.TOP : argumentSigns.get(argumentIndex);
+      frame.setLocal(localIndex, sign);
+      localIndex += arg.getSize();
+      argumentIndex++;
     }
   }
-}
\ No newline at end of file
+}
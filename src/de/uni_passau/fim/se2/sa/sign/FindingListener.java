@@ -0,0 +1,58 @@
+package de.uni_passau.fim.se2.sa.sign;
+
+import com.google.common.collect.SortedSetMultimap;
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import java.util.Map;
+
+/**
+ * Receives the findings of an analysis as soon as the analysis of their method is complete.
+ *
+ * <p>The analysis calls a listener from one thread at a time, but not necessarily always from the
+ * same thread. The findings of one method arrive in the order of their line numbers, unless they
+ * are streamed while the method is analysed, in which case they arrive in the order of their
+ * instructions; the methods of a class arrive in the order in which their analyses complete.
+ */
+@FunctionalInterface
+public interface FindingListener {
+
+  /**
+   * Receives a finding.
+   *
+   * @param pFinding The finding
+   * @return {@code true} to continue the analysis, {@code false} to cancel it, in which case no
+   *     further findings are reported and the methods that have not been started are skipped
+   */
+  boolean onFinding(Finding pFinding);
+
+  /**
+   * Receives the results of one method, finding by finding.
+   *
+   * @param pClassName The class name, either as {@code org.example.Foo} or {@code org/example/Foo}
+   * @param pMethodKey The method in the {@code <name>:<descriptor>} format
+   * @param pResults The results of the method
+   * @return {@code true} to continue the analysis, {@code false} to cancel it
+   */
+  default boolean onResults(
+      final String pClassName,
+      final String pMethodKey,
+      final SortedSetMultimap<Integer, AnalysisResult> pResults) {
+    String internalName = pClassName.replace('.', '/');
+    for (Map.Entry<Integer, AnalysisResult> result : pResults.entries()) {
+      if (!onFinding(new Finding(internalName, pMethodKey, result.getKey(), result.getValue()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Creates a listener that forwards all findings to this listener and cancels the analysis after
+   * the first definite error.
+   *
+   * @return The listener
+   * @see AnalysisResult#isError()
+   */
+  default FindingListener untilFirstError() {
+    return finding -> onFinding(finding) && !finding.result().isError();
+  }
+}
@@ -0,0 +1,15 @@
+package de.uni_passau.fim.se2.sa.sign;
+
+import com.google.common.collect.SortedSetMultimap;
+
+/**
+ * The outcome of analysing one method.
+ *
+ * @param findings A sorted multimap of line numbers and the respective analysis results for these
+ *     lines
+ * @param degraded Whether a budget ran out during the analysis, such that some of the values of
+ *     the method have been approximated by {@code TOP}
+ * @see AnalysisOptions#budget()
+ */
+public record MethodResults(
+    SortedSetMultimap<Integer, AnalysisResult> findings, boolean degraded) {}
@@ -2,6 +2,8 @@
 
 import com.google.common.collect.SortedSetMultimap;
 import java.io.IOException;
+import java.util.Map;
+import java.util.SortedMap;
 import org.objectweb.asm.tree.analysis.AnalyzerException;
 
 /** An interface as the basis for the sign analysis. */
@@ -26,4 +28,70 @@ public interface SignAnalysis {
    */
   SortedSetMultimap<Integer, AnalysisResult> analyse(
       final String pClassName, final String pMethodName) throws AnalyzerException, IOException;
+
+  /**
+   * Executes the sign analysis for several methods of a class.
+   *
+   * <p>All methods of the class {@code pClassName} whose key in the {@code <name>:<descriptor>}
+   * format matches the glob pattern {@code pMethodPattern} are analysed, where {@code *} matches
+   * any sequence of characters and {@code ?} matches a single character. A pattern without a colon
+   * is matched against the method name only, i.e., {@code *} selects all methods of the class.
+   * Methods without code, i.e., abstract and native methods, are skipped.
+   *
+   * <p>The class is read only once and the summaries of the called methods are shared between the
+   * analysed methods.
+   *
+   * @param pClassName The class name to analyse
+   * @param pMethodPattern The glob pattern selecting the methods to analyse
+   * @return A map from the keys of the analysed methods to their analysis results
+   * @throws AnalyzerException In case of an error during the analysis
+   * @throws IOException In case of an I/O error
+   */
+  SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> analyseClass(
+      final String pClassName, final String pMethodPattern) throws AnalyzerException, IOException;
+
+  /**
+   * Executes the sign analysis and reports the findings to a listener, which may cancel it.
+   *
+   * <p>The default implementation reports the findings once the analysis is complete.
+   *
+   * @param pClassName The class name to analyse
+   * @param pMethodName The method to start the analysis with
+   * @param pListener Receives the findings
+   * @return {@code true} if the analysis completed, {@code false} if the listener cancelled it
+   * @throws AnalyzerException In case of an error during the analysis
+   * @throws IOException In case of an I/O error
+   * @see #analyse(String, String)
+   */
+  default boolean analyse(
+      final String pClassName, final String pMethodName, final FindingListener pListener)
+      throws AnalyzerException, IOException {
+    return pListener.onResults(pClassName, pMethodName, analyse(pClassName, pMethodName));
+  }
+
+  /**
+   * Executes the sign analysis for several methods of a class and reports the findings to a
+   * listener, which may cancel it.
+   *
+   * <p>The default implementation reports the findings once all methods have been analysed.
+   *
+   * @param pClassName The class name to analyse
+   * @param pMethodPattern The glob pattern selecting the methods to analyse
+   * @param pListener Receives the findings
+   * @return {@code true} if the analysis completed, {@code false} if the listener cancelled it
+   * @throws AnalyzerException In case of an error during the analysis
+   * @throws IOException In case of an I/O error
+   * @see #analyseClass(String, String)
+   */
+  default boolean analyseClass(
+      final String pClassName, final String pMethodPattern, final FindingListener pListener)
+      throws AnalyzerException, IOException {
+    for (Map.Entry<String, SortedSetMultimap<Integer, AnalysisResult>> entry :
+        analyseClass(pClassName, pMethodPattern).entrySet()) {
+      if (!pListener.onResults(pClassName, entry.getKey(), entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
@@ -2,83 +2,783 @@
 
 import com.google.common.collect.SortedSetMultimap;
 import com.google.common.collect.TreeMultimap;
+import de.uni_passau.fim.se2.sa.sign.check.Checker;
+import de.uni_passau.fim.se2.sa.sign.check.CheckerRegistry;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModelCache;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassProvider;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassResolver;
+import de.uni_passau.fim.se2.sa.sign.events.ClassLoadEvent;
+import de.uni_passau.fim.se2.sa.sign.events.FindingExtractionEvent;
+import de.uni_passau.fim.se2.sa.sign.events.MethodAnalysisEvent;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointAnalyzer;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointStatistics;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FrameObserver;
+import de.uni_passau.fim.se2.sa.sign.interpretation.PackedSignFrame;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignBranchRefiner;
 import de.uni_passau.fim.se2.sa.sign.interpretation.SignInterpreter;
 import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.Opcodes;
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import de.uni_passau.fim.se2.sa.sign.slice.BackwardSlice;
+import de.uni_passau.fim.se2.sa.sign.slice.SliceCache;
+import de.uni_passau.fim.se2.sa.sign.slice.SliceCriterion;
+import de.uni_passau.fim.se2.sa.sign.store.MethodFingerprints;
+import de.uni_passau.fim.se2.sa.sign.store.ResultStore;
+import de.uni_passau.fim.se2.sa.sign.summary.CallContext;
+import de.uni_passau.fim.se2.sa.sign.summary.CallGraph;
+import de.uni_passau.fim.se2.sa.sign.summary.ContextSensitivity;
+import de.uni_passau.fim.se2.sa.sign.summary.SummaryCache;
 import org.objectweb.asm.tree.AbstractInsnNode;
-import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnList;
 import org.objectweb.asm.tree.LineNumberNode;
 import org.objectweb.asm.tree.MethodNode;
-import org.objectweb.asm.tree.analysis.Analyzer;
 import org.objectweb.asm.tree.analysis.AnalyzerException;
 import org.objectweb.asm.tree.analysis.Frame;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class SignAnalysisImpl implements SignAnalysis {
 
+  private static final Pattern METHOD_PATTERN =
+      Pattern.compile("^(<\\w+>|\\w+):(\\([\\w/\\[\\];]*\\)[\\w/\\[\\];]+)$");
+
+  private final AnalysisOptions options;
+  private final SummaryCache summaryCache;
+  private final ClassModelCache classModelCache;
+  private final ClassProvider classProvider;
+  private final ResultStore resultStore;
+  private final FixpointStatistics statistics = new FixpointStatistics();
+  private final Set<String> degraded = ConcurrentHashMap.newKeySet();
+
+  /** Creates an analysis that computes the callee summaries afresh for every analysed method. */
+  public SignAnalysisImpl() {
+    this(AnalysisOptions.defaults());
+  }
+
+  /**
+   * Creates an analysis that reuses the callee summaries of the given cache across analysed
+   * methods, e.g., the process-wide {@link SummaryCache#shared()} cache.
+   *
+   * @param pSummaryCache The cache to reuse, or {@code null} for a fresh cache per analysis
+   */
+  public SignAnalysisImpl(final SummaryCache pSummaryCache) {
+    this(pSummaryCache, new ClassModelCache());
+  }
+
+  /**
+   * Creates an analysis that reuses callee summaries and parsed classes of the given caches.
+   *
+   * @param pSummaryCache The cache to reuse, or {@code null} for a fresh cache per analysis
+   * @param pClassModelCache The cache of parsed classes
+   */
+  public SignAnalysisImpl(
+      final SummaryCache pSummaryCache, final ClassModelCache pClassModelCache) {
+    this(AnalysisOptions.defaults(), pSummaryCache, pClassModelCache);
+  }
+
+  /**
+   * Creates an analysis with the given options that computes the callee summaries afresh for
+   * every analysed method.
+   *
+   * @param pOptions The settings of the analysis
+   */
+  public SignAnalysisImpl(final AnalysisOptions pOptions) {
+    this(pOptions, null, new ClassModelCache());
+  }
+
+  /**
+   * Creates an analysis with the given options that reuses callee summaries and parsed classes of
+   * the given caches.
+   *
+   * @param pOptions The settings of the analysis
+   * @param pSummaryCache The cache to reuse, or {@code null} for a fresh cache per analysis
+   * @param pClassModelCache The cache of parsed classes
+   */
+  public SignAnalysisImpl(
+      final AnalysisOptions pOptions,
+      final SummaryCache pSummaryCache,
+      final ClassModelCache pClassModelCache) {
+    this(
+        pOptions,
+        pSummaryCache,
+        pClassModelCache,
+        ClassProvider.classLoader(SignAnalysisImpl.class.getClassLoader()));
+  }
+
+  /**
+   * Creates an analysis that reads the analysed classes and the classes of their callees from the
+   * given provider.
+   *
+   * @param pOptions The settings of the analysis
+   * @param pSummaryCache The cache to reuse, or {@code null} for a fresh cache per analysis
+   * @param pClassModelCache The cache of parsed classes
+   * @param pClassProvider The source of the class files
+   */
+  public SignAnalysisImpl(
+      final AnalysisOptions pOptions,
+      final SummaryCache pSummaryCache,
+      final ClassModelCache pClassModelCache,
+      final ClassProvider pClassProvider) {
+    this(pOptions, pSummaryCache, pClassModelCache, pClassProvider, null);
+  }
+
+  /**
+   * Creates an analysis that serves the results of unchanged methods from a result store and
+   * records the results of all other analysed methods in it.
+   *
+   * @param pOptions The settings of the analysis
+   * @param pSummaryCache The cache to reuse, or {@code null} for a fresh cache per analysis
+   * @param pClassModelCache The cache of parsed classes
+   * @param pClassProvider The source of the class files
+   * @param pResultStore The store of the results of earlier runs, or {@code null} to analyse all
+   *     methods
+   */
+  public SignAnalysisImpl(
+      final AnalysisOptions pOptions,
+      final SummaryCache pSummaryCache,
+      final ClassModelCache pClassModelCache,
+      final ClassProvider pClassProvider,
+      final ResultStore pResultStore) {
+    options = pOptions;
+    summaryCache = pSummaryCache;
+    classModelCache = pClassModelCache;
+    classProvider = pClassProvider;
+    resultStore = pResultStore;
+  }
+
+  /**
+   * Retrieve the settings of this analysis.
+   *
+   * @return The settings of this analysis
+   */
+  public AnalysisOptions getOptions() {
+    return options;
+  }
+
+  /**
+   * Retrieve the work done by all analyses of this instance so far, including the analyses of
+   * callees.
+   *
+   * @return The fixpoint statistics of this analysis
+   */
+  public FixpointStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Retrieve the store of the results of earlier runs.
+   *
+   * @return The result store, or {@code null} if all methods are analysed
+   */
+  public ResultStore getResultStore() {
+    return resultStore;
+  }
+
+  /**
+   * Retrieve whether a budget ran out during the last analysis of a method, such that some of its
+   * values have been approximated by {@code TOP}.
+   *
+   * <p>Analyses that run concurrently may overwrite each other's flag; they should use the flag of
+   * {@link #analyseMethod(String, String)} or {@link #analyseMethods(String, String)} instead.
+   *
+   * @param pClassName The class name, either as {@code org.example.Foo} or {@code org/example/Foo}
+   * @param pMethodKey The method in the {@code name:descriptor} format
+   * @return {@code true} if the results of the method are degraded
+   * @see AnalysisOptions#budget()
+   */
+  public boolean isDegraded(final String pClassName, final String pMethodKey) {
+    return degraded.contains(pClassName.replace('.', '/') + "." + pMethodKey);
+  }
+
+  /**
+   * Retrieve the cache of parsed classes used by this analysis.
+   *
+   * @return The cache of parsed classes
+   */
+  public ClassModelCache getClassModelCache() {
+    return classModelCache;
+  }
+
   @Override
   public SortedSetMultimap<Integer, AnalysisResult> analyse(
           final String pClassName, final String pMethodName) throws AnalyzerException, IOException {
-    String classPath = pClassName;
-    if (classPath.endsWith(".class")) {
-      classPath = classPath.substring(0, classPath.length() - ".class".length());
-    }
-    if (classPath.contains(".")) {
-      classPath = classPath.replace(".", "/");
+    return analyseMethod(pClassName, pMethodName).findings();
+  }
+
+  /**
+   * Executes the sign analysis for a method and tells whether its results are degraded.
+   *
+   * @param pClassName The class name, either as {@code org.example.Foo} or {@code org/example/Foo}
+   * @param pMethodName The method in the {@code name:descriptor} format
+   * @return The results of the method
+   * @throws AnalyzerException In case of an error during the analysis
+   * @throws IOException In case the class cannot be read
+   * @see #analyse(String, String)
+   */
+  public MethodResults analyseMethod(final String pClassName, final String pMethodName)
+      throws AnalyzerException, IOException {
+    ClassModel model = loadClass(pClassName);
+    MethodNode method = findMethod(model, pClassName, pMethodName);
+    ClassResolver resolver = newClassResolver(classProvider);
+    return analyse(
+        model,
+        method,
+        newSummaryCache(),
+        newSliceCache(),
+        resolver,
+        newFingerprints(resolver),
+        null);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The findings are reported in the order of their instructions as soon as the iteration has
+   * settled the respective instructions, i.e., before the analysis of the method ends. After a
+   * cancellation, the remaining instructions are not analysed. Under {@link
+   * de.uni_passau.fim.se2.sa.sign.summary.ContextSensitivity#CALL_SITE call-site sensitivity},
+   * where a method may be analysed again once its callee summaries grow, the findings are
+   * reported once the analysis is complete.
+   */
+  @Override
+  public boolean analyse(
+      final String pClassName, final String pMethodName, final FindingListener pListener)
+      throws AnalyzerException, IOException {
+    ClassModel model = loadClass(pClassName);
+    MethodNode method = findMethod(model, pClassName, pMethodName);
+    ClassResolver resolver = newClassResolver(classProvider);
+    return analyse(
+            model,
+            method,
+            newSummaryCache(),
+            newSliceCache(),
+            resolver,
+            newFingerprints(resolver),
+            pListener)
+        != null;
+  }
+
+  @Override
+  public SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> analyseClass(
+          final String pClassName, final String pMethodPattern) throws AnalyzerException, IOException {
+    return analyseClass(loadClass(pClassName), pMethodPattern);
+  }
+
+  /**
+   * Executes the sign analysis for several methods of a class and tells for every method whether
+   * its results are degraded.
+   *
+   * @param pClassName The class name, either as {@code org.example.Foo} or {@code org/example/Foo}
+   * @param pMethodPattern The glob pattern selecting the methods to analyse
+   * @return A map from the keys of the analysed methods to their results
+   * @throws AnalyzerException In case of an error during the analysis
+   * @throws IOException In case the class cannot be read
+   * @see #analyseClass(String, String)
+   */
+  public SortedMap<String, MethodResults> analyseMethods(
+      final String pClassName, final String pMethodPattern)
+      throws AnalyzerException, IOException {
+    return analyseMethods(
+        loadClass(pClassName), pMethodPattern, newClassResolver(classProvider));
+  }
+
+  /**
+   * Executes the sign analysis for several methods of an already parsed class.
+   *
+   * <p>The methods are analysed in parallel on the {@link java.util.concurrent.ForkJoinPool} of
+   * the calling thread, or on the common pool if the caller is not part of a pool.
+   *
+   * @param pModel The parsed class
+   * @param pMethodPattern The glob pattern selecting the methods to analyse
+   * @return A map from the keys of the analysed methods to their analysis results
+   * @throws AnalyzerException In case of an error during the analysis
+   * @see SignAnalysis#analyseClass(String, String)
+   */
+  public SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> analyseClass(
+          final ClassModel pModel, final String pMethodPattern) throws AnalyzerException {
+    return analyseClass(pModel, pMethodPattern, newClassResolver(classProvider));
+  }
+
+  /**
+   * Executes the sign analysis for several methods of an already parsed class, following calls
+   * into the classes known to the given resolver.
+   *
+   * @param pModel The parsed class
+   * @param pMethodPattern The glob pattern selecting the methods to analyse
+   * @param pResolver The index of the methods of other classes, which may be shared by the
+   *     analyses of several classes
+   * @return A map from the keys of the analysed methods to their analysis results
+   * @throws AnalyzerException In case of an error during the analysis
+   * @see #analyseClass(ClassModel, String)
+   */
+  public SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> analyseClass(
+          final ClassModel pModel, final String pMethodPattern, final ClassResolver pResolver)
+          throws AnalyzerException {
+    SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> results = new TreeMap<>();
+    analyseMethods(pModel, pMethodPattern, pResolver)
+        .forEach((methodKey, method) -> results.put(methodKey, method.findings()));
+    return results;
+  }
+
+  /**
+   * Executes the sign analysis for several methods of an already parsed class and tells for every
+   * method whether its results are degraded.
+   *
+   * @param pModel The parsed class
+   * @param pMethodPattern The glob pattern selecting the methods to analyse
+   * @param pResolver The index of the methods of other classes
+   * @return A map from the keys of the analysed methods to their results
+   * @throws AnalyzerException In case of an error during the analysis
+   * @see #analyseClass(ClassModel, String, ClassResolver)
+   */
+  public SortedMap<String, MethodResults> analyseMethods(
+      final ClassModel pModel, final String pMethodPattern, final ClassResolver pResolver)
+      throws AnalyzerException {
+    List<String> selected = selectMethods(pModel, pMethodPattern);
+    SummaryCache summaries = newSummaryCache();
+    SliceCache slices = newSliceCache();
+    computeSummaries(pModel, selected, summaries, slices, pResolver);
+    MethodFingerprints fingerprints = newFingerprints(pResolver);
+    SortedMap<String, MethodResults> results = new ConcurrentSkipListMap<>();
+    try {
+      selected.parallelStream().forEach(methodKey -> {
+        try {
+          MethodNode method = pModel.method(methodKey);
+          results.put(
+              methodKey,
+              analyse(pModel, method, summaries, slices, pResolver, fingerprints, null));
+        } catch (AnalyzerException e) {
+          throw new CompletionException(e);
+        }
+      });
+    } catch (CompletionException e) {
+      throw (AnalyzerException) e.getCause();
     }
-    classPath += ".class";
+    return new TreeMap<>(results);
+  }
 
-    InputStream classStream = getClass().getClassLoader().getResourceAsStream(classPath);
-    if (classStream == null) {
-      throw new IllegalArgumentException("Invalid class name: Class file \"" + classPath + "\" not found on classpath.");
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The methods are analysed in parallel and the findings of every method are reported as soon
+   * as its analysis completes. After a cancellation, the methods that have not been started are
+   * skipped; the findings of methods that are still running are dropped.
+   */
+  @Override
+  public boolean analyseClass(
+      final String pClassName, final String pMethodPattern, final FindingListener pListener)
+      throws AnalyzerException, IOException {
+    ClassModel model = loadClass(pClassName);
+    return analyseClass(model, pMethodPattern, newClassResolver(classProvider), pListener);
+  }
+
+  /**
+   * Executes the sign analysis for several methods of an already parsed class and reports the
+   * findings of every method to a listener as soon as its analysis completes.
+   *
+   * @param pModel The parsed class
+   * @param pMethodPattern The glob pattern selecting the methods to analyse
+   * @param pResolver The index of the methods of other classes
+   * @param pListener Receives the findings
+   * @return {@code true} if the analysis completed, {@code false} if the listener cancelled it
+   * @throws AnalyzerException In case of an error during the analysis
+   * @see #analyseClass(String, String, FindingListener)
+   */
+  public boolean analyseClass(
+      final ClassModel pModel,
+      final String pMethodPattern,
+      final ClassResolver pResolver,
+      final FindingListener pListener)
+      throws AnalyzerException {
+    List<String> selected = selectMethods(pModel, pMethodPattern);
+    SummaryCache summaries = newSummaryCache();
+    SliceCache slices = newSliceCache();
+    computeSummaries(pModel, selected, summaries, slices, pResolver);
+    MethodFingerprints fingerprints = newFingerprints(pResolver);
+    AtomicBoolean cancelled = new AtomicBoolean(false);
+    try {
+      selected.parallelStream().forEach(methodKey -> {
+        if (cancelled.get()) {
+          return;
+        }
+        try {
+          MethodNode method = pModel.method(methodKey);
+          SortedSetMultimap<Integer, AnalysisResult> results =
+              analyse(pModel, method, summaries, slices, pResolver, fingerprints, null).findings();
+          synchronized (cancelled) {
+            if (!cancelled.get() && !pListener.onResults(pModel.name(), methodKey, results)) {
+              cancelled.set(true);
+            }
+          }
+        } catch (AnalyzerException e) {
+          throw new CompletionException(e);
+        }
+      });
+    } catch (CompletionException e) {
+      throw (AnalyzerException) e.getCause();
     }
+    return !cancelled.get();
+  }
 
-    Pattern pattern = Pattern.compile("^(<\\w+>|\\w+):(\\([\\w/\\[\\];]*\\)[\\w/\\[\\];]+)$");
-    Matcher matcher = pattern.matcher(pMethodName);
-    if (!matcher.matches()) {
-      throw new IllegalArgumentException("Invalid method name: should be in name:descriptor format, e.g., addTwoIntegers:(II)I");
+  /**
+   * Fills the summary cache with the context-insensitive summaries of all methods called by the
+   * selected methods, if enabled. The strongly connected components of the call graph are
+   * summarised callees first; components that do not depend on each other are summarised in
+   * parallel on the pool of the calling thread, or on the common pool.
+   *
+   * @see AnalysisOptions#bottomUpSummaries()
+   */
+  private void computeSummaries(
+      final ClassModel pModel,
+      final List<String> pSelected,
+      final SummaryCache pSummaries,
+      final SliceCache pSlices,
+      final ClassResolver pResolver) {
+    if (!options.bottomUpSummaries()
+        || options.contextSensitivity() != ContextSensitivity.INSENSITIVE) {
+      return;
     }
+    List<MethodNode> methods = new ArrayList<>(pSelected.size());
+    for (String methodKey : pSelected) {
+      MethodNode method = pModel.method(methodKey);
+      if (!isSkipped(method)) {
+        methods.add(method);
+      }
+    }
+    ForkJoinPool pool =
+        ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+    CallGraph.build(pModel, methods, pResolver, options, pSlices)
+        .computeBottomUp(
+            component -> {
+              // Every interpreter starts with a fresh budget, the methods of one component share it.
+              SignInterpreter interpreter =
+                  new SignInterpreter(
+                      pModel.name(),
+                      pModel.methods(),
+                      pSummaries,
+                      options,
+                      statistics,
+                      pResolver,
+                      pSlices,
+                      null);
+              for (CallContext method : component) {
+                interpreter.summarize(method);
+              }
+            },
+            pool)
+        .join();
+  }
 
-    byte[] classBytes = classStream.readAllBytes();
-    ClassReader reader = new ClassReader(classBytes);
+  /**
+   * Whether a method is not analysed, since none of its instructions is checked.
+   *
+   * @see AnalysisOptions#skipUncheckedMethods()
+   */
+  private boolean isSkipped(final MethodNode pMethod) {
+    return options.skipUncheckedMethods() && !options.checkers().isChecked(pMethod.instructions);
+  }
 
-    ClassNode classNode = new ClassNode();
-    reader.accept(classNode, 0);
+  private static List<String> selectMethods(final ClassModel pModel, final String pMethodPattern) {
+    Pattern selector = compileGlob(pMethodPattern);
+    boolean matchNameOnly = !pMethodPattern.contains(":");
 
-    Map<String, MethodNode> methods = new HashMap<>();
-    for (MethodNode method : classNode.methods) {
-      String key = method.name + ":" + method.desc;
-      methods.put(key, method);
+    List<String> selected = new ArrayList<>();
+    for (Map.Entry<String, MethodNode> entry : pModel.methods().entrySet()) {
+      MethodNode method = entry.getValue();
+      String subject = matchNameOnly ? method.name : entry.getKey();
+      if (method.instructions.size() > 0 && selector.matcher(subject).matches()) {
+        selected.add(entry.getKey());
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Finds the method to start a single-method analysis with.
+   *
+   * @throws IllegalArgumentException In case the method name is malformed or unknown
+   */
+  private static MethodNode findMethod(
+      final ClassModel pModel, final String pClassName, final String pMethodName) {
+    Matcher matcher = METHOD_PATTERN.matcher(pMethodName);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Invalid method name: should be in name:descriptor format, e.g., addTwoIntegers:(II)I");
     }
-    MethodNode method = methods.get(pMethodName);
+
+    MethodNode method = pModel.method(pMethodName);
     if (method == null) {
       throw new IllegalArgumentException("Method not found: Cannot find \"" + pMethodName + "in \"" + pClassName + "\" class");
     }
+    return method;
+  }
 
-    SignInterpreter interpreter = new SignInterpreter(pClassName, methods);
-    Analyzer<SignValue> analyzer = new Analyzer<>(interpreter);
-    Frame<SignValue>[] frames = analyzer.analyze(classNode.name, method);
+  /**
+   * Analyses one method of a parsed class unless the result store holds a valid result for it.
+   *
+   * @param pModel The class that declares the method
+   * @param pMethod The method to analyse
+   * @param pSummaries The callee summaries to use and to extend
+   * @param pSlices The slices of the run, or {@code null} if calls are not sliced
+   * @param pResolver The index of the methods of other classes
+   * @param pFingerprints The fingerprints of the run, or {@code null} without a result store
+   * @param pListener Receives the findings while the method is analysed, or {@code null}
+   * @return The results of the method, or {@code null} if the listener cancelled the analysis
+   * @throws AnalyzerException In case of an error during the analysis
+   */
+  private MethodResults analyse(
+      final ClassModel pModel,
+      final MethodNode pMethod,
+      final SummaryCache pSummaries,
+      final SliceCache pSlices,
+      final ClassResolver pResolver,
+      final MethodFingerprints pFingerprints,
+      final FindingListener pListener)
+      throws AnalyzerException {
+    if (isSkipped(pMethod)) {
+      statistics.countSkippedMethod();
+      degraded.remove(MethodFingerprints.idOf(pModel.name(), pMethod));
+      return new MethodResults(TreeMultimap.create(), false);
+    }
+    if (pFingerprints == null) {
+      return analyse(pModel, pMethod, pSummaries, pSlices, pResolver, pListener);
+    }
+    String methodId = MethodFingerprints.idOf(pModel.name(), pMethod);
+    String fingerprint = pFingerprints.fingerprint(pModel, pMethod);
+    String dependencies = pFingerprints.dependencies(pModel, pMethod);
+    SortedSetMultimap<Integer, AnalysisResult> stored =
+        resultStore.get(methodId, fingerprint, dependencies);
+    if (stored == null) {
+      MethodResults results = analyse(pModel, pMethod, pSummaries, pSlices, pResolver, pListener);
+      if (results != null && !results.degraded()) {
+        resultStore.put(methodId, fingerprint, dependencies, results.findings());
+      }
+      return results;
+    }
+    // Degraded results are never stored, so a stored result is a complete one.
+    degraded.remove(methodId);
+    String methodKey = pMethod.name + ":" + pMethod.desc;
+    if (pListener != null && !pListener.onResults(pModel.name(), methodKey, stored)) {
+      return null;
+    }
+    return new MethodResults(stored, false);
+  }
 
-    List<Pair<AbstractInsnNode, Frame<SignValue>>> pairs = new ArrayList<>();
-    for (int i = 0; i < method.instructions.size(); i++) {
-      AbstractInsnNode insn = method.instructions.get(i);
-      Frame<SignValue> frame = frames[i];
+  /**
+   * Analyses one method of a parsed class.
+   *
+   * @param pModel The class that declares the method
+   * @param pMethod The method to analyse
+   * @param pSummaries The callee summaries to use and to extend
+   * @param pSlices The slices of the run, or {@code null} if calls are not sliced
+   * @param pResolver The index of the methods of other classes
+   * @param pListener Receives the findings while the method is analysed, or {@code null}
+   * @return The results of the method, or {@code null} if the listener cancelled the analysis
+   * @throws AnalyzerException In case of an error during the analysis
+   */
+  private MethodResults analyse(
+      final ClassModel pModel,
+      final MethodNode pMethod,
+      final SummaryCache pSummaries,
+      final SliceCache pSlices,
+      final ClassResolver pResolver,
+      final FindingListener pListener)
+      throws AnalyzerException {
+    BackwardSlice slice =
+        pSlices == null
+            ? null
+            : pSlices.get(pModel.name(), pMethod, SliceCriterion.forAnalysedMethod(options));
+    SignInterpreter interpreter =
+        new SignInterpreter(
+            pModel.name(),
+            pModel.methods(),
+            pSummaries,
+            options,
+            statistics,
+            pResolver,
+            pSlices,
+            slice);
+    FixpointAnalyzer<SignValue> analyzer =
+        new FixpointAnalyzer<>(
+            interpreter,
+            options.fixpointStrategy(),
+            options.sparseFrames() ? SignValue.TOP : null,
+            statistics,
+            options.packedFrames() ? PackedSignFrame::new : null,
+            options.refineBranches() ? new SignBranchRefiner() : null);
+    // Under call-site sensitivity, a later call may grow summaries that have been read earlier, so
+    // findings are only final once the whole method has been analysed.
+    boolean streaming =
+        pListener != null && options.contextSensitivity() != ContextSensitivity.CALL_SITE;
+    String methodKey = pMethod.name + ":" + pMethod.desc;
+    CheckOperands operands = null;
+    Frame<SignValue>[] frames = null;
+    boolean completed = true;
+    try {
+      do {
+        // Every run of the fixpoint is an event of its own, as for callees.
+        MethodAnalysisEvent analysisEvent = new MethodAnalysisEvent();
+        analysisEvent.begin();
+        try {
+          if (streaming || options.discardFrames()) {
+            operands =
+                new CheckOperands(
+                    interpreter,
+                    options.checkers(),
+                    pMethod.instructions,
+                    pModel.name(),
+                    methodKey,
+                    streaming ? pListener : null);
+            completed = analyzer.analyze(pModel.name(), pMethod, operands);
+          } else {
+            frames = analyzer.analyze(pModel.name(), pMethod);
+          }
+        } finally {
+          analysisEvent.end();
+          if (analysisEvent.shouldCommit()) {
+            analysisEvent.owner = pModel.name();
+            analysisEvent.methodKey = methodKey;
+            analysisEvent.instructions = pMethod.instructions.size();
+            analysisEvent.visitedInstructions = analyzer.getVisitedInstructions();
+            analysisEvent.callDepth = 0;
+            analysisEvent.commit();
+          }
+        }
+      } while (completed && interpreter.hasStaleSummaries());
+    } catch (AnalyzerException e) {
+      if (!interpreter.isExhausted()) {
+        throw e;
+      }
+    }
+    if (!completed) {
+      return null;
+    }
+
+    FindingExtractionEvent extractionEvent = new FindingExtractionEvent();
+    extractionEvent.begin();
+    SortedSetMultimap<Integer, AnalysisResult> results;
+    if (interpreter.isExhausted() && streaming) {
+      // The findings of the settled instructions have been reported and remain valid.
+      results = operands.degrade();
+    } else if (interpreter.isExhausted()) {
+      results = degradedResults(pMethod);
+    } else if (operands != null) {
+      results = operands.results();
+    } else {
+      List<Pair<AbstractInsnNode, Frame<SignValue>>> pairs = new ArrayList<>();
+      for (int i = 0; i < pMethod.instructions.size(); i++) {
+        AbstractInsnNode insn = pMethod.instructions.get(i);
+        Frame<SignValue> frame = frames[i];
 
-      if (frame != null) {
-        pairs.add(new Pair<>(insn, frame));
+        if (frame != null) {
+          pairs.add(new Pair<>(insn, frame));
+        }
       }
+      results = extractAnalysisResults(pairs);
+    }
+    extractionEvent.end();
+    if (extractionEvent.shouldCommit()) {
+      extractionEvent.owner = pModel.name();
+      extractionEvent.methodKey = methodKey;
+      extractionEvent.instructions = pMethod.instructions.size();
+      extractionEvent.findings = results.size();
+      extractionEvent.commit();
+    }
+    String methodId = MethodFingerprints.idOf(pModel.name(), pMethod);
+    if (interpreter.isDegraded()) {
+      degraded.add(methodId);
+    } else {
+      degraded.remove(methodId);
+    }
+    if (results == null
+        || pListener != null
+            && !streaming
+            && !pListener.onResults(pModel.name(), methodKey, results)) {
+      return null;
+    }
+    return new MethodResults(results, interpreter.isDegraded());
+  }
+
+  /**
+   * Reads a class from the class provider and parses it unless it is already cached.
+   *
+   * @param pClassName The class name, either as {@code org.example.Foo} or {@code org/example/Foo}
+   * @return The model of the class
+   * @throws IOException In case of an I/O error
+   */
+  private ClassModel loadClass(final String pClassName) throws IOException {
+    String internalName = pClassName;
+    if (internalName.endsWith(".class")) {
+      internalName = internalName.substring(0, internalName.length() - ".class".length());
+    }
+    if (internalName.contains(".")) {
+      internalName = internalName.replace(".", "/");
+    }
+    String classPath = internalName + ".class";
+
+    ClassLoadEvent event = new ClassLoadEvent();
+    event.begin();
+    byte[] classBytes = classProvider.read(internalName);
+    if (classBytes == null) {
+      throw new IllegalArgumentException("Invalid class name: Class file \"" + classPath + "\" not found on classpath.");
+    }
+    ClassModel model = classModelCache.get(classPath, classBytes);
+    event.end();
+    if (event.shouldCommit()) {
+      event.className = internalName;
+      event.size = classBytes.length;
+      event.commit();
     }
+    return model;
+  }
+
+  /**
+   * Creates the index of callee classes for one analysis run. Classes are read once per run and
+   * parsed once as long as they stay in the class model cache.
+   */
+  private ClassResolver newClassResolver(final ClassProvider pClassProvider) {
+    return new ClassResolver(pClassProvider, classModelCache);
+  }
+
+  private MethodFingerprints newFingerprints(final ClassResolver pResolver) {
+    return resultStore == null ? null : new MethodFingerprints(pResolver, options.identity());
+  }
+
+  private SliceCache newSliceCache() {
+    return options.backwardSlicing() ? new SliceCache() : null;
+  }
 
-    return extractAnalysisResults(pairs);
+  private SummaryCache newSummaryCache() {
+    return summaryCache == null ? new SummaryCache() : summaryCache;
+  }
+
+  private static Pattern compileGlob(final String pGlob) {
+    StringBuilder regex = new StringBuilder();
+    StringBuilder literal = new StringBuilder();
+    for (char c : pGlob.toCharArray()) {
+      if (c == '*' || c == '?') {
+        regex.append(Pattern.quote(literal.toString())).append(c == '*' ? ".*" : ".");
+        literal.setLength(0);
+      } else {
+        literal.append(c);
+      }
+    }
+    return Pattern.compile(regex.append(Pattern.quote(literal.toString())).toString());
   }
 
   /**
@@ -106,67 +806,168 @@ private SortedSetMultimap<Integer, AnalysisResult> extractAnalysisResults(
         lineNumber = lineNumberNode.line;
       }
 
-      if (isDivByZero(instruction, frame)) {
-        result.put(lineNumber, AnalysisResult.DIVISION_BY_ZERO);
-      } else if (isMaybeDivByZero(instruction, frame)) {
-        result.put(lineNumber, AnalysisResult.MAYBE_DIVISION_BY_ZERO);
-      }
-
-      if (isNegativeArrayIndex(instruction, frame)) {
-        result.put(lineNumber, AnalysisResult.NEGATIVE_ARRAY_INDEX);
-      } else if (isMaybeNegativeArrayIndex(instruction, frame)) {
-        result.put(lineNumber, AnalysisResult.MAYBE_NEGATIVE_ARRAY_INDEX);
+      final Checker[] checkers = options.checkers().checkersFor(instruction.getOpcode());
+      if (checkers != null) {
+        for (final Checker checker : checkers) {
+          check(result, lineNumber, checker, operandOf(checker, frame));
+        }
       }
     }
 
     return result;
   }
 
-  private boolean isDivByZero(final AbstractInsnNode pInstruction, final Frame<SignValue> pFrame) {
-    int opcode = pInstruction.getOpcode();
-    if (opcode != Opcodes.IDIV) {
-      return false;
+  /**
+   * Approximates the findings of a method whose frames have been given up: every checked value
+   * may have any sign.
+   */
+  private SortedSetMultimap<Integer, AnalysisResult> degradedResults(final MethodNode pMethod) {
+    SortedSetMultimap<Integer, AnalysisResult> results = TreeMultimap.create();
+    int lineNumber = -1;
+    for (AbstractInsnNode instruction : pMethod.instructions) {
+      if (instruction instanceof LineNumberNode lineNumberNode) {
+        lineNumber = lineNumberNode.line;
+        continue;
+      }
+      Checker[] checkers = options.checkers().checkersFor(instruction.getOpcode());
+      if (checkers != null) {
+        for (Checker checker : checkers) {
+          check(results, lineNumber, checker, SignValue.TOP);
+        }
+      }
     }
+    return results;
+  }
 
-    int stackSize = pFrame.getStackSize();
-    SignValue pRHS = pFrame.getStack(stackSize - 1);
-    return SignValue.isZero(pRHS);
+  private static SignValue operandOf(final Checker pChecker, final Frame<SignValue> pFrame) {
+    return pFrame.getStack(pFrame.getStackSize() - 1 - pChecker.operandDepth());
   }
 
-  private boolean isMaybeDivByZero(
-      final AbstractInsnNode pInstruction, final Frame<SignValue> pFrame) {
-    int opcode = pInstruction.getOpcode();
-    if (opcode != Opcodes.IDIV) {
-      return false;
+  private static void check(
+      final SortedSetMultimap<Integer, AnalysisResult> pResults,
+      final int pLineNumber,
+      final Checker pChecker,
+      final SignValue pOperand) {
+    AnalysisResult finding = pChecker.check(pOperand);
+    if (finding != null) {
+      pResults.put(pLineNumber, finding);
     }
-
-    int stackSize = pFrame.getStackSize();
-    SignValue pRHS = pFrame.getStack(stackSize - 1);
-    return SignValue.isMaybeZero(pRHS);
   }
 
-  private boolean isNegativeArrayIndex(
-      final AbstractInsnNode pInstruction, final Frame<SignValue> pFrame) {
-    int opcode = pInstruction.getOpcode();
-    if (opcode != Opcodes.IALOAD) {
-      return false;
+  /**
+   * Records the operands of the checked instructions while the fixpoint is computed, such that no
+   * frame has to be kept. The operand of a checker is the join of its values in all visits, as in
+   * the final frame. Line numbers count only if they are reached, as with kept frames.
+   *
+   * <p>The findings are collected in the order of the instructions as soon as the iteration has
+   * settled them, and reported to the listener, if any, which may stop the analysis.
+   */
+  private static final class CheckOperands implements FrameObserver<SignValue> {
+
+    private final SignInterpreter interpreter;
+    private final CheckerRegistry checkers;
+    private final InsnList instructions;
+    private final String owner;
+    private final String methodKey;
+    private final FindingListener listener;
+    private final Map<Integer, SignValue[]> operands = new HashMap<>();
+    private final BitSet reachedLines = new BitSet();
+    private final BitSet settled = new BitSet();
+    private final SortedSetMultimap<Integer, AnalysisResult> results = TreeMultimap.create();
+    private int next = 0;
+    private int lineNumber = -1;
+    private boolean cancelled = false;
+
+    CheckOperands(
+        final SignInterpreter pInterpreter,
+        final CheckerRegistry pCheckers,
+        final InsnList pInstructions,
+        final String pOwner,
+        final String pMethodKey,
+        final FindingListener pListener) {
+      interpreter = pInterpreter;
+      checkers = pCheckers;
+      instructions = pInstructions;
+      owner = pOwner;
+      methodKey = pMethodKey;
+      listener = pListener;
     }
 
-    int stackSize = pFrame.getStackSize();
-    SignValue pRHS = pFrame.getStack(stackSize - 1);
-    return SignValue.isNegative(pRHS);
-  }
+    /** {@inheritDoc} */
+    @Override
+    public void observe(
+        final int pIndex, final AbstractInsnNode pInstruction, final Frame<SignValue> pFrame) {
+      if (pInstruction instanceof LineNumberNode) {
+        reachedLines.set(pIndex);
+        return;
+      }
+      Checker[] instructionCheckers = checkers.checkersFor(pInstruction.getOpcode());
+      if (instructionCheckers == null) {
+        return;
+      }
+      SignValue[] values =
+          operands.computeIfAbsent(pIndex, index -> new SignValue[instructionCheckers.length]);
+      for (int i = 0; i < instructionCheckers.length; i++) {
+        SignValue operand = operandOf(instructionCheckers[i], pFrame);
+        values[i] = values[i] == null ? operand : interpreter.merge(values[i], operand);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean settle(final int pStart, final int pEnd) {
+      settled.set(pStart, pEnd);
+      for (; next < instructions.size() && settled.get(next) && !cancelled; next++) {
+        AbstractInsnNode instruction = instructions.get(next);
+        if (instruction instanceof LineNumberNode lineNumberNode && reachedLines.get(next)) {
+          lineNumber = lineNumberNode.line;
+        }
+        SignValue[] values = operands.remove(next);
+        if (values != null) {
+          Checker[] instructionCheckers = checkers.checkersFor(instruction.getOpcode());
+          for (int j = 0; j < instructionCheckers.length && !cancelled; j++) {
+            report(instructionCheckers[j].check(values[j]));
+          }
+        }
+      }
+      return !cancelled;
+    }
+
+    /**
+     * Approximates the findings of the instructions that have not been settled when the frames
+     * are given up: every checked value may have any sign.
+     *
+     * @return The findings, or {@code null} if the listener cancelled the analysis
+     */
+    SortedSetMultimap<Integer, AnalysisResult> degrade() {
+      for (; next < instructions.size() && !cancelled; next++) {
+        AbstractInsnNode instruction = instructions.get(next);
+        if (instruction instanceof LineNumberNode lineNumberNode) {
+          lineNumber = lineNumberNode.line;
+          continue;
+        }
+        Checker[] instructionCheckers = checkers.checkersFor(instruction.getOpcode());
+        if (instructionCheckers != null) {
+          for (int j = 0; j < instructionCheckers.length && !cancelled; j++) {
+            report(instructionCheckers[j].check(SignValue.TOP));
+          }
+        }
+      }
+      return cancelled ? null : results;
+    }
 
-  private boolean isMaybeNegativeArrayIndex(
-      final AbstractInsnNode pInstruction, final Frame<SignValue> pFrame) {
-    int opcode = pInstruction.getOpcode();
-    if (opcode != Opcodes.IALOAD) {
-      return false;
+    SortedSetMultimap<Integer, AnalysisResult> results() {
+      return results;
     }
 
-    int stackSize = pFrame.getStackSize();
-    SignValue pRHS = pFrame.getStack(stackSize - 1);
-    return SignValue.isMaybeNegative(pRHS);
+    private void report(final AnalysisResult pFinding) {
+      if (pFinding != null
+          && results.put(lineNumber, pFinding)
+          && listener != null
+          && !listener.onFinding(new Finding(owner, methodKey, lineNumber, pFinding))) {
+        cancelled = true;
+      }
+    }
   }
 
   private record Pair<K, V>(K key, V value) {
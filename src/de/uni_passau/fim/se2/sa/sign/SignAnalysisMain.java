@@ -1,11 +1,28 @@
 package de.uni_passau.fim.se2.sa.sign;
 
-import com.google.common.collect.SortedSetMultimap;
-import java.util.SortedSet;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModelCache;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassProvider;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClasspathIndex;
+import de.uni_passau.fim.se2.sa.sign.daemon.AnalysisDaemon;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointStrategy;
+import de.uni_passau.fim.se2.sa.sign.report.ReportFormat;
+import de.uni_passau.fim.se2.sa.sign.store.ResultStore;
+import de.uni_passau.fim.se2.sa.sign.summary.ContextSensitivity;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
 import picocli.CommandLine;
 import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
 import picocli.CommandLine.Spec;
 
 /** Main entry point of the analysis. */
@@ -15,41 +32,138 @@ public class SignAnalysisMain implements Callable<Integer> {
 
   private String className;
   private String methodName;
+  private Path scanPath;
+  private Path targetsPath;
+  private ReportFormat format = ReportFormat.TEXT;
+  private FixpointStrategy fixpointStrategy = FixpointStrategy.WEAK_TOPOLOGICAL_ORDER;
+  private boolean sparseFrames;
+  private boolean discardFrames;
+  private boolean packedFrames;
+  private boolean bottomUpSummaries;
+  private boolean refineBranches;
+  private boolean skipUncheckedMethods;
+  private boolean backwardSlicing;
+  private ContextSensitivity contextSensitivity = ContextSensitivity.INSENSITIVE;
+  private int callSiteDepth = 1;
+  private int contextLimit = 32;
+  private Duration timeBudget;
+  private long visitBudget = Long.MAX_VALUE;
+  private int calleeBudget = Integer.MAX_VALUE;
+  private int depthBudget = Integer.MAX_VALUE;
+  private List<Path> classPath = List.of();
+  private Path storePath;
+  private boolean daemonMode;
+  private Path socketPath;
+  private boolean printStatistics;
 
   public static void main(String[] pArgs) {
-    int exitCode = new CommandLine(new SignAnalysisMain()).execute(pArgs);
+    int exitCode =
+        new CommandLine(new SignAnalysisMain())
+            .setCaseInsensitiveEnumValuesAllowed(true)
+            .execute(pArgs);
     System.exit(exitCode);
   }
 
   @Override
   public Integer call() throws Exception {
-    final SignAnalysis analysis = new SignAnalysisImpl();
-    final SortedSetMultimap<Integer, AnalysisResult> results =
-        analysis.analyse(className, methodName);
-    printAnalysisResults(results);
-    return 0;
+    final AnalysisOptions options =
+        AnalysisOptions.builder()
+            .fixpointStrategy(fixpointStrategy)
+            .sparseFrames(sparseFrames)
+            .discardFrames(discardFrames)
+            .packedFrames(packedFrames)
+            .contextSensitivity(contextSensitivity)
+            .callSiteDepth(callSiteDepth)
+            .contextLimit(contextLimit)
+            .budget(new AnalysisBudget(timeBudget, visitBudget, calleeBudget, depthBudget))
+            .bottomUpSummaries(bottomUpSummaries)
+            .refineBranches(refineBranches)
+            .skipUncheckedMethods(skipUncheckedMethods)
+            .backwardSlicing(backwardSlicing)
+            .build();
+    final ResultStore store = storePath == null ? null : ResultStore.open(storePath);
+    // The index is opened last and closed in any case, since it keeps jar files open.
+    try (ClasspathIndex index = classPath.isEmpty() ? null : ClasspathIndex.open(classPath)) {
+      final ClassProvider toolClasses =
+          ClassProvider.classLoader(SignAnalysisMain.class.getClassLoader());
+      final ClassProvider classProvider =
+          index == null ? toolClasses : ClassProvider.firstOf(index, toolClasses);
+      final AnalysisDaemon daemon =
+          daemonMode ? new AnalysisDaemon(options, classProvider, index, store) : null;
+      final SignAnalysisImpl analysis =
+          daemon != null
+              ? daemon.getAnalysis()
+              : new SignAnalysisImpl(options, null, new ClassModelCache(), classProvider, store);
+      // A daemon that is stopped by a signal never reaches the finally block.
+      final Thread saveOnExit = daemon != null && store != null ? saveOnExit(store) : null;
+      if (saveOnExit != null) {
+        Runtime.getRuntime().addShutdownHook(saveOnExit);
+      }
+      try {
+        if (daemon != null) {
+          return serve(daemon);
+        }
+        return run(analysis);
+      } finally {
+        if (saveOnExit != null) {
+          Runtime.getRuntime().removeShutdownHook(saveOnExit);
+        }
+        if (store != null) {
+          store.save();
+        }
+        if (printStatistics) {
+          System.err.println("Fixpoint: " + analysis.getStatistics());
+          if (store != null) {
+            System.err.println("Store: " + store);
+          }
+        }
+      }
+    }
   }
 
-  private void printAnalysisResults(
-      final SortedSetMultimap<Integer, AnalysisResult> pAnalysisResults) {
-    if (pAnalysisResults.isEmpty()) {
-      System.out.println("No warnings or errors found");
-      return;
+  private int serve(final AnalysisDaemon daemon) throws IOException {
+    if (className != null || methodName != null || scanPath != null || targetsPath != null) {
+      throw new ParameterException(
+          spec.commandLine(), "Option --daemon takes its requests from stdin or --socket");
     }
+    if (socketPath != null) {
+      daemon.serve(socketPath);
+    } else {
+      daemon.serve(
+          new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+          System.out);
+    }
+    return 0;
+  }
 
-    for (final Integer lineNumber : pAnalysisResults.keySet()) {
-      final SortedSet<AnalysisResult> analysisResults = pAnalysisResults.get(lineNumber);
-      for (final AnalysisResult analysisResult : analysisResults) {
-        System.out.printf("Line %d: %s%n", lineNumber, analysisResult.getValue());
-      }
+  private static Thread saveOnExit(final ResultStore store) {
+    return new Thread(
+        () -> {
+          try {
+            store.save();
+          } catch (IOException e) {
+            System.err.println("Cannot save the result store: " + e.getMessage());
+          }
+        });
+  }
+
+  private int run(final SignAnalysisImpl analysis) throws Exception {
+    if (socketPath != null) {
+      throw new ParameterException(spec.commandLine(), "Option --socket requires --daemon");
     }
+    final AnalysisRequest request;
+    try {
+      request = new AnalysisRequest(className, methodName, scanPath, targetsPath);
+    } catch (IllegalArgumentException e) {
+      throw new ParameterException(spec.commandLine(), e.getMessage());
+    }
+    return request.execute(analysis, format, System.out, System.err);
   }
 
   // @formatter:off
   @Option(
       names = {"-c", "--class"},
-      description = "The class to analyze.",
-      required = true)
+      description = "The class to analyze.")
   // @formatter:on
   public void setClassName(String pClassName) {
     className = pClassName;
@@ -58,10 +172,263 @@ public void setClassName(String pClassName) {
   // @formatter:off
   @Option(
       names = {"-m", "--method"},
-      description = "The name of the method to start the analysis with.",
-      required = true)
+      description =
+          "The name of the method to start the analysis with, e.g., foo:(I)I. A glob pattern "
+              + "such as '*' analyses all matching methods of the class.")
   // @formatter:on
   public void setMethodName(String pMethodName) {
     methodName = pMethodName;
   }
+
+  // @formatter:off
+  @Option(
+      names = {"-s", "--scan"},
+      description =
+          "A jar file or class directory whose classes are all analyzed. The --method pattern "
+              + "selects the methods in every class and defaults to '*'.")
+  // @formatter:on
+  public void setScanPath(Path pScanPath) {
+    scanPath = pScanPath;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"-t", "--targets"},
+      description =
+          "A file with one target per line, a class followed by a method or glob pattern "
+              + "(default: '*'). The findings are written as soon as a target is analysed.")
+  // @formatter:on
+  public void setTargetsPath(Path pTargetsPath) {
+    targetsPath = pTargetsPath;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--format"},
+      description =
+          "The format of the findings: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE}).",
+      defaultValue = "TEXT")
+  // @formatter:on
+  public void setFormat(ReportFormat pFormat) {
+    format = pFormat;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--fixpoint"},
+      description =
+          "The algorithm that computes the frames of a method: ${COMPLETION-CANDIDATES} "
+              + "(default: ${DEFAULT-VALUE}).",
+      defaultValue = "WEAK_TOPOLOGICAL_ORDER")
+  // @formatter:on
+  public void setFixpointStrategy(FixpointStrategy pFixpointStrategy) {
+    fixpointStrategy = pFixpointStrategy;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--sparse"},
+      description = "Store only the local variables that are read as ints in the frames.")
+  // @formatter:on
+  public void setSparseFrames(boolean pSparseFrames) {
+    sparseFrames = pSparseFrames;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--discard-frames"},
+      description = "Evaluate the checks while the fixpoint is computed instead of keeping a frame "
+              + "for every instruction.")
+  // @formatter:on
+  public void setDiscardFrames(boolean pDiscardFrames) {
+    discardFrames = pDiscardFrames;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--packed"},
+      description = "Pack the values of the frames into four bits each.")
+  // @formatter:on
+  public void setPackedFrames(boolean pPackedFrames) {
+    packedFrames = pPackedFrames;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--bottom-up"},
+      description =
+          "Compute the summaries of called methods bottom-up over the call graph, analysing "
+              + "independent components in parallel.")
+  // @formatter:on
+  public void setBottomUpSummaries(boolean pBottomUpSummaries) {
+    bottomUpSummaries = pBottomUpSummaries;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--refine-branches"},
+      description =
+          "Narrow the signs of compared ints on both edges of a conditional jump and skip the "
+              + "code that no feasible edge reaches.")
+  // @formatter:on
+  public void setRefineBranches(boolean pRefineBranches) {
+    refineBranches = pRefineBranches;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--skip-unchecked"},
+      description =
+          "Do not analyse methods without int divisions, array accesses, or other checked "
+              + "instructions, since they cannot have findings.")
+  // @formatter:on
+  public void setSkipUncheckedMethods(boolean pSkipUncheckedMethods) {
+    skipUncheckedMethods = pSkipUncheckedMethods;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--slice"},
+      description =
+          "Only analyse the callees whose return values reach a checked operand; all other "
+              + "calls are approximated by TOP.")
+  // @formatter:on
+  public void setBackwardSlicing(boolean pBackwardSlicing) {
+    backwardSlicing = pBackwardSlicing;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--context"},
+      description =
+          "How the analyses of a called method are distinguished: ${COMPLETION-CANDIDATES} "
+              + "(default: ${DEFAULT-VALUE}).",
+      defaultValue = "INSENSITIVE")
+  // @formatter:on
+  public void setContextSensitivity(ContextSensitivity pContextSensitivity) {
+    contextSensitivity = pContextSensitivity;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--call-site-depth"},
+      description =
+          "The number of most recent call sites that distinguish the contexts of --context "
+              + "call_site (default: ${DEFAULT-VALUE}).",
+      defaultValue = "1")
+  // @formatter:on
+  public void setCallSiteDepth(int pCallSiteDepth) {
+    callSiteDepth = pCallSiteDepth;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--context-limit"},
+      description =
+          "The maximum number of contexts per called method; further calls use a single merged "
+              + "context (default: ${DEFAULT-VALUE}).",
+      defaultValue = "32")
+  // @formatter:on
+  public void setContextLimit(int pContextLimit) {
+    contextLimit = pContextLimit;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--time-budget"},
+      description =
+          "The milliseconds the analysis of one method, including its callees, may take before "
+              + "its values become unknown.")
+  // @formatter:on
+  public void setTimeBudget(long pTimeBudget) {
+    timeBudget = Duration.ofMillis(pTimeBudget);
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--visit-budget"},
+      description =
+          "The instructions the analysis of one method, including its callees, may interpret "
+              + "before its values become unknown.")
+  // @formatter:on
+  public void setVisitBudget(long pVisitBudget) {
+    visitBudget = pVisitBudget;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--callee-budget"},
+      description =
+          "The called methods the analysis of one method may analyse; further calls return "
+              + "unknown values.")
+  // @formatter:on
+  public void setCalleeBudget(int pCalleeBudget) {
+    calleeBudget = pCalleeBudget;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--depth-budget"},
+      description = "The length of the call chains that are followed; deeper calls return unknown values.")
+  // @formatter:on
+  public void setDepthBudget(int pDepthBudget) {
+    depthBudget = pDepthBudget;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--class-path"},
+      description =
+          "The jar files and class directories to read the analysed classes and their callees "
+              + "from, separated by the platform's path separator. They are indexed once, "
+              + "and again by the daemon once they change, and take precedence over the classes "
+              + "of the tool itself.")
+  // @formatter:on
+  public void setClassPath(String pClassPath) {
+    classPath =
+        Arrays.stream(pClassPath.split(Pattern.quote(File.pathSeparator)))
+            .filter(entry -> !entry.isEmpty())
+            .map(Path::of)
+            .toList();
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--store"},
+      description =
+          "A file that keeps the results across runs. Methods whose code and transitive callees "
+              + "did not change are not analysed again.")
+  // @formatter:on
+  public void setStorePath(Path pStorePath) {
+    storePath = pStorePath;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--daemon"},
+      description =
+          "Serve analysis requests, one per line, from stdin or from --socket, keeping the "
+              + "parsed classes and summaries between requests.")
+  // @formatter:on
+  public void setDaemonMode(boolean pDaemonMode) {
+    daemonMode = pDaemonMode;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--socket"},
+      description = "The Unix domain socket on which --daemon accepts connections.")
+  // @formatter:on
+  public void setSocketPath(Path pSocketPath) {
+    socketPath = pSocketPath;
+  }
+
+  // @formatter:off
+  @Option(
+      names = {"--statistics"},
+      description = "Print the number of analysed methods, blocks, and loop iterations.")
+  // @formatter:on
+  public void setPrintStatistics(boolean pPrintStatistics) {
+    printStatistics = pPrintStatistics;
+  }
 }
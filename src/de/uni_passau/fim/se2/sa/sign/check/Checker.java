@@ -0,0 +1,28 @@
+package de.uni_passau.fim.se2.sa.sign.check;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+
+/**
+ * Checks one operand of an instruction for a violation, e.g., the divisor of a division.
+ *
+ * <p>Checkers are registered for opcodes in a {@link CheckerRegistry}. The checked operand is the
+ * join of its values in all frames that reach the instruction.
+ */
+public interface Checker {
+
+  /**
+   * Retrieve the position of the checked operand on the stack before the instruction executes.
+   *
+   * @return The number of stack values above the operand, {@code 0} for the top of the stack
+   */
+  int operandDepth();
+
+  /**
+   * Checks the value of the operand.
+   *
+   * @param pOperand The abstract value of the operand
+   * @return The finding, or {@code null} if the operand is fine
+   */
+  AnalysisResult check(SignValue pOperand);
+}
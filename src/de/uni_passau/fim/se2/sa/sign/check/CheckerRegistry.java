@@ -0,0 +1,212 @@
+package de.uni_passau.fim.se2.sa.sign.check;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Objects;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.util.Printer;
+
+/**
+ * The checkers of an analysis, indexed by opcode.
+ *
+ * <p>Finding the checkers of an instruction is a single array access, such that instructions
+ * without checks cost nothing beyond it. The {@link #defaults() default} registry checks the
+ * divisor of every int division and remainder and the index of every array load and store.
+ * Registries are immutable; use {@link #toBuilder()} to plug in further checks.
+ */
+public final class CheckerRegistry {
+
+  private static final int OPCODES = 256;
+  private static final CheckerRegistry DEFAULTS =
+      builder()
+          .register(StandardChecker.INT_DIVISOR, Opcodes.IDIV, Opcodes.IREM)
+          .register(
+              StandardChecker.ARRAY_LOAD_INDEX,
+              Opcodes.IALOAD,
+              Opcodes.LALOAD,
+              Opcodes.FALOAD,
+              Opcodes.DALOAD,
+              Opcodes.AALOAD,
+              Opcodes.BALOAD,
+              Opcodes.CALOAD,
+              Opcodes.SALOAD)
+          .register(
+              StandardChecker.ARRAY_STORE_INDEX,
+              Opcodes.IASTORE,
+              Opcodes.LASTORE,
+              Opcodes.FASTORE,
+              Opcodes.DASTORE,
+              Opcodes.AASTORE,
+              Opcodes.BASTORE,
+              Opcodes.CASTORE,
+              Opcodes.SASTORE)
+          .build();
+
+  private final Checker[][] checkers;
+
+  private CheckerRegistry(final Checker[][] pCheckers) {
+    checkers = pCheckers;
+  }
+
+  /**
+   * Retrieve the registry of the built-in checks.
+   *
+   * @return The default registry
+   */
+  public static CheckerRegistry defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Creates a builder for an empty registry.
+   *
+   * @return A new builder
+   */
+  public static Builder builder() {
+    return new Builder(new Checker[OPCODES][]);
+  }
+
+  /**
+   * Creates a builder that starts from the checkers of this registry.
+   *
+   * @return A new builder
+   */
+  public Builder toBuilder() {
+    return new Builder(checkers.clone());
+  }
+
+  /**
+   * Retrieve the checkers of an opcode.
+   *
+   * @param pOpcode The opcode of an instruction, {@code -1} for labels, line numbers, and frames
+   * @return The checkers in the order of their registration, or {@code null} if there are none;
+   *     the array must not be modified
+   */
+  public Checker[] checkersFor(final int pOpcode) {
+    return pOpcode < 0 ? null : checkers[pOpcode];
+  }
+
+  /**
+   * Retrieve whether an instruction is checked at all.
+   *
+   * @param pOpcode The opcode of the instruction
+   * @return {@code true} if a checker is registered for the opcode
+   */
+  public boolean isChecked(final int pOpcode) {
+    return checkersFor(pOpcode) != null;
+  }
+
+  /**
+   * Retrieve whether any instruction of a method is checked. A method without checked instructions
+   * cannot have findings, whatever the signs of its values.
+   *
+   * @param pInstructions The instructions of the method
+   * @return {@code true} if a checker is registered for the opcode of one of the instructions
+   */
+  public boolean isChecked(final InsnList pInstructions) {
+    for (AbstractInsnNode instruction : pInstructions) {
+      if (isChecked(instruction.getOpcode())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean equals(final Object pOther) {
+    return pOther instanceof CheckerRegistry other && Arrays.deepEquals(checkers, other.checkers);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.deepHashCode(checkers);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("CheckerRegistry{");
+    String separator = "";
+    for (int opcode = 0; opcode < OPCODES; opcode++) {
+      if (checkers[opcode] != null) {
+        result.append(separator).append(Printer.OPCODES[opcode]).append('=');
+        result.append(Arrays.toString(checkers[opcode]));
+        separator = ", ";
+      }
+    }
+    return result.append('}').toString();
+  }
+
+  /**
+   * Describes the checkers of every checked opcode in a form that is stable across runs, unlike
+   * {@link #toString()}, which depends on how the checkers print themselves. A checker is
+   * identified by its class and an enum constant by its name as well.
+   *
+   * @return The description
+   */
+  public String identity() {
+    StringBuilder result = new StringBuilder();
+    for (int opcode = 0; opcode < OPCODES; opcode++) {
+      if (checkers[opcode] != null) {
+        result.append(Printer.OPCODES[opcode]).append('=');
+        for (Checker checker : checkers[opcode]) {
+          result.append(identityOf(checker)).append(';');
+        }
+      }
+    }
+    return result.toString();
+  }
+
+  private static String identityOf(final Checker pChecker) {
+    if (pChecker instanceof Enum<?> constant) {
+      return constant.getDeclaringClass().getName() + "." + constant.name();
+    }
+    // The names of hidden classes end in an address that changes from run to run.
+    String name = pChecker.getClass().getName();
+    int address = name.indexOf('/');
+    return address < 0 ? name : name.substring(0, address);
+  }
+
+  /** A builder for {@link CheckerRegistry}. */
+  public static final class Builder {
+
+    private final Checker[][] checkers;
+
+    private Builder(final Checker[][] pCheckers) {
+      checkers = pCheckers;
+    }
+
+    /**
+     * Adds a checker for several opcodes, after the checkers already registered for them.
+     *
+     * @param pChecker The checker
+     * @param pOpcodes The opcodes of the checked instructions
+     * @return This builder
+     */
+    public Builder register(final Checker pChecker, final int... pOpcodes) {
+      Objects.requireNonNull(pChecker);
+      for (int opcode : pOpcodes) {
+        Preconditions.checkArgument(opcode >= 0 && opcode < OPCODES, "Invalid opcode %s", opcode);
+        Checker[] registered = checkers[opcode];
+        if (registered == null) {
+          checkers[opcode] = new Checker[] {pChecker};
+        } else {
+          Checker[] extended = Arrays.copyOf(registered, registered.length + 1);
+          extended[registered.length] = pChecker;
+          checkers[opcode] = extended;
+        }
+      }
+      return this;
+    }
+
+    /**
+     * Creates the registry.
+     *
+     * @return The registry
+     */
+    public CheckerRegistry build() {
+      return new CheckerRegistry(checkers.clone());
+    }
+  }
+}
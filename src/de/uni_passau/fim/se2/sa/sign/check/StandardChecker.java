@@ -0,0 +1,54 @@
+package de.uni_passau.fim.se2.sa.sign.check;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+
+/** The checks of the sign analysis. */
+public enum StandardChecker implements Checker {
+
+  /** The int divisor of {@code IDIV} and {@code IREM} must not be zero. */
+  INT_DIVISOR(0) {
+    @Override
+    public AnalysisResult check(final SignValue pOperand) {
+      if (SignValue.isZero(pOperand)) {
+        return AnalysisResult.DIVISION_BY_ZERO;
+      }
+      return SignValue.isMaybeZero(pOperand) ? AnalysisResult.MAYBE_DIVISION_BY_ZERO : null;
+    }
+  },
+
+  /** The index of an array load, on top of the stack, must not be negative. */
+  ARRAY_LOAD_INDEX(0) {
+    @Override
+    public AnalysisResult check(final SignValue pOperand) {
+      return checkIndex(pOperand);
+    }
+  },
+
+  /** The index of an array store, below the stored value, must not be negative. */
+  ARRAY_STORE_INDEX(1) {
+    @Override
+    public AnalysisResult check(final SignValue pOperand) {
+      return checkIndex(pOperand);
+    }
+  };
+
+  private final int operandDepth;
+
+  StandardChecker(final int pOperandDepth) {
+    operandDepth = pOperandDepth;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int operandDepth() {
+    return operandDepth;
+  }
+
+  private static AnalysisResult checkIndex(final SignValue pOperand) {
+    if (SignValue.isNegative(pOperand)) {
+      return AnalysisResult.NEGATIVE_ARRAY_INDEX;
+    }
+    return SignValue.isMaybeNegative(pOperand) ? AnalysisResult.MAYBE_NEGATIVE_ARRAY_INDEX : null;
+  }
+}
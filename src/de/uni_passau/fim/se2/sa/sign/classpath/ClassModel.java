@@ -0,0 +1,62 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * A parsed class together with an index of its methods.
+ *
+ * <p>The methods are indexed by their key in the {@code <name>:<descriptor>} format, e.g., {@code
+ * foo:(I)I}. A model is not modified after it has been parsed and may thus be analysed by several
+ * threads at the same time.
+ *
+ * @param classNode The parsed class
+ * @param methods The methods of the class by their key, in declaration order
+ */
+public record ClassModel(ClassNode classNode, Map<String, MethodNode> methods) {
+
+  /**
+   * Parses the bytes of a class file.
+   *
+   * @param pClassBytes The content of the class file
+   * @return The model of the class
+   */
+  public static ClassModel parse(final byte[] pClassBytes) {
+    final ClassNode classNode = new ClassNode();
+    new ClassReader(pClassBytes).accept(classNode, 0);
+
+    final Map<String, MethodNode> methods = new LinkedHashMap<>();
+    for (final MethodNode method : classNode.methods) {
+      methods.put(method.name + ":" + method.desc, method);
+      // InsnList builds its index cache lazily on the first lookup; build it here, while the model
+      // is still confined to one thread, such that later lookups only read it.
+      if (method.instructions.size() > 0) {
+        method.instructions.get(0);
+      }
+    }
+    return new ClassModel(classNode, Collections.unmodifiableMap(methods));
+  }
+
+  /**
+   * Retrieve the internal name of the class, e.g., {@code org/example/Foo}.
+   *
+   * @return The internal name of the class
+   */
+  public String name() {
+    return classNode.name;
+  }
+
+  /**
+   * Looks up a method by its key.
+   *
+   * @param pMethodKey The key in the {@code <name>:<descriptor>} format
+   * @return The method, or {@code null} if the class does not declare it
+   */
+  public MethodNode method(final String pMethodKey) {
+    return methods.get(pMethodKey);
+  }
+}
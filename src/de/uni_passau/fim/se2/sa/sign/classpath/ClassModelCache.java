@@ -0,0 +1,139 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * A bounded cache of parsed classes.
+ *
+ * <p>Models are keyed by the class name together with a hash of the class file content, such that
+ * a class that changed on disk is parsed again. The cache holds at most a configurable number of
+ * bytes, which is estimated from the number of methods and instructions of every model; the least
+ * recently used models are evicted once the budget is exceeded.
+ */
+public class ClassModelCache {
+
+  /** The default budget of 64 MiB. */
+  public static final long DEFAULT_BYTE_BUDGET = 64L << 20;
+
+  // Rough sizes of the tree API objects, measured on a 64-bit JVM with compressed oops.
+  private static final long CLASS_OVERHEAD = 1024;
+  private static final long METHOD_OVERHEAD = 512;
+  private static final long INSTRUCTION_SIZE = 64;
+
+  private final long byteBudget;
+  private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long usedBytes = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  public ClassModelCache() {
+    this(DEFAULT_BYTE_BUDGET);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param pByteBudget The maximum estimated size of all cached models in bytes
+   */
+  public ClassModelCache(final long pByteBudget) {
+    Preconditions.checkArgument(pByteBudget >= 0, "Byte budget must not be negative");
+    byteBudget = pByteBudget;
+  }
+
+  /**
+   * Retrieve the model of a class, parsing the class file only if it is not cached.
+   *
+   * @param pClassName The name of the class
+   * @param pClassBytes The content of the class file
+   * @return The model of the class
+   */
+  public ClassModel get(final String pClassName, final byte[] pClassBytes) {
+    final Key key = new Key(pClassName, Hashing.murmur3_128().hashBytes(pClassBytes));
+    synchronized (this) {
+      final Entry entry = entries.get(key);
+      if (entry != null) {
+        hits++;
+        return entry.model();
+      }
+      misses++;
+    }
+
+    // Parse outside the lock, such that several threads can parse different classes at once.
+    final ClassModel model = ClassModel.parse(pClassBytes);
+    final long size = estimateSize(model);
+    synchronized (this) {
+      final Entry existing = entries.get(key);
+      if (existing != null) {
+        return existing.model();
+      }
+      if (size <= byteBudget) {
+        entries.put(key, new Entry(model, size));
+        usedBytes += size;
+        evict();
+      }
+    }
+    return model;
+  }
+
+  /**
+   * Estimates the heap size of a model from its number of methods and instructions.
+   *
+   * @param pModel The model
+   * @return The estimated size in bytes
+   */
+  public static long estimateSize(final ClassModel pModel) {
+    long size = CLASS_OVERHEAD;
+    for (final MethodNode method : pModel.methods().values()) {
+      size += METHOD_OVERHEAD + INSTRUCTION_SIZE * method.instructions.size();
+    }
+    return size;
+  }
+
+  /**
+   * Retrieve a snapshot of the cache's counters.
+   *
+   * @return The statistics of the cache
+   */
+  public synchronized Statistics statistics() {
+    return new Statistics(hits, misses, evictions, entries.size(), usedBytes, byteBudget);
+  }
+
+  /** Removes all models; the counters are kept. */
+  public synchronized void clear() {
+    entries.clear();
+    usedBytes = 0;
+  }
+
+  private void evict() {
+    final Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+    while (usedBytes > byteBudget && leastRecentlyUsed.hasNext()) {
+      usedBytes -= leastRecentlyUsed.next().size();
+      leastRecentlyUsed.remove();
+      evictions++;
+    }
+  }
+
+  /**
+   * The counters of a {@link ClassModelCache}.
+   *
+   * @param hits The number of lookups that were served from the cache
+   * @param misses The number of lookups that required parsing the class file
+   * @param evictions The number of models that were evicted to stay within the budget
+   * @param models The number of currently cached models
+   * @param usedBytes The estimated size of the currently cached models
+   * @param byteBudget The maximum estimated size of the cached models
+   */
+  public record Statistics(
+      long hits, long misses, long evictions, int models, long usedBytes, long byteBudget) {}
+
+  private record Key(String className, HashCode contentHash) {}
+
+  private record Entry(ClassModel model, long size) {}
+}
@@ -0,0 +1,82 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A source of class files, e.g., the classpath, a jar file, a class directory, or classes held in
+ * memory.
+ */
+@FunctionalInterface
+public interface ClassProvider {
+
+  /**
+   * Reads the class file of a class.
+   *
+   * @param pInternalName The internal name of the class, e.g., {@code org/example/Foo}
+   * @return The content of the class file, or {@code null} if the class is not provided
+   * @throws IOException In case of an I/O error
+   */
+  byte[] read(String pInternalName) throws IOException;
+
+  /**
+   * Creates a provider that reads classes as resources of a class loader.
+   *
+   * @param pClassLoader The class loader
+   * @return The provider
+   */
+  static ClassProvider classLoader(final ClassLoader pClassLoader) {
+    return internalName -> {
+      try (InputStream in = pClassLoader.getResourceAsStream(internalName + ".class")) {
+        return in == null ? null : in.readAllBytes();
+      }
+    };
+  }
+
+  /**
+   * Creates a provider that reads classes from a directory whose layout follows the packages.
+   *
+   * @param pRoot The root directory
+   * @return The provider
+   */
+  static ClassProvider directory(final Path pRoot) {
+    return internalName -> {
+      Path classFile = pRoot.resolve(internalName + ".class");
+      return Files.isRegularFile(classFile) ? Files.readAllBytes(classFile) : null;
+    };
+  }
+
+  /**
+   * Creates a provider for classes held in memory.
+   *
+   * @param pClasses The class files by the internal names of their classes
+   * @return The provider
+   */
+  static ClassProvider inMemory(final Map<String, byte[]> pClasses) {
+    Map<String, byte[]> classes = Map.copyOf(pClasses);
+    return classes::get;
+  }
+
+  /**
+   * Creates a provider that asks the given providers in order and returns the first class file.
+   *
+   * @param pProviders The providers
+   * @return The provider
+   */
+  static ClassProvider firstOf(final ClassProvider... pProviders) {
+    List<ClassProvider> providers = List.of(pProviders);
+    return internalName -> {
+      for (ClassProvider provider : providers) {
+        byte[] bytes = provider.read(internalName);
+        if (bytes != null) {
+          return bytes;
+        }
+      }
+      return null;
+    };
+  }
+}
@@ -0,0 +1,102 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * An owner-aware index of the methods reachable from a {@link ClassProvider}.
+ *
+ * <p>Classes are read and parsed lazily, the first time a method of them is resolved, and the
+ * parsed models come from a shared {@link ClassModelCache}. Every class is read at most once per
+ * resolver, so a resolver should live as long as the classes can be assumed not to change, e.g.,
+ * for one analysis run. Classes of the Java platform are never resolved, as following calls into
+ * the JDK would analyse large parts of it without improving the results.
+ */
+public class ClassResolver {
+
+  private final ClassProvider provider;
+  private final ClassModelCache cache;
+  private final ConcurrentMap<String, Optional<ClassModel>> classes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a resolver.
+   *
+   * @param pProvider The source of the class files
+   * @param pCache The cache of parsed classes
+   */
+  public ClassResolver(final ClassProvider pProvider, final ClassModelCache pCache) {
+    provider = pProvider;
+    cache = pCache;
+  }
+
+  /**
+   * A method together with the class that declares it.
+   *
+   * @param owner The declaring class
+   * @param method The method
+   */
+  public record ResolvedMethod(ClassModel owner, MethodNode method) {}
+
+  /**
+   * Retrieve the model of a class.
+   *
+   * @param pInternalName The internal name of the class
+   * @return The model of the class, or {@code null} if the class is not provided or belongs to
+   *     the Java platform
+   * @throws UncheckedIOException In case of an I/O error while reading the class
+   */
+  public ClassModel findClass(final String pInternalName) {
+    if (isPlatformClass(pInternalName)) {
+      return null;
+    }
+    return classes.computeIfAbsent(pInternalName, this::load).orElse(null);
+  }
+
+  /**
+   * Resolves a method like the JVM resolves a method reference: the method is looked up in the
+   * given class and then in its superclasses. Only methods with code are returned.
+   *
+   * @param pOwner The internal name of the class the method is referenced through
+   * @param pName The name of the method
+   * @param pDescriptor The descriptor of the method
+   * @return The resolved method, or {@code null} if it cannot be resolved or has no code
+   */
+  public ResolvedMethod resolve(final String pOwner, final String pName, final String pDescriptor) {
+    String key = pName + ":" + pDescriptor;
+    String current = pOwner;
+    while (current != null) {
+      ClassModel model = findClass(current);
+      if (model == null) {
+        return null;
+      }
+      MethodNode method = model.method(key);
+      if (method != null) {
+        return method.instructions.size() > 0 ? new ResolvedMethod(model, method) : null;
+      }
+      current = model.classNode().superName;
+    }
+    return null;
+  }
+
+  private Optional<ClassModel> load(final String pInternalName) {
+    try {
+      byte[] bytes = provider.read(pInternalName);
+      return Optional.ofNullable(bytes == null ? null : cache.get(pInternalName + ".class", bytes));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static boolean isPlatformClass(final String pInternalName) {
+    return pInternalName.startsWith("java/")
+        || pInternalName.startsWith("javax/")
+        || pInternalName.startsWith("jdk/")
+        || pInternalName.startsWith("sun/")
+        || pInternalName.startsWith("com/sun/")
+        || pInternalName.startsWith("[");
+  }
+}
@@ -0,0 +1,422 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A {@link ClassProvider} over a classpath of jar files and class directories, indexed once by the
+ * internal names of the classes.
+ *
+ * <p>Opening the index maps every jar file into memory and reads its central directory, such that
+ * the index holds the position of every class file in the jar file; class directories are listed.
+ * Reading a class is then a hash lookup followed by a single positional read, and inflation, of
+ * the class file into the array that {@link org.objectweb.asm.ClassReader} parses. The class
+ * files are read from the open jar file rather than from the mapping, since the pages of a
+ * mapping vanish once the jar file is rewritten in place, which faults the reading thread. As on
+ * a classpath, a class of an earlier entry shadows the classes of later entries.
+ *
+ * <p>The index reflects the files at the time it was opened. {@link #refresh()} indexes the
+ * classpath again once a jar file or a class directory has changed since, as told by their sizes
+ * and modification times; until then, reading a class of a rewritten jar file fails with an
+ * {@link IOException}. Jar files that cannot be mapped as a whole, e.g., since they are larger
+ * than 2 GiB or use ZIP64 extensions, are read through a {@link JarClassProvider} instead. All
+ * jar files stay open until the index is closed or refreshed.
+ */
+public final class ClasspathIndex implements ClassProvider, Closeable {
+
+  private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+  private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+  private static final int LOCAL_FILE_HEADER = 0x04034b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+  private static final int MAX_COMMENT_SIZE = 0xffff;
+  private static final int STORED = 0;
+  private static final int DEFLATED = 8;
+  private static final String CLASS_SUFFIX = ".class";
+
+  private final List<Path> classpath;
+  private volatile Snapshot snapshot;
+
+  private ClasspathIndex(final List<Path> pClasspath, final Snapshot pSnapshot) {
+    classpath = pClasspath;
+    snapshot = pSnapshot;
+  }
+
+  /**
+   * Opens and indexes a classpath.
+   *
+   * @param pClasspath The jar files and class directories, in the order of their precedence
+   * @return The index
+   * @throws IOException In case an entry of the classpath cannot be read
+   */
+  public static ClasspathIndex open(final Collection<Path> pClasspath) throws IOException {
+    List<Path> classpath = List.copyOf(pClasspath);
+    return new ClasspathIndex(classpath, index(classpath));
+  }
+
+  /**
+   * Retrieve the internal names of all indexed classes.
+   *
+   * @return An unmodifiable view on the names
+   */
+  public Set<String> classNames() {
+    return Collections.unmodifiableSet(snapshot.entries().keySet());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] read(final String pInternalName) throws IOException {
+    Entry entry = snapshot.entries().get(pInternalName);
+    return entry == null ? null : entry.read(pInternalName);
+  }
+
+  /**
+   * Indexes the classpath again if a jar file or a class directory changed since it was indexed,
+   * e.g., since a jar file was rebuilt or a class file was added to a directory.
+   *
+   * <p>Reads that run concurrently with a refresh may still see the previous index, whose jar
+   * files are closed by the refresh; callers have to make sure that no class is read meanwhile.
+   *
+   * @return {@code true} if the classpath has been indexed again
+   * @throws IOException In case an entry of the classpath cannot be read, in which case the
+   *     previous index is kept
+   */
+  public synchronized boolean refresh() throws IOException {
+    Snapshot previous = snapshot;
+    if (!previous.isStale()) {
+      return false;
+    }
+    snapshot = index(classpath);
+    previous.close();
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void close() throws IOException {
+    snapshot.close();
+  }
+
+  private static Snapshot index(final List<Path> pClasspath) throws IOException {
+    Map<String, Entry> entries = new HashMap<>();
+    List<Closeable> jars = new ArrayList<>();
+    Map<Path, Stamp> stamps = new HashMap<>();
+    try {
+      for (Path path : pClasspath) {
+        if (Files.isDirectory(path)) {
+          indexDirectory(path, entries, stamps);
+          continue;
+        }
+        // The stamp is taken first, such that a change while indexing shows on the next refresh.
+        stamps.put(path, Stamp.of(path));
+        if (!indexJar(path, entries, jars)) {
+          JarClassProvider fallback = new JarClassProvider(path);
+          jars.add(fallback);
+          indexFallback(path, fallback, entries);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      closeAll(jars);
+      throw e;
+    }
+    return new Snapshot(entries, List.copyOf(jars), stamps);
+  }
+
+  private static void indexDirectory(
+      final Path pRoot, final Map<String, Entry> pEntries, final Map<Path, Stamp> pStamps)
+      throws IOException {
+    try (Stream<Path> paths = Files.walk(pRoot)) {
+      for (Path file : (Iterable<Path>) paths::iterator) {
+        // Adding, removing, or renaming a file changes the modification time of its directory.
+        if (Files.isDirectory(file)) {
+          pStamps.put(file, Stamp.of(file));
+          continue;
+        }
+        String name =
+            pRoot.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+        if (name.endsWith(CLASS_SUFFIX) && Files.isRegularFile(file)) {
+          pEntries.putIfAbsent(internalName(name), new FileEntry(file));
+        }
+      }
+    }
+  }
+
+  /**
+   * Maps a jar file and indexes the class files listed in its central directory. The jar file
+   * stays open for reading the class files.
+   *
+   * @param pJars Receives the jar file once it has been indexed
+   * @return {@code false} if the jar file cannot be mapped as a whole or uses ZIP64 extensions
+   * @throws IOException In case the jar file cannot be read or is truncated or corrupt
+   */
+  private static boolean indexJar(
+      final Path pJar, final Map<String, Entry> pEntries, final List<Closeable> pJars)
+      throws IOException {
+    FileChannel channel = FileChannel.open(pJar, StandardOpenOption.READ);
+    boolean indexed = false;
+    try {
+      if (channel.size() > Integer.MAX_VALUE) {
+        return false;
+      }
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      indexed =
+          indexCentralDirectory(pJar, mapped.order(ByteOrder.LITTLE_ENDIAN), channel, pEntries);
+      return indexed;
+    } catch (IndexOutOfBoundsException e) {
+      // A record points beyond the end of the file.
+      throw new IOException("Truncated or corrupt jar file " + pJar, e);
+    } catch (InternalError e) {
+      // The jar file has been truncated while it is indexed, so a mapped page is gone.
+      throw new IOException("Jar file " + pJar + " changed while it was indexed", e);
+    } finally {
+      if (indexed) {
+        pJars.add(channel);
+      } else {
+        channel.close();
+      }
+    }
+  }
+
+  private static boolean indexCentralDirectory(
+      final Path pJar,
+      final ByteBuffer pBuffer,
+      final FileChannel pChannel,
+      final Map<String, Entry> pEntries)
+      throws IOException {
+    int end = findEndOfCentralDirectory(pBuffer);
+    if (end < 0) {
+      throw new IOException("Not a jar file: " + pJar);
+    }
+    int count = Short.toUnsignedInt(pBuffer.getShort(end + 10));
+    long size = Integer.toUnsignedLong(pBuffer.getInt(end + 12));
+    long offset = Integer.toUnsignedLong(pBuffer.getInt(end + 16));
+    if (count == 0xffff || size == 0xffffffffL || offset == 0xffffffffL) {
+      return false;
+    }
+
+    Map<String, Entry> jarEntries = new HashMap<>();
+    int position = (int) offset;
+    for (int i = 0; i < count; i++) {
+      if (pBuffer.getInt(position) != CENTRAL_DIRECTORY_HEADER) {
+        throw new IOException("Corrupt central directory in " + pJar);
+      }
+      int method = Short.toUnsignedInt(pBuffer.getShort(position + 10));
+      long compressedSize = Integer.toUnsignedLong(pBuffer.getInt(position + 20));
+      long uncompressedSize = Integer.toUnsignedLong(pBuffer.getInt(position + 24));
+      int nameLength = Short.toUnsignedInt(pBuffer.getShort(position + 28));
+      int extraLength = Short.toUnsignedInt(pBuffer.getShort(position + 30));
+      int commentLength = Short.toUnsignedInt(pBuffer.getShort(position + 32));
+      long localHeader = Integer.toUnsignedLong(pBuffer.getInt(position + 42));
+
+      byte[] nameBytes = new byte[nameLength];
+      pBuffer.get(position + 46, nameBytes);
+      String name = new String(nameBytes, StandardCharsets.UTF_8);
+      if (name.endsWith(CLASS_SUFFIX) && !name.startsWith("META-INF/")) {
+        if (compressedSize == 0xffffffffL
+            || uncompressedSize == 0xffffffffL
+            || localHeader == 0xffffffffL) {
+          return false;
+        }
+        jarEntries.putIfAbsent(
+            internalName(name),
+            new JarEntry(
+                pChannel, localHeader, method, (int) compressedSize, (int) uncompressedSize));
+      }
+      position += 46 + nameLength + extraLength + commentLength;
+    }
+    jarEntries.forEach(pEntries::putIfAbsent);
+    return true;
+  }
+
+  private static void indexFallback(
+      final Path pJar, final JarClassProvider pJarProvider, final Map<String, Entry> pEntries)
+      throws IOException {
+    try (ZipFile jar = new ZipFile(pJar.toFile())) {
+      jar.stream()
+          .map(ZipEntry::getName)
+          .filter(name -> name.endsWith(CLASS_SUFFIX) && !name.startsWith("META-INF/"))
+          .forEach(name -> pEntries.putIfAbsent(internalName(name), pJarProvider::read));
+    }
+  }
+
+  /** Searches the end of central directory record backwards, past a comment of any length. */
+  private static int findEndOfCentralDirectory(final ByteBuffer pBuffer) {
+    int last = pBuffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+    int first = Math.max(0, last - MAX_COMMENT_SIZE);
+    for (int position = last; position >= first; position--) {
+      if (pBuffer.getInt(position) == END_OF_CENTRAL_DIRECTORY) {
+        return position;
+      }
+    }
+    return -1;
+  }
+
+  private static String internalName(final String pFileName) {
+    return pFileName.substring(0, pFileName.length() - CLASS_SUFFIX.length());
+  }
+
+  private static void closeAll(final List<Closeable> pJars) throws IOException {
+    IOException failure = null;
+    for (Closeable jar : pJars) {
+      try {
+        jar.close();
+      } catch (IOException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /** The indexed classes of the classpath at one point in time, with the jar files they read. */
+  private record Snapshot(
+      Map<String, Entry> entries, List<Closeable> jars, Map<Path, Stamp> stamps) {
+
+    /** Whether a jar file or a class directory has changed since the snapshot was taken. */
+    boolean isStale() {
+      for (Map.Entry<Path, Stamp> stamp : stamps.entrySet()) {
+        try {
+          if (!stamp.getValue().equals(Stamp.of(stamp.getKey()))) {
+            return true;
+          }
+        } catch (IOException e) {
+          // The file has been removed, or cannot be read anymore.
+          return true;
+        }
+      }
+      return false;
+    }
+
+    void close() throws IOException {
+      closeAll(jars);
+    }
+  }
+
+  /** The size and modification time of a jar file or a class directory. */
+  private record Stamp(long size, FileTime modified) {
+
+    static Stamp of(final Path pPath) throws IOException {
+      BasicFileAttributes attributes = Files.readAttributes(pPath, BasicFileAttributes.class);
+      return new Stamp(attributes.size(), attributes.lastModifiedTime());
+    }
+  }
+
+  /** The location of an indexed class file. */
+  @FunctionalInterface
+  private interface Entry {
+
+    byte[] read(String pInternalName) throws IOException;
+  }
+
+  /** A class file in a class directory, which is mapped when it is read. */
+  private record FileEntry(Path file) implements Entry {
+
+    @Override
+    public byte[] read(final String pInternalName) throws IOException {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        byte[] bytes = new byte[mapped.remaining()];
+        mapped.get(0, bytes);
+        return bytes;
+      } catch (InternalError e) {
+        // The class file has been truncated while it is copied, so a mapped page is gone.
+        throw new IOException("Class file " + file + " changed while it was read", e);
+      }
+    }
+  }
+
+  /**
+   * A class file in an open jar file. The jar file is only read at absolute positions, so entries
+   * of the same jar file may be read concurrently.
+   */
+  private record JarEntry(
+      FileChannel channel, long localHeader, int method, int compressedSize, int uncompressedSize)
+      implements Entry {
+
+    @Override
+    public byte[] read(final String pInternalName) throws IOException {
+      ByteBuffer header = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(header, localHeader, pInternalName);
+      if (header.getInt(0) != LOCAL_FILE_HEADER) {
+        throw new IOException("Corrupt local header of " + pInternalName);
+      }
+      // The extra field of the local header may differ from the one in the central directory.
+      int nameLength = Short.toUnsignedInt(header.getShort(26));
+      int extraLength = Short.toUnsignedInt(header.getShort(28));
+      long data = localHeader + 30 + nameLength + extraLength;
+      byte[] bytes = new byte[uncompressedSize];
+      switch (method) {
+        case STORED -> readFully(ByteBuffer.wrap(bytes), data, pInternalName);
+        case DEFLATED -> {
+          ByteBuffer compressed = ByteBuffer.allocate(compressedSize);
+          readFully(compressed, data, pInternalName);
+          inflate(compressed.flip(), bytes, pInternalName);
+        }
+        default ->
+            throw new IOException(
+                "Unsupported compression method " + method + " of " + pInternalName);
+      }
+      return bytes;
+    }
+
+    private void readFully(
+        final ByteBuffer pTarget, final long pPosition, final String pInternalName)
+        throws IOException {
+      while (pTarget.hasRemaining()) {
+        if (channel.read(pTarget, pPosition + pTarget.position()) < 0) {
+          throw new IOException("Truncated class file " + pInternalName);
+        }
+      }
+    }
+
+    private static void inflate(
+        final ByteBuffer pCompressed, final byte[] pTarget, final String pInternalName)
+        throws IOException {
+      Inflater inflater = new Inflater(true);
+      try {
+        inflater.setInput(pCompressed);
+        int inflated = 0;
+        while (inflated < pTarget.length && !inflater.finished()) {
+          int count = inflater.inflate(pTarget, inflated, pTarget.length - inflated);
+          if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+            break;
+          }
+          inflated += count;
+        }
+        if (inflated != pTarget.length) {
+          throw new IOException("Truncated class file " + pInternalName);
+        }
+      } catch (DataFormatException e) {
+        throw new IOException("Corrupt class file " + pInternalName, e);
+      } finally {
+        inflater.end();
+      }
+    }
+  }
+}
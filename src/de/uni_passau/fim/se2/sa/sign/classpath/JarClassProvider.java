@@ -0,0 +1,42 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/** A {@link ClassProvider} that reads classes from a jar file, which stays open until closed. */
+public class JarClassProvider implements ClassProvider, Closeable {
+
+  private final ZipFile jar;
+
+  /**
+   * Opens a jar file.
+   *
+   * @param pJar The path of the jar file
+   * @throws IOException In case the jar file cannot be opened
+   */
+  public JarClassProvider(final Path pJar) throws IOException {
+    jar = new ZipFile(pJar.toFile());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] read(final String pInternalName) throws IOException {
+    ZipEntry entry = jar.getEntry(pInternalName + ".class");
+    if (entry == null) {
+      return null;
+    }
+    try (InputStream in = jar.getInputStream(entry)) {
+      return in.readAllBytes();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() throws IOException {
+    jar.close();
+  }
+}
@@ -0,0 +1,334 @@
+package de.uni_passau.fim.se2.sa.sign.daemon;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
+import de.uni_passau.fim.se2.sa.sign.AnalysisRequest;
+import de.uni_passau.fim.se2.sa.sign.SignAnalysisImpl;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModelCache;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassProvider;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClasspathIndex;
+import de.uni_passau.fim.se2.sa.sign.store.ResultStore;
+import de.uni_passau.fim.se2.sa.sign.summary.SummaryCache;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Serves analysis requests in a long-running process, such that the JVM, the parsed classes, and
+ * the callee summaries stay warm between requests.
+ *
+ * <p>The protocol is line-delimited. A request is one line with the same options as the command
+ * line, {@code -c <class> -m <method>}, {@code -s <path> [-m <pattern>]}, or {@code -t <file>},
+ * separated by whitespace. The response consists of the lines the command line would print,
+ * followed by a line {@value #OK}, or of a single line that starts with {@value #ERROR}. The
+ * request {@value #STATS} prints the counters of the caches, and {@value #SHUTDOWN} stops the
+ * daemon.
+ *
+ * <p>Callee summaries are kept across requests as long as the classes they were computed from do
+ * not change: before every request, the daemon reads the class files it has read before again and
+ * drops all summaries if one of them changed. A {@link ClasspathIndex} is refreshed beforehand, so
+ * rebuilt jar files and class files added to a class directory are seen by the next request.
+ * Parsed classes are keyed by their content anyway.
+ * Scans run exclusively and do not keep their summaries, since they read their classes from the
+ * scanned artifact.
+ */
+public class AnalysisDaemon {
+
+  public static final String OK = "OK";
+  public static final String ERROR = "ERROR";
+  public static final String STATS = "stats";
+  public static final String SHUTDOWN = "shutdown";
+
+  private final ClassProvider classProvider;
+  private final ClasspathIndex index;
+  private final SummaryCache summaryCache = new SummaryCache();
+  private final ClassModelCache classModelCache = new ClassModelCache();
+  private final SignAnalysisImpl analysis;
+  private final Map<String, Optional<HashCode>> classVersions = new ConcurrentHashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+  private volatile boolean shutdown = false;
+  private volatile ServerSocketChannel server;
+
+  /**
+   * Creates a daemon.
+   *
+   * @param pOptions The settings of all analyses of the daemon
+   * @param pClassProvider The source of the analysed classes
+   * @param pResultStore The store of the results of earlier runs, or {@code null}
+   */
+  public AnalysisDaemon(
+      final AnalysisOptions pOptions,
+      final ClassProvider pClassProvider,
+      final ResultStore pResultStore) {
+    this(pOptions, pClassProvider, null, pResultStore);
+  }
+
+  /**
+   * Creates a daemon whose classes are read through an index of the classpath.
+   *
+   * @param pOptions The settings of all analyses of the daemon
+   * @param pClassProvider The source of the analysed classes
+   * @param pIndex The index the class provider reads from, refreshed before every request, or
+   *     {@code null}
+   * @param pResultStore The store of the results of earlier runs, or {@code null}
+   */
+  public AnalysisDaemon(
+      final AnalysisOptions pOptions,
+      final ClassProvider pClassProvider,
+      final ClasspathIndex pIndex,
+      final ResultStore pResultStore) {
+    classProvider = pClassProvider;
+    index = pIndex;
+    analysis =
+        new SignAnalysisImpl(
+            pOptions, summaryCache, classModelCache, this::readClass, pResultStore);
+  }
+
+  /**
+   * Retrieve the analysis that serves the requests.
+   *
+   * @return The analysis of the daemon
+   */
+  public SignAnalysisImpl getAnalysis() {
+    return analysis;
+  }
+
+  /**
+   * Serves the requests of a single client until the input ends or the daemon is shut down.
+   *
+   * @param pIn The requests
+   * @param pOut Receives the responses
+   * @throws IOException In case of an I/O error while reading the requests
+   */
+  public void serve(final BufferedReader pIn, final PrintStream pOut) throws IOException {
+    String line;
+    while (!shutdown && (line = pIn.readLine()) != null) {
+      if (!line.isBlank()) {
+        handle(line.strip(), pOut);
+        pOut.flush();
+      }
+    }
+  }
+
+  /**
+   * Serves the clients that connect to a Unix domain socket until a client shuts the daemon down.
+   * Every connection is served on its own virtual thread.
+   *
+   * @param pSocket The path of the socket, which is replaced if it exists
+   * @throws IOException In case of an I/O error while accepting connections
+   */
+  public void serve(final Path pSocket) throws IOException {
+    Files.deleteIfExists(pSocket);
+    try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      channel.bind(UnixDomainSocketAddress.of(pSocket));
+      server = channel;
+      while (!shutdown) {
+        SocketChannel connection;
+        try {
+          connection = channel.accept();
+        } catch (ClosedChannelException e) {
+          break;
+        }
+        connections.add(connection);
+        executor.submit(
+            () -> {
+              try (connection) {
+                serve(
+                    new BufferedReader(
+                        new InputStreamReader(
+                            Channels.newInputStream(connection), StandardCharsets.UTF_8)),
+                    new PrintStream(
+                        Channels.newOutputStream(connection), false, StandardCharsets.UTF_8));
+              } finally {
+                connections.remove(connection);
+              }
+              return null;
+            });
+      }
+    } finally {
+      Files.deleteIfExists(pSocket);
+    }
+  }
+
+  /**
+   * Stops serving: the current requests are completed, idle connections are closed.
+   *
+   * @throws IOException In case of an I/O error while closing the socket
+   */
+  public void shutdown() throws IOException {
+    shutdown = true;
+    ServerSocketChannel channel = server;
+    if (channel != null) {
+      channel.close();
+    }
+    for (SocketChannel connection : connections) {
+      try {
+        connection.shutdownInput();
+      } catch (ClosedChannelException e) {
+        // The client disconnected in the meantime.
+      }
+    }
+  }
+
+  private void handle(final String pRequest, final PrintStream pOut) throws IOException {
+    if (pRequest.equals(SHUTDOWN)) {
+      pOut.println(OK);
+      shutdown();
+      return;
+    }
+    if (pRequest.equals(STATS)) {
+      printStatistics(pOut);
+      pOut.println(OK);
+      return;
+    }
+
+    List<String> lines;
+    try {
+      AnalysisRequest request = parse(pRequest);
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      PrintStream output = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+      if (request.scanPath() == null) {
+        invalidateChangedClasses();
+        lock.readLock().lock();
+        try {
+          request.execute(analysis, output, output);
+        } finally {
+          lock.readLock().unlock();
+        }
+      } else {
+        // The scanned classes are not read through the class provider, so their summaries must
+        // neither be seen by nor outlive the scan.
+        lock.writeLock().lock();
+        try {
+          summaryCache.clear();
+          request.execute(analysis, output, output);
+        } finally {
+          summaryCache.clear();
+          classVersions.clear();
+          lock.writeLock().unlock();
+        }
+      }
+      output.flush();
+      lines = buffer.toString(StandardCharsets.UTF_8).lines().toList();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pOut.println(ERROR + " Interrupted");
+      return;
+    } catch (Exception e) {
+      pOut.println(ERROR + " " + String.valueOf(e.getMessage()).replace('\n', ' '));
+      return;
+    }
+    for (String line : lines) {
+      pOut.println(line);
+    }
+    pOut.println(OK);
+  }
+
+  private void printStatistics(final PrintStream pOut) {
+    pOut.println("Fixpoint: " + analysis.getStatistics());
+    pOut.println(
+        "Summaries: "
+            + summaryCache.size()
+            + " cached, "
+            + summaryCache.getHits()
+            + " hits, "
+            + summaryCache.getMisses()
+            + " misses");
+    ClassModelCache.Statistics classes = classModelCache.statistics();
+    pOut.println(
+        "Classes: "
+            + classes.models()
+            + " cached, "
+            + classes.hits()
+            + " hits, "
+            + classes.misses()
+            + " misses");
+    if (analysis.getResultStore() != null) {
+      pOut.println("Store: " + analysis.getResultStore());
+    }
+  }
+
+  /**
+   * Parses a request line.
+   *
+   * @param pRequest The request
+   * @return The request
+   * @throws IllegalArgumentException If the request is malformed
+   */
+  static AnalysisRequest parse(final String pRequest) {
+    String className = null;
+    String methodName = null;
+    Path scanPath = null;
+    Path targetsPath = null;
+    Iterator<String> tokens = List.of(pRequest.strip().split("\\s+")).iterator();
+    while (tokens.hasNext()) {
+      String option = tokens.next();
+      if (!tokens.hasNext()) {
+        throw new IllegalArgumentException("Missing value for option " + option);
+      }
+      String value = tokens.next();
+      switch (option) {
+        case "-c", "--class" -> className = value;
+        case "-m", "--method" -> methodName = value;
+        case "-s", "--scan" -> scanPath = Path.of(value);
+        case "-t", "--targets" -> targetsPath = Path.of(value);
+        default -> throw new IllegalArgumentException("Unknown option " + option);
+      }
+    }
+    return new AnalysisRequest(className, methodName, scanPath, targetsPath);
+  }
+
+  /** Drops all summaries if a class file that has been read since the last invalidation changed. */
+  private void invalidateChangedClasses() throws IOException {
+    lock.writeLock().lock();
+    try {
+      // No analysis reads from the index while the write lock is held.
+      if (index != null) {
+        index.refresh();
+      }
+      for (Map.Entry<String, Optional<HashCode>> version : classVersions.entrySet()) {
+        if (!version.getValue().equals(hash(classProvider.read(version.getKey())))) {
+          summaryCache.clear();
+          classVersions.clear();
+          return;
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private byte[] readClass(final String pInternalName) throws IOException {
+    byte[] bytes = classProvider.read(pInternalName);
+    classVersions.put(pInternalName, hash(bytes));
+    return bytes;
+  }
+
+  private static Optional<HashCode> hash(final byte[] pBytes) {
+    return pBytes == null ? Optional.empty() : Optional.of(Hashing.murmur3_128().hashBytes(pBytes));
+  }
+}
@@ -0,0 +1,73 @@
+package de.uni_passau.fim.se2.sa.sign.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Sends one request to a running {@link AnalysisDaemon} and prints its response.
+ *
+ * <p>The client only depends on the JDK, such that it starts quickly. Usage: {@code DaemonClient
+ * <socket> <request options>}, e.g., {@code DaemonClient /tmp/sign.sock -c org.example.Foo -m
+ * 'div:()I'}. The exit code is 0 for a successful request, 1 for an error reported by the daemon,
+ * and 2 if the daemon cannot be reached.
+ */
+public class DaemonClient {
+
+  public static void main(String[] pArgs) {
+    if (pArgs.length < 2) {
+      System.err.println("Usage: DaemonClient <socket> <request options>");
+      System.exit(2);
+    }
+    String request = String.join(" ", Arrays.asList(pArgs).subList(1, pArgs.length));
+    System.exit(send(Path.of(pArgs[0]), request, System.out, System.err));
+  }
+
+  /**
+   * Sends a request and prints the response.
+   *
+   * @param pSocket The socket of the daemon
+   * @param pRequest The request line
+   * @param pOut Receives the lines of a successful response
+   * @param pErr Receives errors
+   * @return The exit code, 0 on success
+   */
+  public static int send(
+      final Path pSocket, final String pRequest, final PrintStream pOut, final PrintStream pErr) {
+    try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+      channel.connect(UnixDomainSocketAddress.of(pSocket));
+      Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+      writer.write(pRequest + "\n");
+      writer.flush();
+
+      BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.equals(AnalysisDaemon.OK)) {
+          return 0;
+        }
+        if (line.startsWith(AnalysisDaemon.ERROR)) {
+          pErr.println(line.substring(AnalysisDaemon.ERROR.length()).strip());
+          return 1;
+        }
+        pOut.println(line);
+      }
+      pErr.println("The daemon closed the connection");
+      return 2;
+    } catch (IOException e) {
+      pErr.println("Cannot reach the daemon at " + pSocket + ": " + e.getMessage());
+      return 2;
+    }
+  }
+}
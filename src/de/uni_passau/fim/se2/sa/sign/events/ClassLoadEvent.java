@@ -0,0 +1,23 @@
+package de.uni_passau.fim.se2.sa.sign.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Reading and parsing a class that is analysed. */
+@Name("de.uni_passau.fim.se2.sa.sign.ClassLoad")
+@Label("Class Load")
+@Category("Sign Analysis")
+@Description("Reads a class through the class provider and parses it unless it is cached")
+public class ClassLoadEvent extends Event {
+
+  @Label("Class")
+  public String className;
+
+  @Label("Class File Size")
+  @DataAmount
+  public long size;
+}
@@ -0,0 +1,27 @@
+package de.uni_passau.fim.se2.sa.sign.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Deriving the findings of an analysed method from its frames or recorded operands. */
+@Name("de.uni_passau.fim.se2.sa.sign.FindingExtraction")
+@Label("Finding Extraction")
+@Category("Sign Analysis")
+@Description("Checks the divisions and array accesses of an analysed method")
+public class FindingExtractionEvent extends Event {
+
+  @Label("Class")
+  public String owner;
+
+  @Label("Method")
+  public String methodKey;
+
+  @Label("Instructions")
+  public int instructions;
+
+  @Label("Findings")
+  public int findings;
+}
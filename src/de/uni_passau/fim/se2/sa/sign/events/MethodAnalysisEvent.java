@@ -0,0 +1,31 @@
+package de.uni_passau.fim.se2.sa.sign.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** One fixpoint computation of the frames of a method, either analysed or called. */
+@Name("de.uni_passau.fim.se2.sa.sign.MethodAnalysis")
+@Label("Method Analysis")
+@Category("Sign Analysis")
+@Description("Computes the frames of a method, at call depth 0 for an analysed method")
+public class MethodAnalysisEvent extends Event {
+
+  @Label("Class")
+  public String owner;
+
+  @Label("Method")
+  public String methodKey;
+
+  @Label("Instructions")
+  public int instructions;
+
+  @Label("Visited Instructions")
+  @Description("Instructions interpreted until the fixpoint, 0 if delegated to ASM's analyzer")
+  public long visitedInstructions;
+
+  @Label("Call Depth")
+  public int callDepth;
+}
@@ -0,0 +1,30 @@
+package de.uni_passau.fim.se2.sa.sign.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** A call whose summary is taken from the summary cache instead of analysing the callee. */
+@Name("de.uni_passau.fim.se2.sa.sign.SummaryHit")
+@Label("Summary Cache Hit")
+@Category("Sign Analysis")
+@Description("Reuses the cached summary of a callee context")
+public class SummaryHitEvent extends Event {
+
+  @Label("Class")
+  public String owner;
+
+  @Label("Method")
+  public String methodKey;
+
+  @Label("Instructions")
+  public int instructions;
+
+  @Label("Call Depth")
+  public int callDepth;
+
+  @Label("Summary")
+  public String summary;
+}
@@ -0,0 +1,32 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import java.util.List;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.Value;
+
+/**
+ * Narrows the frames that flow along the two edges of a conditional jump by what the outcome of
+ * the comparison implies, e.g., that a compared local is zero on the edge of an {@code IFEQ}
+ * that is taken.
+ *
+ * <p>An edge on which the comparison cannot have the required outcome is infeasible: the {@link
+ * FixpointAnalyzer} does not propagate a frame along it, such that code that is only reachable
+ * through infeasible edges is never interpreted.
+ *
+ * @param <V> The type of the abstract values
+ */
+@FunctionalInterface
+public interface BranchRefiner<V extends Value> {
+
+  /**
+   * Narrows the frame on one edge of a conditional jump.
+   *
+   * @param pJump The conditional jump that ends a basic block
+   * @param pOperands The values the jump compares, the top of the stack last
+   * @param pFrame The frame after the jump, which may be narrowed in place
+   * @param pTaken {@code true} for the edge to the jump target, {@code false} for the fall-through
+   * @return {@code false} if the edge is infeasible
+   */
+  boolean refine(JumpInsnNode pJump, List<V> pOperands, Frame<V> pFrame, boolean pTaken);
+}
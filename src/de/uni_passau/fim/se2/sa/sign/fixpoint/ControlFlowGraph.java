@@ -0,0 +1,226 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+
+/**
+ * The basic blocks of a method and the control-flow edges between them.
+ *
+ * <p>A block ends after a jump, a switch, a return, or a throw. Exception handlers do not split
+ * blocks: every instruction of a block that is covered by a try-catch block has an edge to the
+ * handler, which is recorded in {@link #getHandlers(int)}.
+ */
+public final class ControlFlowGraph {
+
+  private final int[] blockStarts;
+  private final int[] blockOfInstruction;
+  private final int[][] successors;
+  private final int[][] normalSuccessors;
+  private final List<List<TryCatchBlockNode>> handlers;
+
+  private ControlFlowGraph(
+      final int[] pBlockStarts,
+      final int[] pBlockOfInstruction,
+      final int[][] pSuccessors,
+      final int[][] pNormalSuccessors,
+      final List<List<TryCatchBlockNode>> pHandlers) {
+    blockStarts = pBlockStarts;
+    blockOfInstruction = pBlockOfInstruction;
+    successors = pSuccessors;
+    normalSuccessors = pNormalSuccessors;
+    handlers = pHandlers;
+  }
+
+  /**
+   * Computes the control-flow graph of a method.
+   *
+   * @param pMethod The method, which must not use subroutines
+   * @return The control-flow graph of the method
+   */
+  public static ControlFlowGraph build(final MethodNode pMethod) {
+    InsnList instructions = pMethod.instructions;
+    int size = instructions.size();
+
+    List<List<TryCatchBlockNode>> handlers = new ArrayList<>(Collections.nCopies(size, null));
+    for (TryCatchBlockNode tryCatchBlock : pMethod.tryCatchBlocks) {
+      int begin = instructions.indexOf(tryCatchBlock.start);
+      int end = instructions.indexOf(tryCatchBlock.end);
+      for (int i = begin; i < end; i++) {
+        if (handlers.get(i) == null) {
+          handlers.set(i, new ArrayList<>());
+        }
+        handlers.get(i).add(tryCatchBlock);
+      }
+    }
+
+    BitSet leaders = new BitSet(size);
+    if (size > 0) {
+      leaders.set(0);
+    }
+    for (TryCatchBlockNode tryCatchBlock : pMethod.tryCatchBlocks) {
+      leaders.set(instructions.indexOf(tryCatchBlock.handler));
+    }
+    for (int i = 0; i < size; i++) {
+      AbstractInsnNode instruction = instructions.get(i);
+      if (endsBlock(instruction) && i + 1 < size) {
+        leaders.set(i + 1);
+      }
+      for (LabelNode target : targets(instruction)) {
+        leaders.set(instructions.indexOf(target));
+      }
+    }
+
+    int[] blockStarts = leaders.stream().toArray();
+    int[] blockOfInstruction = new int[size];
+    for (int block = 0; block < blockStarts.length; block++) {
+      int end = block + 1 < blockStarts.length ? blockStarts[block + 1] : size;
+      Arrays.fill(blockOfInstruction, blockStarts[block], end, block);
+    }
+
+    int[][] normalSuccessors = new int[blockStarts.length][];
+    int[][] successors = new int[blockStarts.length][];
+    for (int block = 0; block < blockStarts.length; block++) {
+      int end = block + 1 < blockStarts.length ? blockStarts[block + 1] : size;
+      AbstractInsnNode last = instructions.get(end - 1);
+
+      BitSet normal = new BitSet(blockStarts.length);
+      if (!endsBlock(last) || isConditional(last)) {
+        if (end < size) {
+          normal.set(block + 1);
+        }
+      }
+      for (LabelNode target : targets(last)) {
+        normal.set(blockOfInstruction[instructions.indexOf(target)]);
+      }
+
+      BitSet all = (BitSet) normal.clone();
+      for (int i = blockStarts[block]; i < end; i++) {
+        if (handlers.get(i) != null) {
+          for (TryCatchBlockNode tryCatchBlock : handlers.get(i)) {
+            all.set(blockOfInstruction[instructions.indexOf(tryCatchBlock.handler)]);
+          }
+        }
+      }
+      normalSuccessors[block] = normal.stream().toArray();
+      successors[block] = all.stream().toArray();
+    }
+
+    return new ControlFlowGraph(
+        blockStarts, blockOfInstruction, successors, normalSuccessors, handlers);
+  }
+
+  private static boolean endsBlock(final AbstractInsnNode pInstruction) {
+    int opcode = pInstruction.getOpcode();
+    return pInstruction instanceof JumpInsnNode
+        || pInstruction instanceof TableSwitchInsnNode
+        || pInstruction instanceof LookupSwitchInsnNode
+        || (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN)
+        || opcode == Opcodes.ATHROW;
+  }
+
+  private static boolean isConditional(final AbstractInsnNode pInstruction) {
+    return pInstruction instanceof JumpInsnNode && pInstruction.getOpcode() != Opcodes.GOTO;
+  }
+
+  private static List<LabelNode> targets(final AbstractInsnNode pInstruction) {
+    if (pInstruction instanceof JumpInsnNode jump) {
+      return List.of(jump.label);
+    }
+    List<LabelNode> targets = new ArrayList<>();
+    if (pInstruction instanceof TableSwitchInsnNode tableSwitch) {
+      targets.add(tableSwitch.dflt);
+      targets.addAll(tableSwitch.labels);
+    } else if (pInstruction instanceof LookupSwitchInsnNode lookupSwitch) {
+      targets.add(lookupSwitch.dflt);
+      targets.addAll(lookupSwitch.labels);
+    }
+    return targets;
+  }
+
+  /**
+   * Retrieve the number of basic blocks.
+   *
+   * @return The number of basic blocks
+   */
+  public int getBlockCount() {
+    return blockStarts.length;
+  }
+
+  /**
+   * Retrieve the index of the first instruction of a block.
+   *
+   * @param pBlock The block
+   * @return The index of its first instruction
+   */
+  public int getStart(final int pBlock) {
+    return blockStarts[pBlock];
+  }
+
+  /**
+   * Retrieve the index after the last instruction of a block.
+   *
+   * @param pBlock The block
+   * @return The exclusive end index of the block
+   */
+  public int getEnd(final int pBlock) {
+    return pBlock + 1 < blockStarts.length
+        ? blockStarts[pBlock + 1]
+        : blockOfInstruction.length;
+  }
+
+  /**
+   * Retrieve the block an instruction belongs to.
+   *
+   * @param pInstruction The index of the instruction
+   * @return The block of the instruction
+   */
+  public int getBlock(final int pInstruction) {
+    return blockOfInstruction[pInstruction];
+  }
+
+  /**
+   * Retrieve all successors of a block, including exception handlers.
+   *
+   * @param pBlock The block
+   * @return The successor blocks in ascending order
+   */
+  public int[] getSuccessors(final int pBlock) {
+    return successors[pBlock];
+  }
+
+  /**
+   * Retrieve the successors of a block that are reached by falling through, jumping, or switching.
+   *
+   * @param pBlock The block
+   * @return The successor blocks in ascending order
+   */
+  public int[] getNormalSuccessors(final int pBlock) {
+    return normalSuccessors[pBlock];
+  }
+
+  /**
+   * Retrieve the try-catch blocks that cover an instruction.
+   *
+   * @param pInstruction The index of the instruction
+   * @return The covering try-catch blocks, {@code null} if there are none
+   */
+  public List<TryCatchBlockNode> getHandlers(final int pInstruction) {
+    return handlers.get(pInstruction);
+  }
+
+  int[][] successorArrays() {
+    return successors;
+  }
+}
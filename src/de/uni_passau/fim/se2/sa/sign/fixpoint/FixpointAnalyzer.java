@@ -0,0 +1,504 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.Interpreter;
+import org.objectweb.asm.tree.analysis.Value;
+
+/**
+ * An {@link Analyzer} that computes the frames of a method by iterating its basic blocks in a
+ * {@link WeakTopologicalOrder}.
+ *
+ * <p>ASM's analyzer processes single instructions from a LIFO queue, which revisits the bodies of
+ * nested loops far more often than needed. This analyzer interprets whole basic blocks, follows
+ * the weak topological order of the control-flow graph, and iterates every loop until its head is
+ * stable before it moves on. Inner loops thereby stabilise before outer ones. Blocks whose entry
+ * frame did not change since their last visit are skipped.
+ *
+ * <p>The computed frames are the same as the ones of ASM's analyzer: the frame of an instruction
+ * is the join of the frames of all paths reaching it. With {@link
+ * FixpointStrategy#ASM_ANALYZER}, and for methods with subroutines, the analysis is delegated to
+ * ASM's analyzer.
+ *
+ * <p>If a value for untracked locals is given, both strategies use {@link SparseFrame}s that store
+ * only the locals that are read as ints. All other locals read as that value, which should be the
+ * top element of the interpreter's domain to keep the analysis sound.
+ *
+ * <p>A {@link FrameFactory} replaces ASM's frames by another representation, e.g., a packed one.
+ * Methods with subroutines always use ASM's or sparse frames.
+ *
+ * <p>{@link #analyze(String, MethodNode, FrameObserver)} reports the frames to a {@link
+ * FrameObserver} while they are computed instead of returning them. The iteration then keeps only
+ * the entry frames of the basic blocks, whose fixpoint is the same, and the frames of single
+ * instructions are released as soon as the observer has seen them. The blocks of an element at
+ * the outermost level of the order are settled once the iteration has passed the element, and the
+ * observer may stop the analysis at that point.
+ *
+ * <p>A {@link BranchRefiner} narrows the frames on the two edges of every conditional jump and
+ * prunes the edges that cannot be taken, such that dead code is not interpreted. The analysis
+ * then computes frames that are at most as large as the ones of ASM's analyzer. Refinement is not
+ * available when the analysis is delegated to ASM's analyzer.
+ *
+ * @param <V> The type of the abstract values
+ */
+public class FixpointAnalyzer<V extends Value> extends Analyzer<V> {
+
+  private final Interpreter<V> interpreter;
+  private final FixpointStrategy strategy;
+  private final V untracked;
+  private final FixpointStatistics statistics;
+  private final FrameFactory<V> frameFactory;
+  private final BranchRefiner<V> refiner;
+
+  private Frame<V>[] frames;
+  private FrameObserver<V> observer;
+  private boolean delegated;
+  private boolean stopped;
+  private int[] slots;
+  private int trackedLocals;
+  private boolean useFactory;
+  private int numLocals;
+  private int maxStack;
+  private long visitedInstructions;
+
+  /**
+   * Constructs a new analyzer that iterates in weak topological order.
+   *
+   * @param pInterpreter The interpreter of the instructions
+   */
+  public FixpointAnalyzer(final Interpreter<V> pInterpreter) {
+    this(pInterpreter, FixpointStrategy.WEAK_TOPOLOGICAL_ORDER, null, new FixpointStatistics());
+  }
+
+  /**
+   * Constructs a new analyzer.
+   *
+   * @param pInterpreter The interpreter of the instructions
+   * @param pStrategy The algorithm that computes the frames
+   * @param pUntracked The value of the locals that are not read as ints, or {@code null} to track
+   *     all locals
+   * @param pStatistics The counters the work of this analyzer is added to
+   */
+  public FixpointAnalyzer(
+      final Interpreter<V> pInterpreter,
+      final FixpointStrategy pStrategy,
+      final V pUntracked,
+      final FixpointStatistics pStatistics) {
+    this(pInterpreter, pStrategy, pUntracked, pStatistics, null);
+  }
+
+  /**
+   * Constructs a new analyzer with its own representation of frames.
+   *
+   * @param pInterpreter The interpreter of the instructions
+   * @param pStrategy The algorithm that computes the frames
+   * @param pUntracked The value of the locals that are not read as ints, or {@code null} to track
+   *     all locals
+   * @param pStatistics The counters the work of this analyzer is added to
+   * @param pFrameFactory Creates the frames, or {@code null} for ASM's frames
+   */
+  public FixpointAnalyzer(
+      final Interpreter<V> pInterpreter,
+      final FixpointStrategy pStrategy,
+      final V pUntracked,
+      final FixpointStatistics pStatistics,
+      final FrameFactory<V> pFrameFactory) {
+    this(pInterpreter, pStrategy, pUntracked, pStatistics, pFrameFactory, null);
+  }
+
+  /**
+   * Constructs a new analyzer that narrows the frames on the edges of conditional jumps.
+   *
+   * @param pInterpreter The interpreter of the instructions
+   * @param pStrategy The algorithm that computes the frames
+   * @param pUntracked The value of the locals that are not read as ints, or {@code null} to track
+   *     all locals
+   * @param pStatistics The counters the work of this analyzer is added to
+   * @param pFrameFactory Creates the frames, or {@code null} for ASM's frames
+   * @param pRefiner Narrows the frames of branches, or {@code null} to propagate them unchanged
+   */
+  public FixpointAnalyzer(
+      final Interpreter<V> pInterpreter,
+      final FixpointStrategy pStrategy,
+      final V pUntracked,
+      final FixpointStatistics pStatistics,
+      final FrameFactory<V> pFrameFactory,
+      final BranchRefiner<V> pRefiner) {
+    super(pInterpreter);
+    interpreter = pInterpreter;
+    strategy = pStrategy;
+    untracked = pUntracked;
+    statistics = pStatistics;
+    frameFactory = pFrameFactory;
+    refiner = pRefiner;
+  }
+
+  /**
+   * Retrieve the counters this analyzer adds its work to.
+   *
+   * @return The statistics of this analyzer
+   */
+  public FixpointStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Retrieve the number of instructions interpreted by the last analysis of this analyzer. Visits
+   * are not counted if the analysis is delegated to ASM's analyzer.
+   *
+   * @return The number of instruction visits
+   */
+  public long getVisitedInstructions() {
+    return visitedInstructions;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Frame<V>[] analyze(final String pOwner, final MethodNode pMethod)
+      throws AnalyzerException {
+    observer = null;
+    return run(pOwner, pMethod);
+  }
+
+  /**
+   * Analyzes a method and reports its frames to an observer without keeping them. After the
+   * analysis, {@link #getFrames()} holds only the initial frame, unless the analysis is delegated
+   * to ASM's analyzer, whose frames are replayed to the observer once they are complete.
+   *
+   * @param pOwner The internal name of the class that declares the method
+   * @param pMethod The method to analyze
+   * @param pObserver Receives every visit of an instruction
+   * @return {@code true} if the analysis completed, {@code false} if the observer stopped it
+   * @throws AnalyzerException If a problem occurs during the analysis
+   */
+  public boolean analyze(
+      final String pOwner, final MethodNode pMethod, final FrameObserver<V> pObserver)
+      throws AnalyzerException {
+    observer = pObserver;
+    stopped = false;
+    try {
+      Frame<V>[] result = run(pOwner, pMethod);
+      if (delegated) {
+        for (int i = 0; i < result.length; i++) {
+          if (result[i] != null) {
+            pObserver.observe(i, pMethod.instructions.get(i), result[i]);
+          }
+        }
+      }
+      return !stopped && pObserver.settle(0, pMethod.instructions.size());
+    } finally {
+      observer = null;
+    }
+  }
+
+  private Frame<V>[] run(final String pOwner, final MethodNode pMethod) throws AnalyzerException {
+    statistics.countAnalysis();
+    visitedInstructions = 0;
+    boolean subroutines = usesSubroutines(pMethod);
+    slots = untracked != null && !subroutines ? SparseFrame.slotsOf(pMethod) : null;
+    if (slots != null) {
+      trackedLocals = SparseFrame.trackedLocals(slots);
+    }
+    statistics.countLocals(pMethod.maxLocals, slots == null ? pMethod.maxLocals : trackedLocals);
+    useFactory = frameFactory != null && !subroutines;
+    numLocals = slots == null ? pMethod.maxLocals : trackedLocals;
+    maxStack = pMethod.maxStack;
+
+    delegated = strategy == FixpointStrategy.ASM_ANALYZER || subroutines;
+    if (delegated) {
+      return super.analyze(pOwner, pMethod);
+    }
+    return new Iteration(pOwner, pMethod).run();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Frame<V>[] getFrames() {
+    return delegated ? super.getFrames() : frames;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected Frame<V> newFrame(final int pNumLocals, final int pNumStack) {
+    if (useFactory) {
+      return frameFactory.newFrame(slots, numLocals, pNumStack, untracked);
+    }
+    if (slots == null) {
+      return super.newFrame(pNumLocals, pNumStack);
+    }
+    return new SparseFrame<>(slots, trackedLocals, pNumStack, untracked);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected Frame<V> newFrame(final Frame<? extends V> pFrame) {
+    if (useFactory) {
+      return frameFactory.newFrame(slots, numLocals, maxStack, untracked).init(pFrame);
+    }
+    if (pFrame instanceof SparseFrame<? extends V> sparseFrame) {
+      return new SparseFrame<>(sparseFrame);
+    }
+    return super.newFrame(pFrame);
+  }
+
+  private static boolean isConditionalJump(final AbstractInsnNode pInstruction) {
+    int opcode = pInstruction.getOpcode();
+    return (opcode >= Opcodes.IFEQ && opcode <= Opcodes.IF_ACMPNE)
+        || opcode == Opcodes.IFNULL
+        || opcode == Opcodes.IFNONNULL;
+  }
+
+  /** Reads the values a conditional jump compares before it pops them. */
+  private static <V extends Value> List<V> operandsOf(final int pOpcode, final Frame<V> pFrame) {
+    int count = pOpcode >= Opcodes.IF_ICMPEQ && pOpcode <= Opcodes.IF_ACMPNE ? 2 : 1;
+    List<V> operands = new ArrayList<>(count);
+    for (int i = pFrame.getStackSize() - count; i < pFrame.getStackSize(); i++) {
+      operands.add(pFrame.getStack(i));
+    }
+    return operands;
+  }
+
+  private static boolean usesSubroutines(final MethodNode pMethod) {
+    for (AbstractInsnNode instruction : pMethod.instructions) {
+      int opcode = instruction.getOpcode();
+      if (opcode == Opcodes.JSR || opcode == Opcodes.RET) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** The state of one analysis of a method. */
+  private final class Iteration {
+
+    private final String owner;
+    private final MethodNode method;
+    private final InsnList instructions;
+    private final ControlFlowGraph graph;
+    private final Frame<V>[] entries;
+    private final boolean[] dirty;
+
+    @SuppressWarnings("unchecked")
+    Iteration(final String pOwner, final MethodNode pMethod) {
+      owner = pOwner;
+      method = pMethod;
+      instructions = pMethod.instructions;
+      graph = ControlFlowGraph.build(pMethod);
+      entries = (Frame<V>[]) new Frame<?>[graph.getBlockCount()];
+      dirty = new boolean[graph.getBlockCount()];
+      // An observer sees the frames of the instructions, only the initial frame is kept for init.
+      frames = (Frame<V>[]) new Frame<?>[observer == null ? instructions.size() : 1];
+    }
+
+    Frame<V>[] run() throws AnalyzerException {
+      if (instructions.size() == 0) {
+        return frames;
+      }
+
+      frames[0] = computeInitialFrame();
+      init(owner, method);
+      entries[0] = newFrame(frames[0]);
+      dirty[0] = true;
+
+      List<WeakTopologicalOrder.Element> order =
+          WeakTopologicalOrder.compute(graph).getElements();
+      if (observer == null) {
+        iterate(order);
+        return frames;
+      }
+      for (WeakTopologicalOrder.Element element : order) {
+        iterate(List.of(element));
+        if (!settle(element)) {
+          stopped = true;
+          break;
+        }
+      }
+      return frames;
+    }
+
+    /** Settles the blocks of an element the iteration has passed. */
+    private boolean settle(final WeakTopologicalOrder.Element pElement) {
+      if (pElement instanceof WeakTopologicalOrder.Vertex vertex) {
+        return observer.settle(graph.getStart(vertex.node()), graph.getEnd(vertex.node()));
+      }
+      WeakTopologicalOrder.Component component = (WeakTopologicalOrder.Component) pElement;
+      if (!observer.settle(graph.getStart(component.head()), graph.getEnd(component.head()))) {
+        return false;
+      }
+      for (WeakTopologicalOrder.Element element : component.body()) {
+        if (!settle(element)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void iterate(final List<WeakTopologicalOrder.Element> pElements)
+        throws AnalyzerException {
+      for (WeakTopologicalOrder.Element element : pElements) {
+        if (element instanceof WeakTopologicalOrder.Vertex vertex) {
+          if (dirty[vertex.node()]) {
+            execute(vertex.node());
+          }
+        } else if (element instanceof WeakTopologicalOrder.Component component) {
+          stabilize(component);
+        }
+      }
+    }
+
+    private void stabilize(final WeakTopologicalOrder.Component pComponent)
+        throws AnalyzerException {
+      int head = pComponent.head();
+      do {
+        statistics.countComponentIteration();
+        if (dirty[head]) {
+          execute(head);
+        }
+        iterate(pComponent.body());
+      } while (dirty[head]);
+    }
+
+    private void execute(final int pBlock) throws AnalyzerException {
+      dirty[pBlock] = false;
+      int start = graph.getStart(pBlock);
+      int end = graph.getEnd(pBlock);
+      statistics.countBlockVisit(end - start);
+      visitedInstructions += end - start;
+
+      Frame<V> current = newFrame(entries[pBlock]);
+      List<V> operands = null;
+      for (int i = start; i < end; i++) {
+        AbstractInsnNode instruction = instructions.get(i);
+        try {
+          if (observer != null) {
+            // The entry frames only grow, so the frames of later visits already include the
+            // earlier ones and need not be accumulated per instruction.
+            observer.observe(i, instruction, current);
+          } else if (frames[i] == null) {
+            // Like ASM, the frame of an instruction accumulates all frames that ever reached it.
+            frames[i] = newFrame(current);
+          } else {
+            frames[i].merge(current, interpreter);
+            current.init(frames[i]);
+          }
+
+          List<TryCatchBlockNode> handlers = graph.getHandlers(i);
+          if (handlers != null) {
+            for (TryCatchBlockNode tryCatchBlock : handlers) {
+              Type catchType =
+                  Type.getObjectType(
+                      tryCatchBlock.type == null ? "java/lang/Throwable" : tryCatchBlock.type);
+              Frame<V> handler = newFrame(observer != null ? current : frames[i]);
+              handler.clearStack();
+              handler.push(interpreter.newExceptionValue(tryCatchBlock, handler, catchType));
+              merge(graph.getBlock(instructions.indexOf(tryCatchBlock.handler)), handler);
+            }
+          }
+
+          int type = instruction.getType();
+          if (type != AbstractInsnNode.LABEL
+              && type != AbstractInsnNode.LINE
+              && type != AbstractInsnNode.FRAME) {
+            if (i == end - 1 && refiner != null && isConditionalJump(instruction)) {
+              operands = operandsOf(instruction.getOpcode(), current);
+            }
+            current.execute(instruction, interpreter);
+          }
+        } catch (AnalyzerException e) {
+          throw new AnalyzerException(
+              e.node, "Error at instruction " + i + ": " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+          throw new AnalyzerException(
+              instruction, "Error at instruction " + i + ": " + e.getMessage(), e);
+        }
+      }
+
+      AbstractInsnNode last = instructions.get(end - 1);
+      int opcode = last.getOpcode();
+      boolean terminates =
+          (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN)
+              || opcode == Opcodes.ATHROW
+              || opcode == Opcodes.GOTO
+              || last.getType() == AbstractInsnNode.TABLESWITCH_INSN
+              || last.getType() == AbstractInsnNode.LOOKUPSWITCH_INSN;
+      if (!terminates && end == instructions.size()) {
+        throw new AnalyzerException(last, "Execution can fall off the end of the code");
+      }
+      if (operands != null) {
+        JumpInsnNode jump = (JumpInsnNode) last;
+        int target = graph.getBlock(instructions.indexOf(jump.label));
+        int next = graph.getBlock(end);
+        if (target != next) {
+          refine(jump, operands, current, target, true);
+          refine(jump, operands, current, next, false);
+          return;
+        }
+      }
+      for (int successor : graph.getNormalSuccessors(pBlock)) {
+        merge(successor, current);
+      }
+    }
+
+    /** Propagates the frame after a conditional jump along one of its edges, if it is feasible. */
+    private void refine(
+        final JumpInsnNode pJump,
+        final List<V> pOperands,
+        final Frame<V> pFrame,
+        final int pSuccessor,
+        final boolean pTaken)
+        throws AnalyzerException {
+      Frame<V> edge = newFrame(pFrame);
+      if (refiner.refine(pJump, pOperands, edge, pTaken)) {
+        merge(pSuccessor, edge);
+      } else {
+        statistics.countPrunedEdge();
+      }
+    }
+
+    private void merge(final int pBlock, final Frame<V> pFrame) throws AnalyzerException {
+      if (entries[pBlock] == null) {
+        entries[pBlock] = newFrame(pFrame);
+        dirty[pBlock] = true;
+      } else if (entries[pBlock].merge(pFrame, interpreter)) {
+        dirty[pBlock] = true;
+      }
+    }
+
+    private Frame<V> computeInitialFrame() {
+      Frame<V> frame = newFrame(method.maxLocals, method.maxStack);
+      int local = 0;
+      boolean isInstanceMethod = (method.access & Opcodes.ACC_STATIC) == 0;
+      if (isInstanceMethod) {
+        frame.setLocal(
+            local,
+            interpreter.newParameterValue(true, local, Type.getObjectType(owner)));
+        local++;
+      }
+      for (Type argumentType : Type.getArgumentTypes(method.desc)) {
+        frame.setLocal(
+            local, interpreter.newParameterValue(isInstanceMethod, local, argumentType));
+        local++;
+        if (argumentType.getSize() == 2) {
+          frame.setLocal(local, interpreter.newEmptyValue(local));
+          local++;
+        }
+      }
+      while (local < method.maxLocals) {
+        frame.setLocal(local, interpreter.newEmptyValue(local));
+        local++;
+      }
+      frame.setReturn(interpreter.newReturnTypeValue(Type.getReturnType(method.desc)));
+      return frame;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the work done by {@link FixpointAnalyzer}s.
+ *
+ * <p>The counters may be shared by all analyzers of one analysis run, including the analyzers of
+ * callees, and by several threads.
+ */
+public class FixpointStatistics {
+
+  private final LongAdder analyses = new LongAdder();
+  private final LongAdder blockVisits = new LongAdder();
+  private final LongAdder instructionVisits = new LongAdder();
+  private final LongAdder componentIterations = new LongAdder();
+  private final LongAdder locals = new LongAdder();
+  private final LongAdder trackedLocals = new LongAdder();
+  private final LongAdder prunedEdges = new LongAdder();
+  private final LongAdder skippedMethods = new LongAdder();
+  private final LongAdder slicedCalls = new LongAdder();
+
+  void countAnalysis() {
+    analyses.increment();
+  }
+
+  void countBlockVisit(final int pInstructions) {
+    blockVisits.increment();
+    instructionVisits.add(pInstructions);
+  }
+
+  void countLocals(final int pLocals, final int pTrackedLocals) {
+    locals.add(pLocals);
+    trackedLocals.add(pTrackedLocals);
+  }
+
+  void countComponentIteration() {
+    componentIterations.increment();
+  }
+
+  void countPrunedEdge() {
+    prunedEdges.increment();
+  }
+
+  /** Counts a method that was not analysed since it cannot have findings. */
+  public void countSkippedMethod() {
+    skippedMethods.increment();
+  }
+
+  /** Counts a call that was not analysed since its result does not reach a relevant value. */
+  public void countSlicedCall() {
+    slicedCalls.increment();
+  }
+
+  /**
+   * Retrieve the number of analysed methods.
+   *
+   * @return The number of analysed methods
+   */
+  public long getAnalyses() {
+    return analyses.sum();
+  }
+
+  /**
+   * Retrieve the number of times a basic block has been interpreted.
+   *
+   * @return The number of block visits
+   */
+  public long getBlockVisits() {
+    return blockVisits.sum();
+  }
+
+  /**
+   * Retrieve the number of times an instruction has been interpreted.
+   *
+   * @return The number of instruction visits
+   */
+  public long getInstructionVisits() {
+    return instructionVisits.sum();
+  }
+
+  /**
+   * Retrieve the number of iterations over the bodies of loops until they became stable.
+   *
+   * @return The number of component iterations
+   */
+  public long getComponentIterations() {
+    return componentIterations.sum();
+  }
+
+  /**
+   * Retrieve the number of local variables of all analysed methods.
+   *
+   * @return The number of local variables
+   */
+  public long getLocals() {
+    return locals.sum();
+  }
+
+  /**
+   * Retrieve the number of local variables whose values were stored in the frames. Without sparse
+   * frames, this equals {@link #getLocals()}.
+   *
+   * @return The number of tracked local variables
+   */
+  public long getTrackedLocals() {
+    return trackedLocals.sum();
+  }
+
+  /**
+   * Retrieve the number of times a branch refinement found an edge of a conditional jump to be
+   * infeasible.
+   *
+   * @return The number of pruned edges
+   * @see BranchRefiner
+   */
+  public long getPrunedEdges() {
+    return prunedEdges.sum();
+  }
+
+  /**
+   * Retrieve the number of methods whose fixpoint was not computed, since none of their
+   * instructions is checked.
+   *
+   * @return The number of skipped methods
+   */
+  public long getSkippedMethods() {
+    return skippedMethods.sum();
+  }
+
+  /**
+   * Retrieve the number of times a call was interpreted without analysing the callee, since it is
+   * not in the backward slice of the calling method.
+   *
+   * @return The number of sliced calls
+   * @see de.uni_passau.fim.se2.sa.sign.slice.BackwardSlice
+   */
+  public long getSlicedCalls() {
+    return slicedCalls.sum();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d analyses, %d block visits, %d instruction visits, %d loop iterations, "
+            + "%d of %d locals tracked, %d edges pruned, %d methods skipped, "
+            + "%d calls sliced",
+        getAnalyses(),
+        getBlockVisits(),
+        getInstructionVisits(),
+        getComponentIterations(),
+        getTrackedLocals(),
+        getLocals(),
+        getPrunedEdges(),
+        getSkippedMethods(),
+        getSlicedCalls());
+  }
+}
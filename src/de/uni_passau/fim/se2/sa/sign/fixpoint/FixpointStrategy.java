@@ -0,0 +1,12 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+/** The algorithms that can compute the frames of a method. */
+public enum FixpointStrategy {
+  /**
+   * Iterates the basic blocks in a weak topological order, stabilising inner loops before outer
+   * ones.
+   */
+  WEAK_TOPOLOGICAL_ORDER,
+  /** Delegates to ASM's {@link org.objectweb.asm.tree.analysis.Analyzer} as a reference. */
+  ASM_ANALYZER
+}
@@ -0,0 +1,29 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.Value;
+
+/**
+ * Creates the frames of a {@link FixpointAnalyzer} in a representation other than ASM's array of
+ * values.
+ *
+ * <p>All frames of one analysis are created by the factory, so a frame may rely on the frames it
+ * is initialised from or merged with to have the same representation and layout.
+ *
+ * @param <V> The type of the abstract values
+ */
+@FunctionalInterface
+public interface FrameFactory<V extends Value> {
+
+  /**
+   * Creates an empty frame.
+   *
+   * @param pSlots The slot of every local variable as computed by {@link SparseFrame#slotsOf},
+   *     or {@code null} if all locals are tracked
+   * @param pNumLocals The number of local variables, or of tracked locals if slots are given
+   * @param pMaxStack The maximum size of the operand stack
+   * @param pUntracked The value of untracked locals, or {@code null} if all locals are tracked
+   * @return The frame
+   */
+  Frame<V> newFrame(int[] pSlots, int pNumLocals, int pMaxStack, V pUntracked);
+}
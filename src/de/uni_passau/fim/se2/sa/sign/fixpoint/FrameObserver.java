@@ -0,0 +1,45 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.Value;
+
+/**
+ * Receives the frames of a method while a {@link FixpointAnalyzer} computes them, such that the
+ * analyzer does not need to keep a frame for every instruction.
+ *
+ * <p>An instruction is observed every time the fixpoint iteration reaches it, with the frame
+ * before the instruction executes. The join of all observed frames of an instruction is its frame
+ * in the final result. The frame is reused by the analyzer and must not be stored.
+ *
+ * <p>Once the iteration will not reach an instruction again, the instruction is {@link
+ * #settle(int, int) settled}, such that its observed frames are final before the analysis ends.
+ *
+ * @param <V> The type of the abstract values
+ */
+@FunctionalInterface
+public interface FrameObserver<V extends Value> {
+
+  /**
+   * Observes one visit of an instruction.
+   *
+   * @param pIndex The index of the instruction in the method
+   * @param pInstruction The instruction
+   * @param pFrame The frame before the instruction executes
+   */
+  void observe(int pIndex, AbstractInsnNode pInstruction, Frame<V> pFrame);
+
+  /**
+   * Receives that the iteration will not reach a range of instructions again. Every instruction is
+   * settled at least once, unreachable ones at the latest when the analysis ends.
+   *
+   * <p>The default implementation continues the analysis.
+   *
+   * @param pStart The index of the first settled instruction
+   * @param pEnd The index after the last settled instruction
+   * @return {@code true} to continue the analysis, {@code false} to stop it
+   */
+  default boolean settle(final int pStart, final int pEnd) {
+    return true;
+  }
+}
@@ -0,0 +1,123 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import java.util.Arrays;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.Value;
+
+/**
+ * A {@link Frame} that stores only the tracked local variables of a method.
+ *
+ * <p>The tracked locals are stored contiguously in front of the operand stack, so copying and
+ * merging a frame only touches these slots. Reading an untracked local yields a constant value,
+ * and writing one is ignored. With the top element as that value, the analysis stays sound but
+ * loses the values of references, longs, and doubles, e.g., the sign of an array length that the
+ * sign interpreter derives from the array reference.
+ *
+ * @param <V> The type of the abstract values
+ */
+public class SparseFrame<V extends Value> extends Frame<V> {
+
+  /** Marks an untracked local in a slot map. */
+  public static final int UNTRACKED = -1;
+
+  private final int[] slots;
+  private final V untracked;
+
+  /**
+   * Constructs a new frame.
+   *
+   * @param pSlots The slot of every local variable, or {@link #UNTRACKED}
+   * @param pTrackedLocals The number of tracked locals
+   * @param pMaxStack The maximum size of the operand stack
+   * @param pUntracked The value of untracked locals
+   */
+  public SparseFrame(
+      final int[] pSlots, final int pTrackedLocals, final int pMaxStack, final V pUntracked) {
+    super(pTrackedLocals, pMaxStack);
+    slots = pSlots;
+    untracked = pUntracked;
+  }
+
+  /**
+   * Constructs a copy of the given frame.
+   *
+   * @param pFrame The frame to copy
+   */
+  public SparseFrame(final SparseFrame<? extends V> pFrame) {
+    super(pFrame);
+    slots = pFrame.slots;
+    untracked = pFrame.untracked;
+  }
+
+  /**
+   * Selects the locals of a method that can carry int values to an instruction.
+   *
+   * <p>A local is tracked if it is read by {@code ILOAD} or {@code IINC}. Locals that only hold
+   * references, longs, floats, or doubles, and int locals that are never read, are not tracked.
+   *
+   * @param pMethod The method
+   * @return The slot of every local variable, or {@link #UNTRACKED}
+   */
+  public static int[] slotsOf(final MethodNode pMethod) {
+    int[] slots = new int[pMethod.maxLocals];
+    Arrays.fill(slots, UNTRACKED);
+    for (AbstractInsnNode instruction : pMethod.instructions) {
+      if (instruction instanceof VarInsnNode varInsn && varInsn.getOpcode() == Opcodes.ILOAD) {
+        slots[varInsn.var] = 0;
+      } else if (instruction instanceof IincInsnNode iinc) {
+        slots[iinc.var] = 0;
+      }
+    }
+
+    int next = 0;
+    for (int local = 0; local < slots.length; local++) {
+      if (slots[local] != UNTRACKED) {
+        slots[local] = next++;
+      }
+    }
+    return slots;
+  }
+
+  /**
+   * Counts the tracked locals of a slot map.
+   *
+   * @param pSlots The slot map
+   * @return The number of tracked locals
+   */
+  public static int trackedLocals(final int[] pSlots) {
+    int tracked = 0;
+    for (int slot : pSlots) {
+      if (slot != UNTRACKED) {
+        tracked++;
+      }
+    }
+    return tracked;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getLocals() {
+    return slots.length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public V getLocal(final int pIndex) {
+    int slot = slots[pIndex];
+    return slot == UNTRACKED ? untracked : super.getLocal(slot);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setLocal(final int pIndex, final V pValue) {
+    int slot = slots[pIndex];
+    if (slot != UNTRACKED) {
+      super.setLocal(slot, pValue);
+    }
+  }
+}
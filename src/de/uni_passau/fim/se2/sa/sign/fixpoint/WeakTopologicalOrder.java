@@ -0,0 +1,201 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A weak topological order of the nodes of a graph as defined by Bourdoncle.
+ *
+ * <p>The order is a sequence of elements. An element is either a single node or a component,
+ * i.e., a loop, that consists of a head and a nested order of its body. Every edge that leads
+ * backwards in the order targets the head of a component that contains its source. Iterating the
+ * components from the inside out therefore stabilises inner loops before outer ones.
+ *
+ * <p>The decomposition follows the strongly connected components of the graph: every non-trivial
+ * component becomes a loop whose head is the node first reached by a depth-first search, and the
+ * rest of the component is decomposed recursively with the edges into the head removed. The
+ * depth-first search is iterative, so deep graphs do not exhaust the Java call stack.
+ */
+public final class WeakTopologicalOrder {
+
+  /** An element of a weak topological order. */
+  public sealed interface Element permits Vertex, Component {}
+
+  /**
+   * A single node that is not part of a cycle at its level of the order.
+   *
+   * @param node The node
+   */
+  public record Vertex(int node) implements Element {
+    @Override
+    public String toString() {
+      return String.valueOf(node);
+    }
+  }
+
+  /**
+   * A loop of the graph.
+   *
+   * @param head The node through which the loop is entered
+   * @param body The order of the other nodes of the loop
+   */
+  public record Component(int head, List<Element> body) implements Element {
+    public Component {
+      body = List.copyOf(body);
+    }
+
+    @Override
+    public String toString() {
+      return body.stream()
+          .map(Element::toString)
+          .collect(Collectors.joining(" ", "(" + head + (body.isEmpty() ? "" : " "), ")"));
+    }
+  }
+
+  private final List<Element> elements;
+
+  private WeakTopologicalOrder(final List<Element> pElements) {
+    elements = pElements;
+  }
+
+  /**
+   * Computes a weak topological order of the nodes reachable from an entry node.
+   *
+   * @param pSuccessors The successors of every node of the graph
+   * @param pEntry The entry node
+   * @return The weak topological order of all nodes reachable from the entry
+   */
+  public static WeakTopologicalOrder compute(final int[][] pSuccessors, final int pEntry) {
+    boolean[] inScope = new boolean[pSuccessors.length];
+    Arrays.fill(inScope, true);
+    return new WeakTopologicalOrder(decompose(pSuccessors, inScope, new int[] {pEntry}));
+  }
+
+  /**
+   * Computes the weak topological order of the control-flow graph of a method.
+   *
+   * @param pGraph The control-flow graph
+   * @return The weak topological order of all blocks reachable from the first block
+   */
+  public static WeakTopologicalOrder compute(final ControlFlowGraph pGraph) {
+    if (pGraph.getBlockCount() == 0) {
+      return new WeakTopologicalOrder(List.of());
+    }
+    return compute(pGraph.successorArrays(), 0);
+  }
+
+  /**
+   * Retrieve the top-level elements of the order.
+   *
+   * @return The elements of the order
+   */
+  public List<Element> getElements() {
+    return elements;
+  }
+
+  @Override
+  public String toString() {
+    return elements.stream().map(Element::toString).collect(Collectors.joining(" "));
+  }
+
+  private static List<Element> decompose(
+      final int[][] pSuccessors, final boolean[] pInScope, final int[] pRoots) {
+    int nodes = pSuccessors.length;
+    int[] index = new int[nodes];
+    int[] lowLink = new int[nodes];
+    boolean[] onStack = new boolean[nodes];
+    Arrays.fill(index, -1);
+    Deque<Integer> stack = new ArrayDeque<>();
+    List<int[]> components = new ArrayList<>();
+    int counter = 0;
+
+    for (int root : pRoots) {
+      if (!pInScope[root] || index[root] != -1) {
+        continue;
+      }
+      // Iterative Tarjan: each entry of the call stack is a node and its next successor position.
+      Deque<int[]> callStack = new ArrayDeque<>();
+      index[root] = lowLink[root] = counter++;
+      stack.push(root);
+      onStack[root] = true;
+      callStack.push(new int[] {root, 0});
+
+      while (!callStack.isEmpty()) {
+        int[] frame = callStack.peek();
+        int node = frame[0];
+        if (frame[1] < pSuccessors[node].length) {
+          int successor = pSuccessors[node][frame[1]++];
+          if (!pInScope[successor]) {
+            continue;
+          }
+          if (index[successor] == -1) {
+            index[successor] = lowLink[successor] = counter++;
+            stack.push(successor);
+            onStack[successor] = true;
+            callStack.push(new int[] {successor, 0});
+          } else if (onStack[successor]) {
+            lowLink[node] = Math.min(lowLink[node], index[successor]);
+          }
+          continue;
+        }
+
+        callStack.pop();
+        if (!callStack.isEmpty()) {
+          int parent = callStack.peek()[0];
+          lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+        }
+        if (lowLink[node] == index[node]) {
+          List<Integer> members = new ArrayList<>();
+          int member;
+          do {
+            member = stack.pop();
+            onStack[member] = false;
+            members.add(member);
+          } while (member != node);
+          components.add(members.stream().mapToInt(Integer::intValue).toArray());
+        }
+      }
+    }
+
+    // Tarjan emits a component after all components reachable from it.
+    Collections.reverse(components);
+    List<Element> elements = new ArrayList<>(components.size());
+    for (int[] members : components) {
+      elements.add(toElement(pSuccessors, members, index));
+    }
+    return elements;
+  }
+
+  private static Element toElement(
+      final int[][] pSuccessors, final int[] pMembers, final int[] pIndex) {
+    if (pMembers.length == 1 && !hasSelfLoop(pSuccessors, pMembers[0])) {
+      return new Vertex(pMembers[0]);
+    }
+
+    int head = pMembers[0];
+    for (int member : pMembers) {
+      if (pIndex[member] < pIndex[head]) {
+        head = member;
+      }
+    }
+    boolean[] bodyScope = new boolean[pSuccessors.length];
+    for (int member : pMembers) {
+      bodyScope[member] = member != head;
+    }
+    return new Component(head, decompose(pSuccessors, bodyScope, pSuccessors[head]));
+  }
+
+  private static boolean hasSelfLoop(final int[][] pSuccessors, final int pNode) {
+    for (int successor : pSuccessors[pNode]) {
+      if (successor == pNode) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
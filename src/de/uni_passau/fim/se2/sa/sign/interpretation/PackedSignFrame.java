@@ -0,0 +1,229 @@
+package de.uni_passau.fim.se2.sa.sign.interpretation;
+
+import de.uni_passau.fim.se2.sa.sign.fixpoint.SparseFrame;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.Interpreter;
+
+/**
+ * A {@link Frame} of the sign analysis that packs its values into four bits each.
+ *
+ * <p>Every slot holds the {@link SignValue#mask()} of its value, sixteen slots per {@code long},
+ * locals first and the operand stack after them. Slots above the top of the stack are kept zero,
+ * such that copying and merging frames work on whole words: the join of two words is the bitwise
+ * OR of the sign bits, with {@link SignValue#UNINITIALIZED_VALUE} and {@link SignValue#BOTTOM}
+ * both acting as neutral elements, as in {@link SignInterpreter#merge(SignValue, SignValue)}.
+ * Merging therefore ignores the interpreter; the frame must only be used with the sign join.
+ *
+ * <p>Like a {@link SparseFrame}, the frame can store only the tracked locals of a method.
+ */
+public final class PackedSignFrame extends Frame<SignValue> {
+
+  private static final int SLOTS_PER_WORD = 16;
+  private static final long LOW_BITS = 0x1111_1111_1111_1111L;
+  private static final long HIGH_BITS = 0x8888_8888_8888_8888L;
+
+  private final int[] slots;
+  private final SignValue untracked;
+  private final int numLocals;
+  private final int maxStack;
+  private final long[] words;
+  private int numStack;
+
+  /**
+   * Constructs a new frame.
+   *
+   * @param pSlots The slot of every local variable, or {@code null} if all locals are tracked
+   * @param pNumLocals The number of local variables, or of tracked locals if slots are given
+   * @param pMaxStack The maximum size of the operand stack
+   * @param pUntracked The value of untracked locals
+   */
+  public PackedSignFrame(
+      final int[] pSlots, final int pNumLocals, final int pMaxStack, final SignValue pUntracked) {
+    super(0, 0);
+    slots = pSlots;
+    untracked = pUntracked;
+    numLocals = pNumLocals;
+    maxStack = pMaxStack;
+    words = new long[(pNumLocals + pMaxStack + SLOTS_PER_WORD - 1) / SLOTS_PER_WORD];
+  }
+
+  /**
+   * Constructs a new frame that tracks all locals.
+   *
+   * @param pNumLocals The number of local variables
+   * @param pMaxStack The maximum size of the operand stack
+   */
+  public PackedSignFrame(final int pNumLocals, final int pMaxStack) {
+    this(null, pNumLocals, pMaxStack, null);
+  }
+
+  /**
+   * Constructs a copy of the given frame.
+   *
+   * @param pFrame The frame to copy
+   */
+  public PackedSignFrame(final PackedSignFrame pFrame) {
+    this(pFrame.slots, pFrame.numLocals, pFrame.maxStack, pFrame.untracked);
+    init(pFrame);
+  }
+
+  /**
+   * Joins two words of packed values slot by slot.
+   *
+   * @param pWord1 The first word
+   * @param pWord2 The second word
+   * @return The word of the joined values
+   */
+  static long join(final long pWord1, final long pWord2) {
+    long uninitialized = ((pWord1 | pWord2) & HIGH_BITS) >>> 3;
+    long uninitialized1 = ((pWord1 & HIGH_BITS) >>> 3) * 0xF;
+    long uninitialized2 = ((pWord2 & HIGH_BITS) >>> 3) * 0xF;
+    long signs = (pWord1 & ~uninitialized1) | (pWord2 & ~uninitialized2);
+    long empty = ~(signs | (signs >>> 1) | (signs >>> 2)) & LOW_BITS;
+    return signs | ((uninitialized & empty) << 3);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Frame<SignValue> init(final Frame<? extends SignValue> pFrame) {
+    PackedSignFrame frame = (PackedSignFrame) pFrame;
+    System.arraycopy(frame.words, 0, words, 0, words.length);
+    numStack = frame.numStack;
+    super.init(pFrame);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getLocals() {
+    return slots == null ? numLocals : slots.length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getMaxStackSize() {
+    return maxStack;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SignValue getLocal(final int pIndex) {
+    int slot = slotOf(pIndex);
+    return slot == SparseFrame.UNTRACKED ? untracked : get(slot);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setLocal(final int pIndex, final SignValue pValue) {
+    int slot = slotOf(pIndex);
+    if (slot != SparseFrame.UNTRACKED) {
+      set(slot, pValue);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getStackSize() {
+    return numStack;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SignValue getStack(final int pIndex) {
+    if (pIndex < 0 || pIndex >= numStack) {
+      throw new IndexOutOfBoundsException("Trying to get an inexistant stack element");
+    }
+    return get(numLocals + pIndex);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setStack(final int pIndex, final SignValue pValue) {
+    if (pIndex < 0 || pIndex >= numStack) {
+      throw new IndexOutOfBoundsException("Trying to set an inexistant stack element");
+    }
+    set(numLocals + pIndex, pValue);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clearStack() {
+    while (numStack > 0) {
+      pop();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SignValue pop() {
+    if (numStack == 0) {
+      throw new IndexOutOfBoundsException("Cannot pop operand off an empty stack.");
+    }
+    int slot = numLocals + --numStack;
+    SignValue value = get(slot);
+    set(slot, SignValue.BOTTOM);
+    return value;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void push(final SignValue pValue) {
+    if (numStack >= maxStack) {
+      throw new IndexOutOfBoundsException("Insufficient maximum stack size.");
+    }
+    set(numLocals + numStack++, pValue);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean merge(
+      final Frame<? extends SignValue> pFrame, final Interpreter<SignValue> pInterpreter)
+      throws AnalyzerException {
+    PackedSignFrame frame = (PackedSignFrame) pFrame;
+    if (numStack != frame.numStack) {
+      throw new AnalyzerException(null, "Incompatible stack heights");
+    }
+    boolean changed = false;
+    for (int i = 0; i < words.length; i++) {
+      long joined = join(words[i], frame.words[i]);
+      changed |= joined != words[i];
+      words[i] = joined;
+    }
+    return changed;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean merge(final Frame<? extends SignValue> pFrame, final boolean[] pLocalsUsed) {
+    PackedSignFrame frame = (PackedSignFrame) pFrame;
+    boolean changed = false;
+    for (int i = 0; i < getLocals(); i++) {
+      int slot = slotOf(i);
+      if (!pLocalsUsed[i] && slot != SparseFrame.UNTRACKED && get(slot) != frame.get(slot)) {
+        set(slot, frame.get(slot));
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  private int slotOf(final int pIndex) {
+    if (pIndex < 0 || pIndex >= getLocals()) {
+      throw new IndexOutOfBoundsException(
+          "Trying to access an inexistant local variable " + pIndex);
+    }
+    return slots == null ? pIndex : slots[pIndex];
+  }
+
+  private SignValue get(final int pSlot) {
+    int shift = (pSlot % SLOTS_PER_WORD) * 4;
+    return SignValue.fromMask((int) (words[pSlot / SLOTS_PER_WORD] >>> shift) & 0xF);
+  }
+
+  private void set(final int pSlot, final SignValue pValue) {
+    int shift = (pSlot % SLOTS_PER_WORD) * 4;
+    int word = pSlot / SLOTS_PER_WORD;
+    words[word] = (words[word] & ~(0xFL << shift)) | ((long) pValue.mask() << shift);
+  }
+}
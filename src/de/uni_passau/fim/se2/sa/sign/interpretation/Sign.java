@@ -3,6 +3,7 @@
 import java.util.Set;
 
 public enum Sign {
+  // The ordinal is the bit of the sign in SignValue#mask(). Don't change the order of enum values!
   MINUS, ZERO, PLUS;
 
   // Set implementation of addition is inspired by LLM
@@ -0,0 +1,171 @@
+package de.uni_passau.fim.se2.sa.sign.interpretation;
+
+import de.uni_passau.fim.se2.sa.sign.fixpoint.BranchRefiner;
+import java.util.List;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.objectweb.asm.tree.analysis.Frame;
+
+/**
+ * Narrows the signs of the ints compared by {@code IFEQ} to {@code IFLE} and {@code IF_ICMPEQ} to
+ * {@code IF_ICMPLE}.
+ *
+ * <p>On every edge, an operand keeps only the signs for which the comparison can have the outcome
+ * of the edge, given the signs of the other operand; {@code IFEQ} and its siblings compare with
+ * zero. If no sign of an operand remains, the edge is infeasible. An operand that has just been
+ * loaded from a local, i.e., by an {@code ILOAD} in the same straight-line code, narrows that local
+ * as well. Unknown values, including the {@link SignValue#UNINITIALIZED_VALUE uninitialised}
+ * parameters of the analysed method, count as {@link SignValue#TOP}. All other jumps are left
+ * unchanged.
+ */
+public final class SignBranchRefiner implements BranchRefiner<SignValue> {
+
+  private static final int LESS = 1;
+  private static final int EQUAL = 2;
+  private static final int GREATER = 4;
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean refine(
+      final JumpInsnNode pJump,
+      final List<SignValue> pOperands,
+      final Frame<SignValue> pFrame,
+      final boolean pTaken) {
+    int opcode = pJump.getOpcode();
+    int relations;
+    SignValue left;
+    SignValue right;
+    if (opcode >= Opcodes.IFEQ && opcode <= Opcodes.IFLE) {
+      relations = relationsOf(opcode - Opcodes.IFEQ);
+      left = known(pOperands.get(0));
+      right = SignValue.ZERO;
+    } else if (opcode >= Opcodes.IF_ICMPEQ && opcode <= Opcodes.IF_ICMPLE) {
+      relations = relationsOf(opcode - Opcodes.IF_ICMPEQ);
+      left = known(pOperands.get(0));
+      right = known(pOperands.get(1));
+    } else {
+      return true;
+    }
+    if (!pTaken) {
+      relations = ~relations & (LESS | EQUAL | GREATER);
+    }
+
+    SignValue refinedLeft = narrow(left, right, relations);
+    SignValue refinedRight = narrow(right, left, mirror(relations));
+    if (refinedLeft == SignValue.BOTTOM || refinedRight == SignValue.BOTTOM) {
+      return false;
+    }
+
+    AbstractInsnNode top = previous(pJump);
+    if (opcode <= Opcodes.IFLE) {
+      narrowLocal(top, left, refinedLeft, pFrame);
+    } else {
+      narrowLocal(top, right, refinedRight, pFrame);
+      if (top != null && pushesOneInt(top)) {
+        narrowLocal(previous(top), left, refinedLeft, pFrame);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Retrieve the relations between the left and the right operand for which a comparison holds.
+   *
+   * @param pCondition The offset of the opcode from {@code IFEQ} or {@code IF_ICMPEQ}
+   */
+  private static int relationsOf(final int pCondition) {
+    return switch (pCondition) {
+      case 0 -> EQUAL;
+      case 1 -> LESS | GREATER;
+      case 2 -> LESS;
+      case 3 -> GREATER | EQUAL;
+      case 4 -> GREATER;
+      default -> LESS | EQUAL;
+    };
+  }
+
+  /** Swaps the operands of a set of relations. */
+  private static int mirror(final int pRelations) {
+    return (pRelations & EQUAL)
+        | ((pRelations & LESS) != 0 ? GREATER : 0)
+        | ((pRelations & GREATER) != 0 ? LESS : 0);
+  }
+
+  /**
+   * Keeps the signs of a value for which one of the relations to some sign of the other value is
+   * possible.
+   */
+  private static SignValue narrow(
+      final SignValue pValue, final SignValue pOther, final int pRelations) {
+    int mask = 0;
+    for (Sign sign : Sign.values()) {
+      int bit = 1 << sign.ordinal();
+      if ((pValue.mask() & bit) == 0) {
+        continue;
+      }
+      for (Sign other : Sign.values()) {
+        if ((pOther.mask() & (1 << other.ordinal())) != 0
+            && (possibleRelations(sign, other) & pRelations) != 0) {
+          mask |= bit;
+          break;
+        }
+      }
+    }
+    return SignValue.fromMask(mask);
+  }
+
+  /** The relations that two ints of the given signs may have. */
+  private static int possibleRelations(final Sign pLeft, final Sign pRight) {
+    int order = Integer.compare(pLeft.ordinal(), pRight.ordinal());
+    if (order < 0) {
+      return LESS;
+    }
+    if (order > 0) {
+      return GREATER;
+    }
+    return pLeft == Sign.ZERO ? EQUAL : LESS | EQUAL | GREATER;
+  }
+
+  private static void narrowLocal(
+      final AbstractInsnNode pLoad,
+      final SignValue pValue,
+      final SignValue pRefined,
+      final Frame<SignValue> pFrame) {
+    if (pRefined != pValue && pLoad != null && pLoad.getOpcode() == Opcodes.ILOAD) {
+      pFrame.setLocal(((VarInsnNode) pLoad).var, pRefined);
+    }
+  }
+
+  /**
+   * Finds the instruction executed right before another one in straight-line code, skipping line
+   * numbers and frames.
+   *
+   * @return The previous instruction, or {@code null} if a label, i.e., a possible jump target,
+   *     comes first
+   */
+  private static AbstractInsnNode previous(final AbstractInsnNode pInstruction) {
+    AbstractInsnNode previous = pInstruction.getPrevious();
+    while (previous != null
+        && (previous.getType() == AbstractInsnNode.LINE
+            || previous.getType() == AbstractInsnNode.FRAME)) {
+      previous = previous.getPrevious();
+    }
+    return previous == null || previous.getType() == AbstractInsnNode.LABEL ? null : previous;
+  }
+
+  /** Whether an instruction only pushes one int, such that the value below stays in place. */
+  private static boolean pushesOneInt(final AbstractInsnNode pInstruction) {
+    int opcode = pInstruction.getOpcode();
+    return opcode == Opcodes.ILOAD
+        || (opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5)
+        || opcode == Opcodes.BIPUSH
+        || opcode == Opcodes.SIPUSH
+        || opcode == Opcodes.LDC;
+  }
+
+  private static SignValue known(final SignValue pValue) {
+    return pValue == SignValue.UNINITIALIZED_VALUE ? SignValue.TOP : pValue;
+  }
+}
@@ -1,6 +1,21 @@
 package de.uni_passau.fim.se2.sa.sign.interpretation;
 
+import de.uni_passau.fim.se2.sa.sign.AnalysisBudget;
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
 import de.uni_passau.fim.se2.sa.sign.ContextAwareSignAnalyzer;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassResolver;
+import de.uni_passau.fim.se2.sa.sign.events.MethodAnalysisEvent;
+import de.uni_passau.fim.se2.sa.sign.events.SummaryHitEvent;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointStatistics;
+import de.uni_passau.fim.se2.sa.sign.slice.BackwardSlice;
+import de.uni_passau.fim.se2.sa.sign.slice.SliceCache;
+import de.uni_passau.fim.se2.sa.sign.slice.SliceCriterion;
+import de.uni_passau.fim.se2.sa.sign.summary.CallContext;
+import de.uni_passau.fim.se2.sa.sign.summary.ContextSensitivity;
+import de.uni_passau.fim.se2.sa.sign.summary.ContextTable;
+import de.uni_passau.fim.se2.sa.sign.summary.SummaryCache;
+import de.uni_passau.fim.se2.sa.sign.summary.SummaryWorklist;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.*;
@@ -8,6 +23,8 @@
 import org.objectweb.asm.tree.analysis.Frame;
 import org.objectweb.asm.tree.analysis.Interpreter;
 
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,11 +33,108 @@
 
 public class SignInterpreter extends Interpreter<SignValue> implements Opcodes {
 
+  private static final TransferRelation TRANSFER_RELATION = new SignTransferRelation();
+
   private final String pClassName;
   private final Map<String, MethodNode> methods;
+  private final SummaryCache summaries;
+  private final AnalysisOptions options;
+  private final FixpointStatistics statistics;
+  private final ClassResolver resolver;
+  private final ContextTable contexts;
+  private final SummaryWorklist worklist;
+  private final CallContext context;
+  private final WorkBudget budget;
+  private final SliceCache slices;
+  private final BackwardSlice slice;
+  private final Map<CallContext, SignValue> readSummaries = new HashMap<>();
+  private InsnList instructions;
 
   public SignInterpreter(final String pClassName, final Map<String, MethodNode> methods) {
-    this(ASM9, pClassName, methods);
+    this(pClassName, methods, new SummaryCache());
+  }
+
+  public SignInterpreter(
+      final String pClassName, final Map<String, MethodNode> methods, final SummaryCache summaries) {
+    this(
+        pClassName,
+        methods,
+        summaries,
+        AnalysisOptions.defaults(),
+        new FixpointStatistics(),
+        null);
+  }
+
+  /**
+   * Constructs an interpreter whose callees are analyzed with the given options.
+   *
+   * @param pClassName The name of the class that contains the method to be analyzed.
+   * @param methods All methods of the class that contains the method to be analyzed.
+   * @param summaries The cache of callee summaries shared by all interpreters of one analysis.
+   * @param options The settings of the analysis.
+   * @param statistics The counters the work of the callee analyses is added to.
+   * @param resolver The index of the methods of other classes, {@code null} to resolve calls only
+   *     within the class to be analyzed.
+   */
+  public SignInterpreter(
+      final String pClassName,
+      final Map<String, MethodNode> methods,
+      final SummaryCache summaries,
+      final AnalysisOptions options,
+      final FixpointStatistics statistics,
+      final ClassResolver resolver) {
+    this(
+        pClassName,
+        methods,
+        summaries,
+        options,
+        statistics,
+        resolver,
+        options.backwardSlicing() ? new SliceCache() : null,
+        null);
+  }
+
+  /**
+   * Constructs an interpreter that only analyzes the calls in a slice of the analyzed method.
+   *
+   * @param pClassName The name of the class that contains the method to be analyzed.
+   * @param methods All methods of the class that contains the method to be analyzed.
+   * @param summaries The cache of callee summaries shared by all interpreters of one analysis.
+   * @param options The settings of the analysis.
+   * @param statistics The counters the work of the callee analyses is added to.
+   * @param resolver The index of the methods of other classes, {@code null} to resolve calls only
+   *     within the class to be analyzed.
+   * @param slices The slices of the analysis run, which are extended by the slices of the callees,
+   *     {@code null} if calls are not sliced.
+   * @param slice The instructions of the analyzed method whose values are relevant, {@code null}
+   *     if all are; calls outside the slice yield {@code TOP}.
+   * @see AnalysisOptions#backwardSlicing()
+   */
+  public SignInterpreter(
+      final String pClassName,
+      final Map<String, MethodNode> methods,
+      final SummaryCache summaries,
+      final AnalysisOptions options,
+      final FixpointStatistics statistics,
+      final ClassResolver resolver,
+      final SliceCache slices,
+      final BackwardSlice slice) {
+    this(
+        ASM9,
+        pClassName,
+        methods,
+        summaries,
+        options,
+        statistics,
+        resolver,
+        newContextTable(options),
+        options.contextSensitivity() == ContextSensitivity.CALL_SITE
+            ? new SummaryWorklist()
+            : null,
+        null,
+        new WorkBudget(options.budget()),
+        slices,
+        slice);
   }
 
   /**
@@ -30,8 +144,55 @@ public SignInterpreter(final String pClassName, final Map<String, MethodNode> me
    *     {@link #ASM5}, {@link #ASM6}, {@link #ASM7}, {@link #ASM8}, or {@link #ASM9}
    * @param pClassName The name of the class that contains the method to be analyzed.
    * @param methods All methods of the class that contains the method to be analyzed.
+   * @param summaries The cache of callee summaries shared by all interpreters of one analysis.
+   */
+  protected SignInterpreter(
+      final int pAPI,
+      final String pClassName,
+      final Map<String, MethodNode> methods,
+      final SummaryCache summaries) {
+    this(
+        pAPI,
+        pClassName,
+        methods,
+        summaries,
+        AnalysisOptions.defaults(),
+        new FixpointStatistics(),
+        null,
+        newContextTable(AnalysisOptions.defaults()),
+        null,
+        null,
+        new WorkBudget(AnalysisBudget.UNLIMITED),
+        null,
+        null);
+  }
+
+  /**
+   * Constructs an interpreter for a callee that is analyzed as part of an interprocedural fixpoint.
+   *
+   * @param contexts The contexts of the callees, shared by all interpreters of one analysis.
+   * @param worklist The state of the running fixpoint, {@code null} outside a fixpoint. Under
+   *     call-site sensitivity, the analyzed method keeps one fixpoint for all of its calls.
+   * @param context The callee context that is analyzed, {@code null} for the analyzed method.
+   * @param budget The work budget of the analysed method, shared with the interpreters of callees.
+   * @param slices The slices of the analysis run, shared by all interpreters of one analysis, or
+   *     {@code null} if calls are not sliced.
+   * @param slice The slice of the analyzed method, {@code null} if all calls are analyzed.
    */
-  protected SignInterpreter(final int pAPI, final String pClassName, final Map<String, MethodNode> methods) {
+  private SignInterpreter(
+      final int pAPI,
+      final String pClassName,
+      final Map<String, MethodNode> methods,
+      final SummaryCache summaries,
+      final AnalysisOptions options,
+      final FixpointStatistics statistics,
+      final ClassResolver resolver,
+      final ContextTable contexts,
+      final SummaryWorklist worklist,
+      final CallContext context,
+      final WorkBudget budget,
+      final SliceCache slices,
+      final BackwardSlice slice) {
     super(pAPI);
     if (getClass() != SignInterpreter.class) {
       throw new IllegalStateException();
@@ -39,6 +200,78 @@ protected SignInterpreter(final int pAPI, final String pClassName, final Map<Str
 
     this.pClassName = pClassName;
     this.methods = methods;
+    this.summaries = summaries;
+    this.options = options;
+    this.statistics = statistics;
+    this.resolver = resolver;
+    this.contexts = contexts;
+    this.worklist = worklist;
+    this.context = context;
+    this.budget = budget;
+    this.slices = slices;
+    this.slice = slice;
+  }
+
+  /**
+   * Retrieve whether a budget ran out during the analysis, such that calls or the frames of the
+   * analysed method have been approximated by {@code TOP}.
+   *
+   * @return {@code true} if the results are degraded
+   * @see AnalysisOptions#budget()
+   */
+  public boolean isDegraded() {
+    return budget.getDegradations() > 0;
+  }
+
+  /**
+   * Retrieve whether the time or the instruction visits ran out, such that the analysis of the
+   * method has been aborted.
+   *
+   * @return {@code true} if the frames of the analysed method are incomplete
+   */
+  public boolean isExhausted() {
+    return budget.isExhausted();
+  }
+
+  /**
+   * Retrieve whether a callee summary that the analyzed method has read grew afterwards and starts
+   * tracking the reads of the next analysis.
+   *
+   * <p>Under call-site sensitivity, a later call may widen the arguments of a context that an
+   * earlier callee has already been analyzed with, such that the summaries of that callee and its
+   * callers grow. The analyzed method then has to be analyzed again with this interpreter, which
+   * reads the grown summaries, until no summary it has read changes anymore.
+   *
+   * @return {@code true} if the frames of the analyzed method may miss values of its callees
+   */
+  public boolean hasStaleSummaries() {
+    boolean stale = false;
+    for (Map.Entry<CallContext, SignValue> read : readSummaries.entrySet()) {
+      stale |= worklist.approximation(read.getKey()) != read.getValue();
+    }
+    readSummaries.clear();
+    return stale;
+  }
+
+  /**
+   * Computes the summary of a callee context unless the summary cache already holds it, e.g., to
+   * fill the cache bottom-up before the methods that call the callee are analysed.
+   *
+   * <p>The summaries of all contexts reached from the callee are computed and cached as well,
+   * unless a budget approximated them.
+   *
+   * @param pCallee The callee context
+   * @return The summary of the callee context
+   * @see de.uni_passau.fim.se2.sa.sign.summary.CallGraph
+   */
+  public SignValue summarize(final CallContext pCallee) {
+    SignValue summary = summaries.get(pCallee);
+    return summary != null ? summary : computeSummary(pCallee);
+  }
+
+  private static ContextTable newContextTable(final AnalysisOptions pOptions) {
+    return new ContextTable(
+        pOptions.contextSensitivity(), pOptions.callSiteDepth(), pOptions.contextLimit());
   }
 
   /** {@inheritDoc} */
@@ -53,6 +286,7 @@ public SignValue newValue(final Type pType) {
   /** {@inheritDoc} */
   @Override
   public SignValue newOperation(final AbstractInsnNode pInstruction) throws AnalyzerException {
+    budget.visit();
     switch (pInstruction.getOpcode()) {
       case Opcodes.ICONST_M1 -> {
         return SignValue.MINUS;
@@ -70,12 +304,12 @@ public SignValue newOperation(final AbstractInsnNode pInstruction) throws Analyz
       case Opcodes.BIPUSH,
            Opcodes.SIPUSH -> {
         int num = ((IntInsnNode) pInstruction).operand;
-        return new SignTransferRelation().evaluate(num);
+        return TRANSFER_RELATION.evaluate(num);
       }
       case Opcodes.LDC -> {
         Object cst = ((LdcInsnNode) pInstruction).cst;
         if (cst instanceof Integer intNum) {
-          return new SignTransferRelation().evaluate(intNum);
+          return TRANSFER_RELATION.evaluate(intNum);
         }
         return SignValue.TOP;
       }
@@ -86,6 +320,7 @@ public SignValue newOperation(final AbstractInsnNode pInstruction) throws Analyz
   /** {@inheritDoc} */
   @Override
   public SignValue copyOperation(final AbstractInsnNode pInstruction, final SignValue pValue) {
+    budget.visit();
     return pValue;
   }
 
@@ -93,20 +328,20 @@ public SignValue copyOperation(final AbstractInsnNode pInstruction, final SignVa
   @Override
   public SignValue unaryOperation(final AbstractInsnNode pInstruction, final SignValue pValue)
       throws AnalyzerException {
+    budget.visit();
     int opcode = pInstruction.getOpcode();
 //    if (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) {
 //      return pValue;
 //    }
 
     if (opcode == Opcodes.INEG) {
-      return new SignTransferRelation().evaluate(Operation.NEG, pValue);
+      return TRANSFER_RELATION.evaluate(Operation.NEG, pValue);
     }
 
     if (pInstruction instanceof IincInsnNode iinc) {
       int increment = iinc.incr;
-      TransferRelation str = new SignTransferRelation();
-      SignValue pRHS = str.evaluate(increment);
-      return str.evaluate(Operation.ADD, pValue, pRHS);
+      SignValue pRHS = TRANSFER_RELATION.evaluate(increment);
+      return TRANSFER_RELATION.evaluate(Operation.ADD, pValue, pRHS);
     }
 
     return pValue;
@@ -116,10 +351,11 @@ public SignValue unaryOperation(final AbstractInsnNode pInstruction, final SignV
   @Override
   public SignValue binaryOperation(
       final AbstractInsnNode pInstruction, final SignValue pValue1, final SignValue pValue2) {
+    budget.visit();
     int opcode = pInstruction.getOpcode();
     if (opcode == Opcodes.IADD || opcode == Opcodes.ISUB || opcode == Opcodes.IMUL || opcode == Opcodes.IDIV){
       Operation operation = getOperationFromOpcode(pInstruction.getOpcode());
-      return new SignTransferRelation().evaluate(operation, pValue1, pValue2);
+      return TRANSFER_RELATION.evaluate(operation, pValue1, pValue2);
     }
     return SignValue.TOP;
   }
@@ -131,6 +367,7 @@ public SignValue ternaryOperation(
       final SignValue pValue1,
       final SignValue pValue2,
       final SignValue pValue3) {
+    budget.visit();
     return null; // Nothing to do.
   }
 
@@ -138,55 +375,287 @@ public SignValue ternaryOperation(
   @Override
   public SignValue naryOperation(
       final AbstractInsnNode pInstruction, final List<? extends SignValue> pValues) {
+    budget.visit();
     if (!(pInstruction instanceof MethodInsnNode methodInsn)) {
       return SignValue.TOP;
     }
+    if (slice != null && !slice.contains(methodInsn)) {
+      statistics.countSlicedCall();
+      return SignValue.TOP;
+    }
 
-    String methodKey = methodInsn.name + ":" + methodInsn.desc;
-    MethodNode targetMethod = methods.get(methodKey);
-    if (targetMethod == null) {
+    String owner = resolveOwner(methodInsn);
+    if (owner == null) {
       return SignValue.TOP;
     }
 
-    boolean isStatic = methodInsn.getOpcode() == Opcodes.INVOKESTATIC;
+    CallContext callee =
+        contexts.contextFor(
+            owner, methodInsn.name, methodInsn.desc, pValues, context, callSite(methodInsn));
+    if (contexts.joinArguments(callee, pValues) && worklist != null) {
+      // The summary computed with the narrower arguments may miss values.
+      worklist.reschedule(callee);
+    }
+    SignValue summary = cachesSummaries() ? summaries.get(callee) : null;
+    if (summary != null) {
+      SummaryHitEvent event = new SummaryHitEvent();
+      if (event.isEnabled()) {
+        event.owner = callee.owner();
+        event.methodKey = callee.methodKey();
+        event.instructions = methodsOf(callee.owner()).get(callee.methodKey()).instructions.size();
+        event.callDepth = (context == null ? 0 : worklist.depth(context)) + 1;
+        event.summary = summary.toString();
+        event.commit();
+      }
+      return summary;
+    }
+    if (context != null) {
+      // Inside a running fixpoint, callees are not analyzed on the Java call stack.
+      return worklist.lookup(callee, context);
+    }
+    return computeSummary(callee);
+  }
+
+  /**
+   * Whether the summaries are stored in the summary cache. The summaries of call-site sensitive
+   * contexts depend on the arguments joined by the context table of one analyzed method, so they
+   * are kept in its fixpoint only.
+   */
+  private boolean cachesSummaries() {
+    return options.contextSensitivity() != ContextSensitivity.CALL_SITE;
+  }
+
+  /**
+   * Identifies a call instruction by the calling method and its position, if the contexts are
+   * call-site sensitive.
+   *
+   * @param pInstruction The call instruction
+   * @return The call site, or {@code null} if call sites do not matter
+   */
+  private String callSite(final AbstractInsnNode pInstruction) {
+    if (options.contextSensitivity() != ContextSensitivity.CALL_SITE) {
+      return null;
+    }
+    if (instructions == null) {
+      instructions = instructionsOf(pInstruction);
+    }
+    int index = instructions.indexOf(pInstruction);
+    String caller = context == null ? pClassName : context.owner() + "." + context.methodKey();
+    return caller + "@" + index;
+  }
+
+  /**
+   * Finds the instructions of the analyzed method, which contain a given instruction.
+   *
+   * @param pInstruction An instruction of the analyzed method
+   * @return The instruction list of the analyzed method
+   */
+  private InsnList instructionsOf(final AbstractInsnNode pInstruction) {
+    if (context != null) {
+      return methodsOf(context.owner()).get(context.methodKey()).instructions;
+    }
+    AbstractInsnNode first = pInstruction;
+    while (first.getPrevious() != null) {
+      first = first.getPrevious();
+    }
+    for (MethodNode method : methods.values()) {
+      if (method.instructions.getFirst() == first) {
+        return method.instructions;
+      }
+    }
+    throw new IllegalStateException("Instruction outside of " + pClassName);
+  }
 
+  /**
+   * Finds the class that declares the method invoked by an instruction.
+   *
+   * <p>Methods of the class to be analyzed are looked up in its method map, all others through the
+   * resolver. The method is identified by its owner, name, and descriptor, so a method of another
+   * class is never confused with a local method of the same name and descriptor.
+   *
+   * @param pInstruction The invocation
+   * @return The internal name of the declaring class, or {@code null} if the method cannot be
+   *     resolved or has no code
+   */
+  private String resolveOwner(final MethodInsnNode pInstruction) {
+    String methodKey = pInstruction.name + ":" + pInstruction.desc;
+    if (pInstruction.owner.equals(pClassName) && methods.get(methodKey) != null) {
+      return pClassName;
+    }
+    if (resolver == null) {
+      return null;
+    }
     try {
-      SignInterpreter newInterpreter = new SignInterpreter(pClassName, methods);
+      ClassResolver.ResolvedMethod resolved =
+          resolver.resolve(pInstruction.owner, pInstruction.name, pInstruction.desc);
+      return resolved == null ? null : resolved.owner().name();
+    } catch (UncheckedIOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Retrieve the methods of a class that declares a callee.
+   *
+   * @param pOwner The internal name of the class
+   * @return The methods of the class by their {@code name:descriptor} keys
+   */
+  private Map<String, MethodNode> methodsOf(final String pOwner) {
+    if (pOwner.equals(pClassName)) {
+      return methods;
+    }
+    ClassModel model = resolver.findClass(pOwner);
+    return model.methods();
+  }
+
+  /**
+   * Computes the summary of a callee context and of all contexts reachable from it.
+   *
+   * <p>The contexts are analyzed from an explicit {@link SummaryWorklist} until their summaries
+   * stop changing. Calls to a context that is still being computed, e.g., a recursive call, yield
+   * its current approximation, which starts at {@link SignValue#BOTTOM}. Afterwards, all reached
+   * summaries are stable and are stored in the summary cache.
+   *
+   * <p>Under call-site sensitivity, the analyzed method keeps one fixpoint for all of its calls,
+   * such that a call that widens the arguments of a context reached before reschedules the context
+   * and, once its summary grows, its callers as well.
+   *
+   * @param pRoot The callee context to compute the summary for
+   * @return The summary of the callee context
+   */
+  private SignValue computeSummary(final CallContext pRoot) {
+    SummaryWorklist fixpoint = worklist == null ? new SummaryWorklist() : worklist;
+    fixpoint.lookup(pRoot, null);
+
+    int degradations = budget.getDegradations();
+    CallContext next;
+    while ((next = fixpoint.poll()) != null) {
+      SignValue returned =
+          budget.admitCallee(fixpoint.depth(next)) ? analyzeCallee(next, fixpoint) : SignValue.TOP;
+      fixpoint.update(next, merge(fixpoint.approximation(next), returned));
+    }
+
+    // Summaries that a budget approximated must not be reused by analyses with a fresh budget.
+    if (cachesSummaries() && budget.getDegradations() == degradations) {
+      fixpoint.approximations().forEach(summaries::put);
+    }
+    SignValue summary = fixpoint.approximation(pRoot);
+    if (worklist != null) {
+      readSummaries.put(pRoot, summary);
+    }
+    return summary;
+  }
+
+  /**
+   * Analyzes a callee once and joins the values it may return.
+   *
+   * @param pCallee The callee context to analyze
+   * @param pFixpoint The fixpoint the analysis is part of
+   * @return The join of all values returned by the callee, {@code TOP} if the analysis fails
+   */
+  private SignValue analyzeCallee(final CallContext pCallee, final SummaryWorklist pFixpoint) {
+    Map<String, MethodNode> calleeMethods = methodsOf(pCallee.owner());
+    MethodNode targetMethod = calleeMethods.get(pCallee.methodKey());
+    boolean isStatic = (targetMethod.access & Opcodes.ACC_STATIC) != 0;
+    BackwardSlice calleeSlice =
+        slices == null
+            ? null
+            : slices.get(pCallee.owner(), targetMethod, SliceCriterion.forCallee(options));
+
+    try {
+      SignInterpreter newInterpreter =
+          new SignInterpreter(
+              api,
+              pCallee.owner(),
+              calleeMethods,
+              summaries,
+              options,
+              statistics,
+              resolver,
+              contexts,
+              pFixpoint,
+              pCallee,
+              budget,
+              slices,
+              calleeSlice);
       ContextAwareSignAnalyzer analyzer = createAnalyzer(
               newInterpreter,
-              pValues,
-              methodInsn.desc,
+              contexts.argumentsOf(pCallee),
+              pCallee.descriptor(),
               isStatic
       );
 
-      Frame<SignValue>[] frames = analyzer.analyze(pClassName, targetMethod);
-      InsnList instructions = targetMethod.instructions;
-      SignValue result = SignValue.BOTTOM;
-
-      for (int i = 0; i < instructions.size(); i++) {
-        AbstractInsnNode insn = instructions.get(i);
-        int opcode = insn.getOpcode();
-
-        if (opcode == Opcodes.IRETURN) {
-          Frame<SignValue> frame = frames[i];
-          if (frame != null && frame.getStackSize() > 0) {
-            SignValue returnValue = frame.getStack(frame.getStackSize() - 1);
-            result = merge(result, returnValue);
-          }
+      MethodAnalysisEvent event = new MethodAnalysisEvent();
+      event.begin();
+      try {
+        return returnValueOf(analyzer, pCallee.owner(), targetMethod);
+      } finally {
+        event.end();
+        if (event.shouldCommit()) {
+          event.owner = pCallee.owner();
+          event.methodKey = pCallee.methodKey();
+          event.instructions = targetMethod.instructions.size();
+          event.visitedInstructions = analyzer.getVisitedInstructions();
+          event.callDepth = pFixpoint.depth(pCallee);
+          event.commit();
         }
       }
-
-      return result;
     } catch (AnalyzerException e) {
       return SignValue.TOP;
     }
   }
 
+  /**
+   * Analyzes a callee and joins the values it may return.
+   *
+   * @param pAnalyzer The analyzer of the callee
+   * @param pOwner The internal name of the class that declares the callee
+   * @param pMethod The callee
+   * @return The join of all returned values
+   * @throws AnalyzerException If the analysis fails
+   */
+  private SignValue returnValueOf(
+      final ContextAwareSignAnalyzer pAnalyzer, final String pOwner, final MethodNode pMethod)
+      throws AnalyzerException {
+    if (options.discardFrames()) {
+      SignValue[] returned = {SignValue.BOTTOM};
+      pAnalyzer.analyze(
+          pOwner,
+          pMethod,
+          (index, insn, frame) -> {
+            if (insn.getOpcode() == Opcodes.IRETURN && frame.getStackSize() > 0) {
+              returned[0] = merge(returned[0], frame.getStack(frame.getStackSize() - 1));
+            }
+          });
+      return returned[0];
+    }
+
+    Frame<SignValue>[] frames = pAnalyzer.analyze(pOwner, pMethod);
+    InsnList instructions = pMethod.instructions;
+    SignValue result = SignValue.BOTTOM;
+
+    for (int i = 0; i < instructions.size(); i++) {
+      AbstractInsnNode insn = instructions.get(i);
+      int opcode = insn.getOpcode();
+
+      if (opcode == Opcodes.IRETURN) {
+        Frame<SignValue> frame = frames[i];
+        if (frame != null && frame.getStackSize() > 0) {
+          SignValue returnValue = frame.getStack(frame.getStackSize() - 1);
+          result = merge(result, returnValue);
+        }
+      }
+    }
+
+    return result;
+  }
+
   protected ContextAwareSignAnalyzer createAnalyzer(SignInterpreter interpreter,
                                                     List<? extends SignValue> values,
                                                     String methodDesc,
                                                     boolean isStatic) {
-    return new ContextAwareSignAnalyzer(interpreter, values, methodDesc, isStatic);
+    return new ContextAwareSignAnalyzer(
+        interpreter, values, methodDesc, isStatic, options, statistics);
   }
 
   /** {@inheritDoc} */
@@ -4,10 +4,32 @@
 import org.objectweb.asm.Opcodes;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public class SignTransferRelation implements TransferRelation {
 
+  // Results of the binary operations ADD, SUB, MUL, and DIV, indexed by operation ordinal and the
+  // masks of the left-hand and right-hand side, including UNINITIALIZED_VALUE.
+  private static final SignValue[][][] BINARY_RESULTS = new SignValue[4][9][9];
+
+  // Results of NEG, indexed by the mask of the operand.
+  private static final SignValue[] NEGATION_RESULTS = new SignValue[9];
+
+  static {
+    for (SignValue value : SignValue.values()) {
+      NEGATION_RESULTS[value.mask()] = computeNegation(value);
+    }
+    for (Operation operation : List.of(Operation.ADD, Operation.SUB, Operation.MUL, Operation.DIV)) {
+      for (SignValue lhs : SignValue.values()) {
+        for (SignValue rhs : SignValue.values()) {
+          BINARY_RESULTS[operation.ordinal()][lhs.mask()][rhs.mask()] =
+              computeBinary(operation, lhs, rhs);
+        }
+      }
+    }
+  }
+
   @Override
   public SignValue evaluate(final int pValue) {
     if (pValue == 0) {
@@ -23,6 +45,10 @@ public SignValue evaluate(final int pValue) {
   public SignValue evaluate(final Operation pOperation, final SignValue pValue) {
     Preconditions.checkState(pOperation == Operation.NEG);
     Preconditions.checkNotNull(pValue);
+    return NEGATION_RESULTS[pValue.mask()];
+  }
+
+  private static SignValue computeNegation(final SignValue pValue) {
     switch (pValue) {
       case BOTTOM -> {
         return SignValue.BOTTOM;
@@ -66,6 +92,16 @@ public SignValue evaluate(
     Preconditions.checkNotNull(pLHS);
     Preconditions.checkNotNull(pRHS);
 
+    return BINARY_RESULTS[pOperation.ordinal()][pLHS.mask()][pRHS.mask()];
+  }
+
+  /**
+   * Computes the result of a binary operation from the signs of its operands.
+   *
+   * <p>Only used to fill the result table once; the analysis itself only looks results up.
+   */
+  private static SignValue computeBinary(
+      final Operation pOperation, final SignValue pLHS, final SignValue pRHS) {
     if (pLHS == SignValue.BOTTOM || pRHS == SignValue.BOTTOM) {
       return SignValue.BOTTOM;
     }
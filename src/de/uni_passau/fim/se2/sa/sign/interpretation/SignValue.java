@@ -19,6 +19,9 @@ public enum SignValue implements Value {
   TOP("⊤", Set.of(Sign.MINUS, Sign.ZERO, Sign.PLUS)), // 7 == MINUS | ZERO | PLUS
   UNINITIALIZED_VALUE("∅", null); // 8
 
+  // Caches values(), which clones the array on every call. The index of a value is its mask.
+  private static final SignValue[] BY_MASK = values();
+
   private final String repr;
   private final Set<Sign> signs;
 
@@ -41,6 +44,30 @@ public String toString() {
     return repr;
   }
 
+  /**
+   * Retrieve the bit mask of this value.
+   *
+   * <p>The lattice elements are encoded by three bits, one for each {@link Sign}: bit 0 for {@link
+   * Sign#MINUS}, bit 1 for {@link Sign#ZERO}, and bit 2 for {@link Sign#PLUS}. {@link
+   * #UNINITIALIZED_VALUE} is encoded as {@code 8}.
+   *
+   * @return The bit mask of this value
+   */
+  public int mask() {
+    return ordinal();
+  }
+
+  /**
+   * Retrieve the value for a bit mask.
+   *
+   * @param pMask A bit mask in the range {@code 0} to {@code 8}
+   * @return The value with the given mask
+   * @see #mask()
+   */
+  public static SignValue fromMask(final int pMask) {
+    return BY_MASK[pMask];
+  }
+
   // Below method is generated by LLM.
   // Please refer to LLM/code_queries.txt
   public SignValue join(final SignValue pOther) {
@@ -48,23 +75,16 @@ public SignValue join(final SignValue pOther) {
         this != UNINITIALIZED_VALUE && pOther != UNINITIALIZED_VALUE,
         "Dummy shall not be used as a value.");
 
-    // BOTTOM joined with anything is the other value
-    if (this == BOTTOM) return pOther;
-    if (pOther == BOTTOM) return this;
-
-    // TOP joined with anything is TOP
-    if (this == TOP || pOther == TOP) return TOP;
-
-    // Perform bitwise OR on ordinal values
-    int joinedOrdinal = this.ordinal() | pOther.ordinal();
-    return SignValue.values()[joinedOrdinal];
+    // The join is the union of the signs, i.e., the bitwise OR of the masks. This also covers
+    // BOTTOM (0) and TOP (7).
+    return BY_MASK[this.ordinal() | pOther.ordinal()];
   }
 
   public boolean isLessOrEqual(final SignValue pOther) {
     Preconditions.checkState(
         this != UNINITIALIZED_VALUE && pOther != UNINITIALIZED_VALUE,
         "Dummy shall not be used as a value.");
-    return this.join(pOther) == pOther;
+    return (this.ordinal() | pOther.ordinal()) == pOther.ordinal();
   }
 
   public static boolean isZero(final SignValue pValue) {
@@ -85,11 +105,10 @@ public static boolean isMaybeNegative(final SignValue pValue) {
 
   public static SignValue fromSigns(Set<Sign> signs) {
     // Map the Set back to the correct SignValue
-    for (SignValue val : values()) {
-      if (val.signs.equals(signs)) {
-        return val;
-      }
+    int mask = 0;
+    for (Sign sign : signs) {
+      mask |= 1 << sign.ordinal();
     }
-    return TOP;
+    return BY_MASK[mask];
   }
 }
@@ -0,0 +1,97 @@
+package de.uni_passau.fim.se2.sa.sign.interpretation;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisBudget;
+
+/**
+ * Tracks the work of the analysis of one method against its {@link AnalysisBudget}.
+ *
+ * <p>A budget is shared by the interpreter of the analysed method and the interpreters of all its
+ * callees, which run on the same thread.
+ */
+final class WorkBudget {
+
+  /** The number of instruction visits between two reads of the clock. */
+  private static final int CLOCK_INTERVAL = 256;
+
+  private final AnalysisBudget limits;
+  private final boolean unlimited;
+  private final long deadline;
+  private long visits;
+  private int calleeAnalyses;
+  private int degradations;
+  private boolean exhausted;
+
+  WorkBudget(final AnalysisBudget pLimits) {
+    limits = pLimits;
+    unlimited = pLimits.isUnlimited();
+    deadline =
+        pLimits.time() == null ? Long.MAX_VALUE : System.nanoTime() + pLimits.time().toNanos();
+  }
+
+  /**
+   * Counts the interpretation of one instruction.
+   *
+   * <p>The analyzers turn the exception into an {@link
+   * org.objectweb.asm.tree.analysis.AnalyzerException} that aborts the analysis.
+   *
+   * @throws IllegalStateException If the time or the instruction visits are exhausted
+   */
+  void visit() {
+    if (unlimited) {
+      return;
+    }
+    if (exhausted) {
+      throw new IllegalStateException("Analysis budget exhausted");
+    }
+    visits++;
+    if (visits > limits.instructionVisits() || (visits % CLOCK_INTERVAL == 0 && isLate())) {
+      exhausted = true;
+      degradations++;
+      throw new IllegalStateException("Analysis budget exhausted");
+    }
+  }
+
+  /**
+   * Decides whether a callee may be analysed and counts its analysis.
+   *
+   * @param pDepth The call depth of the callee, {@code 1} for a callee of the analysed method
+   * @return {@code false} if the call has to be approximated by {@code TOP}
+   */
+  boolean admitCallee(final int pDepth) {
+    if (unlimited) {
+      return true;
+    }
+    if (!exhausted && isLate()) {
+      exhausted = true;
+    }
+    if (exhausted || pDepth > limits.callDepth() || calleeAnalyses >= limits.calleeAnalyses()) {
+      degradations++;
+      return false;
+    }
+    calleeAnalyses++;
+    return true;
+  }
+
+  /**
+   * Retrieve whether the frames of the analysed method have been given up.
+   *
+   * @return {@code true} if the time or the instruction visits are exhausted
+   */
+  boolean isExhausted() {
+    return exhausted;
+  }
+
+  /**
+   * Retrieve how often a budget ran out so far, such that callers can tell whether results
+   * computed in between are precise.
+   *
+   * @return The number of degradations
+   */
+  int getDegradations() {
+    return degradations;
+  }
+
+  private boolean isLate() {
+    return deadline != Long.MAX_VALUE && System.nanoTime() > deadline;
+  }
+}
@@ -0,0 +1,51 @@
+package de.uni_passau.fim.se2.sa.sign.report;
+
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes findings as they are produced, without holding them in memory.
+ *
+ * <p>Closing a writer completes the report and flushes it; the underlying writer is not closed.
+ */
+public interface FindingWriter extends Closeable {
+
+  /**
+   * Writes a finding of a method whose analysis was complete.
+   *
+   * @param pFinding The finding
+   * @throws IOException In case of an I/O error
+   */
+  default void write(final Finding pFinding) throws IOException {
+    write(pFinding, false);
+  }
+
+  /**
+   * Writes a finding.
+   *
+   * @param pFinding The finding
+   * @param pDegraded Whether the analysis of the method ran out of its budget, such that the
+   *     finding may be less precise
+   * @throws IOException In case of an I/O error
+   * @see de.uni_passau.fim.se2.sa.sign.AnalysisBudget
+   */
+  void write(Finding pFinding, boolean pDegraded) throws IOException;
+
+  /**
+   * Creates a writer for a format.
+   *
+   * @param pFormat The format of the report
+   * @param pOut Receives the report
+   * @return The writer
+   * @throws IOException In case of an I/O error while writing the start of the report
+   */
+  static FindingWriter create(final ReportFormat pFormat, final Writer pOut) throws IOException {
+    return switch (pFormat) {
+      case TEXT -> new TextFindingWriter(pOut);
+      case JSONL -> new JsonLinesFindingWriter(pOut);
+      case SARIF -> new SarifFindingWriter(pOut);
+    };
+  }
+}
@@ -0,0 +1,51 @@
+package de.uni_passau.fim.se2.sa.sign.report;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import java.io.IOException;
+import java.io.Writer;
+
+/** Helpers for writing JSON without building a document in memory. */
+final class Json {
+
+  private Json() {}
+
+  /**
+   * Writes a string literal.
+   *
+   * @param pOut Receives the literal
+   * @param pValue The string to quote and escape
+   * @throws IOException In case of an I/O error
+   */
+  static void writeString(final Writer pOut, final String pValue) throws IOException {
+    pOut.write('"');
+    for (int i = 0; i < pValue.length(); i++) {
+      char c = pValue.charAt(i);
+      switch (c) {
+        case '"' -> pOut.write("\\\"");
+        case '\\' -> pOut.write("\\\\");
+        case '\n' -> pOut.write("\\n");
+        case '\r' -> pOut.write("\\r");
+        case '\t' -> pOut.write("\\t");
+        default -> {
+          if (c < 0x20) {
+            pOut.write(String.format("\\u%04x", (int) c));
+          } else {
+            pOut.write(c);
+          }
+        }
+      }
+    }
+    pOut.write('"');
+  }
+
+  /** The SARIF level of a result: definite findings are errors, possible ones warnings. */
+  static String level(final AnalysisResult pResult) {
+    return pResult.isError() ? "error" : "warning";
+  }
+
+  /** The message of a result without its level prefix. */
+  static String message(final AnalysisResult pResult) {
+    String value = pResult.getValue();
+    return value.substring(value.indexOf(':') + 1).strip();
+  }
+}
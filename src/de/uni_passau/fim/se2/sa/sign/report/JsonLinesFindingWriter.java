@@ -0,0 +1,47 @@
+package de.uni_passau.fim.se2.sa.sign.report;
+
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes one JSON object per finding and line, e.g., {@code {"class":"org.example.Foo",
+ * "method":"div:()I","line":12,"result":"DIVISION_BY_ZERO","level":"error",
+ * "message":"Division by Zero detected"}}. The findings of degraded methods carry an additional
+ * {@code "degraded":true}.
+ */
+class JsonLinesFindingWriter implements FindingWriter {
+
+  private final Writer out;
+
+  JsonLinesFindingWriter(final Writer pOut) {
+    out = pOut;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(final Finding pFinding, final boolean pDegraded) throws IOException {
+    out.write("{\"class\":");
+    Json.writeString(out, pFinding.className().replace('/', '.'));
+    out.write(",\"method\":");
+    Json.writeString(out, pFinding.methodKey());
+    out.write(",\"line\":");
+    out.write(Integer.toString(pFinding.lineNumber()));
+    out.write(",\"result\":");
+    Json.writeString(out, pFinding.result().name());
+    out.write(",\"level\":");
+    Json.writeString(out, Json.level(pFinding.result()));
+    out.write(",\"message\":");
+    Json.writeString(out, Json.message(pFinding.result()));
+    if (pDegraded) {
+      out.write(",\"degraded\":true");
+    }
+    out.write("}\n");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() throws IOException {
+    out.flush();
+  }
+}
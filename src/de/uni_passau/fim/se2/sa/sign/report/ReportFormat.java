@@ -0,0 +1,11 @@
+package de.uni_passau.fim.se2.sa.sign.report;
+
+/** The formats in which the command line reports its findings. */
+public enum ReportFormat {
+  /** Human-readable lines. */
+  TEXT,
+  /** One JSON object per finding and line. */
+  JSONL,
+  /** A SARIF 2.1.0 log with one run. */
+  SARIF
+}
@@ -0,0 +1,83 @@
+package de.uni_passau.fim.se2.sa.sign.report;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes a SARIF 2.1.0 log with a single run. The header with the rules is written on creation,
+ * every finding is appended to the results as it arrives, and closing the writer completes the
+ * document.
+ *
+ * <p>The location of a finding refers to the source file that the class name implies, e.g.,
+ * {@code org/example/Foo.java} for {@code org/example/Foo$Bar}, and to the analysed method as a
+ * logical location. The findings of degraded methods carry the property {@code "degraded":true}.
+ */
+class SarifFindingWriter implements FindingWriter {
+
+  private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+  private final Writer out;
+  private boolean first = true;
+
+  SarifFindingWriter(final Writer pOut) throws IOException {
+    out = pOut;
+    out.write("{\"$schema\":\"" + SCHEMA + "\",\"version\":\"2.1.0\",\"runs\":[{\"tool\":{");
+    out.write("\"driver\":{\"name\":\"sign-analysis\",\"rules\":[");
+    AnalysisResult[] results = AnalysisResult.values();
+    for (int i = 0; i < results.length; i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      out.write("{\"id\":");
+      Json.writeString(out, results[i].name());
+      out.write(",\"shortDescription\":{\"text\":");
+      Json.writeString(out, results[i].getValue());
+      out.write("},\"defaultConfiguration\":{\"level\":");
+      Json.writeString(out, Json.level(results[i]));
+      out.write("}}");
+    }
+    out.write("]}},\"results\":[\n");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(final Finding pFinding, final boolean pDegraded) throws IOException {
+    if (!first) {
+      out.write(",\n");
+    }
+    first = false;
+    out.write("{\"ruleId\":");
+    Json.writeString(out, pFinding.result().name());
+    out.write(",\"level\":");
+    Json.writeString(out, Json.level(pFinding.result()));
+    out.write(",\"message\":{\"text\":");
+    Json.writeString(out, Json.message(pFinding.result()));
+    out.write("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":");
+    Json.writeString(out, sourceFileOf(pFinding.className()));
+    out.write("}");
+    if (pFinding.lineNumber() > 0) {
+      out.write(",\"region\":{\"startLine\":" + pFinding.lineNumber() + "}");
+    }
+    out.write("},\"logicalLocations\":[{\"fullyQualifiedName\":");
+    Json.writeString(out, pFinding.className().replace('/', '.') + "." + pFinding.methodKey());
+    out.write(",\"kind\":\"function\"}]}]");
+    if (pDegraded) {
+      out.write(",\"properties\":{\"degraded\":true}");
+    }
+    out.write("}");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() throws IOException {
+    out.write("\n]}]}\n");
+    out.flush();
+  }
+
+  private static String sourceFileOf(final String pClassName) {
+    int nested = pClassName.indexOf('$');
+    return (nested < 0 ? pClassName : pClassName.substring(0, nested)) + ".java";
+  }
+}
@@ -0,0 +1,37 @@
+package de.uni_passau.fim.se2.sa.sign.report;
+
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes one line per finding in the format of a scan. Degraded methods are reported on the error
+ * stream instead.
+ */
+class TextFindingWriter implements FindingWriter {
+
+  private final Writer out;
+  private boolean found = false;
+
+  TextFindingWriter(final Writer pOut) {
+    out = pOut;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(final Finding pFinding, final boolean pDegraded) throws IOException {
+    found = true;
+    out.write(pFinding.toString());
+    out.write(System.lineSeparator());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() throws IOException {
+    if (!found) {
+      out.write("No warnings or errors found");
+      out.write(System.lineSeparator());
+    }
+    out.flush();
+  }
+}
@@ -0,0 +1,37 @@
+package de.uni_passau.fim.se2.sa.sign.scan;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import java.util.Comparator;
+
+/**
+ * One analysis result together with its location.
+ *
+ * <p>Findings are ordered by class, method, line number, and result, which is the order in which
+ * a scan reports them.
+ *
+ * @param className The internal name of the class, e.g., {@code org/example/Foo}
+ * @param methodKey The method in the {@code <name>:<descriptor>} format
+ * @param lineNumber The line number of the finding, {@code -1} if the class has no line numbers
+ * @param result The analysis result
+ */
+public record Finding(String className, String methodKey, int lineNumber, AnalysisResult result)
+    implements Comparable<Finding> {
+
+  private static final Comparator<Finding> ORDER =
+      Comparator.comparing(Finding::className)
+          .thenComparing(Finding::methodKey)
+          .thenComparingInt(Finding::lineNumber)
+          .thenComparing(Finding::result);
+
+  @Override
+  public int compareTo(final Finding pOther) {
+    return ORDER.compare(this, pOther);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s.%s Line %d: %s",
+        className.replace('/', '.'), methodKey, lineNumber, result.getValue());
+  }
+}
@@ -0,0 +1,282 @@
+package de.uni_passau.fim.se2.sa.sign.scan;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.MethodResults;
+import de.uni_passau.fim.se2.sa.sign.SignAnalysisImpl;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassResolver;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClasspathIndex;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+
+/**
+ * Scans all classes of a jar file or of a class directory.
+ *
+ * <p>The scan is a pipeline of four stages that are connected by bounded queues: a reader thread
+ * streams the class files, a parser thread turns them into {@link ClassModel}s, the classes are
+ * analysed on a work-stealing {@link ForkJoinPool}, and a reporter thread collects the findings.
+ * Since all queues are bounded, only a limited number of classes is held in memory at any time,
+ * independent of the size of the scanned artifact.
+ *
+ * <p>Calls between the classes of the scanned artifact are followed; its classes are parsed once
+ * and shared with the analysis through the class model cache.
+ */
+public class ScanPipeline {
+
+  private static final int QUEUE_CAPACITY = 64;
+
+  // Sentinels that mark the end of the stream on the respective queue.
+  private static final ClassFile END_OF_CLASS_FILES = new ClassFile("", new byte[0]);
+  private static final ClassModel END_OF_MODELS = new ClassModel(new ClassNode(), Map.of());
+  private static final List<Finding> END_OF_FINDINGS = new ArrayList<>(0);
+
+  private final SignAnalysisImpl analysis;
+  private final String methodPattern;
+  private final int parallelism;
+
+  /**
+   * Creates a pipeline that analyses on all available processors.
+   *
+   * @param pAnalysis The analysis to run on every class
+   * @param pMethodPattern The glob pattern selecting the methods to analyse in every class
+   */
+  public ScanPipeline(final SignAnalysisImpl pAnalysis, final String pMethodPattern) {
+    this(pAnalysis, pMethodPattern, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a pipeline.
+   *
+   * @param pAnalysis The analysis to run on every class
+   * @param pMethodPattern The glob pattern selecting the methods to analyse in every class
+   * @param pParallelism The number of threads of the analysis stage
+   */
+  public ScanPipeline(
+      final SignAnalysisImpl pAnalysis, final String pMethodPattern, final int pParallelism) {
+    analysis = pAnalysis;
+    methodPattern = pMethodPattern;
+    parallelism = pParallelism;
+  }
+
+  /**
+   * Scans a jar file or a directory of class files.
+   *
+   * <p>Classes that cannot be parsed or analysed do not abort the scan but are reported as
+   * failures of the result.
+   *
+   * @param pSource The jar file or the root directory of the class files
+   * @return The findings of all classes in a deterministic order
+   * @throws IOException In case the source cannot be read
+   * @throws InterruptedException In case the scan is interrupted
+   */
+  public ScanResult scan(final Path pSource) throws IOException, InterruptedException {
+    final BlockingQueue<ClassFile> classFiles = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    final BlockingQueue<ClassModel> models = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    final BlockingQueue<List<Finding>> findings = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    final List<String> degraded = Collections.synchronizedList(new ArrayList<>());
+
+    final ClasspathIndex index = ClasspathIndex.open(List.of(pSource));
+    final ClassResolver resolver = new ClassResolver(index, analysis.getClassModelCache());
+    final ExecutorService stages = Executors.newFixedThreadPool(3);
+    final ForkJoinPool analysers = new ForkJoinPool(parallelism);
+    try (index) {
+      final Future<?> reader = stages.submit(() -> read(pSource, classFiles));
+      final Future<?> parser = stages.submit(() -> parse(classFiles, models, failures));
+      final Future<List<Finding>> reporter = stages.submit(() -> report(findings));
+
+      final int classes = analyse(models, findings, analysers, resolver, failures, degraded);
+      reader.get();
+      parser.get();
+      final List<String> sortedFailures = new ArrayList<>(failures);
+      Collections.sort(sortedFailures);
+      final List<String> sortedDegraded = new ArrayList<>(degraded);
+      Collections.sort(sortedDegraded);
+      return new ScanResult(reporter.get(), classes, sortedFailures, sortedDegraded);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException ioException) {
+        throw ioException.getCause();
+      }
+      throw new IllegalStateException("Scan of " + pSource + " failed", e.getCause());
+    } finally {
+      stages.shutdownNow();
+      analysers.shutdownNow();
+    }
+  }
+
+  /** The read stage: streams the raw class files of the source. */
+  private Void read(final Path pSource, final BlockingQueue<ClassFile> pClassFiles)
+      throws InterruptedException {
+    try {
+      if (Files.isDirectory(pSource)) {
+        readDirectory(pSource, pClassFiles);
+      } else {
+        readJar(pSource, pClassFiles);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      pClassFiles.put(END_OF_CLASS_FILES);
+    }
+    return null;
+  }
+
+  private void readDirectory(final Path pRoot, final BlockingQueue<ClassFile> pClassFiles)
+      throws IOException, InterruptedException {
+    final List<Path> files;
+    try (Stream<Path> paths = Files.walk(pRoot)) {
+      files = paths.filter(path -> isClassFile(pRoot.relativize(path).toString())).toList();
+    }
+    for (final Path file : files) {
+      pClassFiles.put(new ClassFile(pRoot.relativize(file).toString(), Files.readAllBytes(file)));
+    }
+  }
+
+  private void readJar(final Path pJar, final BlockingQueue<ClassFile> pClassFiles)
+      throws IOException, InterruptedException {
+    try (ZipFile jar = new ZipFile(pJar.toFile())) {
+      final Enumeration<? extends ZipEntry> entries = jar.entries();
+      while (entries.hasMoreElements()) {
+        final ZipEntry entry = entries.nextElement();
+        if (entry.isDirectory() || !isClassFile(entry.getName())) {
+          continue;
+        }
+        try (InputStream in = jar.getInputStream(entry)) {
+          pClassFiles.put(new ClassFile(entry.getName(), in.readAllBytes()));
+        }
+      }
+    }
+  }
+
+  private static boolean isClassFile(final String pName) {
+    return pName.endsWith(".class")
+        && !pName.startsWith("META-INF")
+        && !pName.endsWith("module-info.class")
+        && !pName.endsWith("package-info.class");
+  }
+
+  /** The parse stage: turns the raw class files into class models. */
+  private Void parse(
+      final BlockingQueue<ClassFile> pClassFiles,
+      final BlockingQueue<ClassModel> pModels,
+      final List<String> pFailures)
+      throws InterruptedException {
+    try {
+      ClassFile classFile;
+      while ((classFile = pClassFiles.take()) != END_OF_CLASS_FILES) {
+        try {
+          pModels.put(
+              analysis
+                  .getClassModelCache()
+                  .get(classFile.name().replace(File.separatorChar, '/'), classFile.bytes()));
+        } catch (RuntimeException e) {
+          pFailures.add(classFile.name() + ": cannot parse class file: " + e);
+        }
+      }
+    } finally {
+      pModels.put(END_OF_MODELS);
+    }
+    return null;
+  }
+
+  /**
+   * The analysis stage: analyses the classes on the pool.
+   *
+   * <p>At most {@link #QUEUE_CAPACITY} classes are analysed at the same time; the methods of one
+   * class are spread over the pool as well.
+   *
+   * @return The number of analysed classes
+   */
+  private int analyse(
+      final BlockingQueue<ClassModel> pModels,
+      final BlockingQueue<List<Finding>> pFindings,
+      final ForkJoinPool pPool,
+      final ClassResolver pResolver,
+      final List<String> pFailures,
+      final List<String> pDegraded)
+      throws InterruptedException {
+    final Semaphore inFlight = new Semaphore(QUEUE_CAPACITY);
+    final Phaser pending = new Phaser(1);
+    int classes = 0;
+
+    ClassModel model;
+    while ((model = pModels.take()) != END_OF_MODELS) {
+      final ClassModel current = model;
+      inFlight.acquire();
+      pending.register();
+      classes++;
+      pPool.execute(() -> {
+        try {
+          pFindings.put(analyseClass(current, pResolver, pDegraded));
+        } catch (AnalyzerException | RuntimeException e) {
+          pFailures.add(current.name() + ": cannot analyse class: " + e.getMessage());
+        } catch (InterruptedException e) {
+          pFailures.add(current.name() + ": analysis interrupted");
+          Thread.currentThread().interrupt();
+        } finally {
+          inFlight.release();
+          pending.arriveAndDeregister();
+        }
+      });
+    }
+
+    pending.arriveAndAwaitAdvance();
+    pFindings.put(END_OF_FINDINGS);
+    return classes;
+  }
+
+  private List<Finding> analyseClass(
+      final ClassModel pModel, final ClassResolver pResolver, final List<String> pDegraded)
+      throws AnalyzerException {
+    final List<Finding> findings = new ArrayList<>();
+    for (final Map.Entry<String, MethodResults> method :
+        analysis.analyseMethods(pModel, methodPattern, pResolver).entrySet()) {
+      if (method.getValue().degraded()) {
+        pDegraded.add(pModel.name() + "." + method.getKey());
+      }
+      for (final Map.Entry<Integer, AnalysisResult> result :
+          method.getValue().findings().entries()) {
+        findings.add(
+            new Finding(pModel.name(), method.getKey(), result.getKey(), result.getValue()));
+      }
+    }
+    return findings;
+  }
+
+  /** The report stage: collects the findings and brings them into a deterministic order. */
+  private List<Finding> report(final BlockingQueue<List<Finding>> pFindings)
+      throws InterruptedException {
+    final List<Finding> all = new ArrayList<>();
+    List<Finding> findings;
+    while ((findings = pFindings.take()) != END_OF_FINDINGS) {
+      all.addAll(findings);
+    }
+    Collections.sort(all);
+    return all;
+  }
+
+  private record ClassFile(String name, byte[] bytes) {}
+}
@@ -0,0 +1,22 @@
+package de.uni_passau.fim.se2.sa.sign.scan;
+
+import java.util.List;
+
+/**
+ * The outcome of scanning a jar or a class directory.
+ *
+ * @param findings All findings, sorted by class, method, and line number
+ * @param classes The number of classes that have been analysed
+ * @param failures Messages for the classes that could not be parsed or analysed
+ * @param degraded The methods, as {@code <class>.<name>:<descriptor>}, whose analysis ran out of
+ *     its budget, sorted
+ */
+public record ScanResult(
+    List<Finding> findings, int classes, List<String> failures, List<String> degraded) {
+
+  public ScanResult {
+    findings = List.copyOf(findings);
+    failures = List.copyOf(failures);
+    degraded = List.copyOf(degraded);
+  }
+}
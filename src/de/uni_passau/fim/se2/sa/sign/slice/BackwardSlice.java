@@ -0,0 +1,204 @@
+package de.uni_passau.fim.se2.sa.sign.slice;
+
+import de.uni_passau.fim.se2.sa.sign.check.Checker;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+/**
+ * The instructions of a method that produce a value the analysis results depend on, directly or
+ * through the stack and the local variables.
+ *
+ * <p>The slice follows the data dependencies backwards from the values of a {@link
+ * SliceCriterion}: from a value to the instructions that may have produced it, and from those to
+ * the producers of their operands. The producers are computed by ASM's {@link SourceInterpreter},
+ * where a load depends on the stores that reach it. Parameters have no producer. Control
+ * dependencies are only followed if the criterion includes the operands of conditional jumps.
+ *
+ * <p>The sign analysis uses the slice to skip calls whose results never reach a relevant value:
+ * such calls yield {@code TOP} without analysing the callee. Since the sign analysis only tracks
+ * the stack and the local variables, a call has no other effect on the results.
+ */
+public final class BackwardSlice {
+
+  private static final BackwardSlice ALL = new BackwardSlice(null);
+
+  private final Set<AbstractInsnNode> instructions;
+
+  private BackwardSlice(final Set<AbstractInsnNode> pInstructions) {
+    instructions = pInstructions;
+  }
+
+  /**
+   * Computes the backward slice of a method.
+   *
+   * @param pOwner The internal name of the class that declares the method
+   * @param pMethod The method
+   * @param pCriterion The values the slice is taken from
+   * @return The slice, which contains all instructions if the method calls no other method or if
+   *     its data dependencies cannot be computed
+   */
+  public static BackwardSlice compute(
+      final String pOwner, final MethodNode pMethod, final SliceCriterion pCriterion) {
+    // The slice only decides which calls are analysed.
+    if (!hasCalls(pMethod)) {
+      return ALL;
+    }
+    DependencyInterpreter dependencies = new DependencyInterpreter();
+    Frame<SourceValue>[] frames;
+    try {
+      frames = new Analyzer<>(dependencies).analyze(pOwner, pMethod);
+    } catch (AnalyzerException e) {
+      return ALL;
+    }
+
+    Set<AbstractInsnNode> slice = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<AbstractInsnNode> pending = new ArrayDeque<>();
+    for (int i = 0; i < frames.length; i++) {
+      Frame<SourceValue> frame = frames[i];
+      if (frame == null) {
+        continue;
+      }
+      AbstractInsnNode instruction = pMethod.instructions.get(i);
+      if (pCriterion.isRelevant(instruction)) {
+        add(dependencies.operandsOf(instruction), slice, pending);
+      }
+      Checker[] checkers =
+          pCriterion.checkers() == null
+              ? null
+              : pCriterion.checkers().checkersFor(instruction.getOpcode());
+      if (checkers != null) {
+        for (Checker checker : checkers) {
+          SourceValue operand = frame.getStack(frame.getStackSize() - 1 - checker.operandDepth());
+          add(operand.insns, slice, pending);
+        }
+      }
+    }
+
+    while (!pending.isEmpty()) {
+      add(dependencies.operandsOf(pending.pop()), slice, pending);
+    }
+    return new BackwardSlice(slice);
+  }
+
+  private static boolean hasCalls(final MethodNode pMethod) {
+    for (AbstractInsnNode instruction : pMethod.instructions) {
+      if (instruction instanceof MethodInsnNode) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void add(
+      final Collection<AbstractInsnNode> pProducers,
+      final Set<AbstractInsnNode> pSlice,
+      final Deque<AbstractInsnNode> pPending) {
+    for (AbstractInsnNode producer : pProducers) {
+      if (pSlice.add(producer)) {
+        pPending.push(producer);
+      }
+    }
+  }
+
+  /**
+   * Retrieve whether an instruction belongs to the slice.
+   *
+   * @param pInstruction An instruction of the sliced method
+   * @return {@code true} if a relevant value may depend on the value the instruction produces
+   */
+  public boolean contains(final AbstractInsnNode pInstruction) {
+    return instructions == null || instructions.contains(pInstruction);
+  }
+
+  /**
+   * Retrieve the number of instructions in the slice.
+   *
+   * @return The size of the slice, or {@code -1} if it contains all instructions
+   */
+  public int size() {
+    return instructions == null ? -1 : instructions.size();
+  }
+
+  /** Records the producers of the operands of every instruction while ASM computes the sources. */
+  private static final class DependencyInterpreter extends SourceInterpreter {
+
+    private final Map<AbstractInsnNode, Set<AbstractInsnNode>> operands = new IdentityHashMap<>();
+
+    DependencyInterpreter() {
+      super(Opcodes.ASM9);
+    }
+
+    Set<AbstractInsnNode> operandsOf(final AbstractInsnNode pInstruction) {
+      return operands.getOrDefault(pInstruction, Set.of());
+    }
+
+    private void record(final AbstractInsnNode pInstruction, final SourceValue... pOperands) {
+      Set<AbstractInsnNode> producers =
+          operands.computeIfAbsent(pInstruction, key -> new HashSet<>());
+      for (SourceValue operand : pOperands) {
+        producers.addAll(operand.insns);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SourceValue copyOperation(
+        final AbstractInsnNode pInstruction, final SourceValue pValue) {
+      record(pInstruction, pValue);
+      return super.copyOperation(pInstruction, pValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SourceValue unaryOperation(
+        final AbstractInsnNode pInstruction, final SourceValue pValue) {
+      record(pInstruction, pValue);
+      return super.unaryOperation(pInstruction, pValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SourceValue binaryOperation(
+        final AbstractInsnNode pInstruction,
+        final SourceValue pValue1,
+        final SourceValue pValue2) {
+      record(pInstruction, pValue1, pValue2);
+      return super.binaryOperation(pInstruction, pValue1, pValue2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SourceValue ternaryOperation(
+        final AbstractInsnNode pInstruction,
+        final SourceValue pValue1,
+        final SourceValue pValue2,
+        final SourceValue pValue3) {
+      record(pInstruction, pValue1, pValue2, pValue3);
+      return super.ternaryOperation(pInstruction, pValue1, pValue2, pValue3);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SourceValue naryOperation(
+        final AbstractInsnNode pInstruction, final List<? extends SourceValue> pValues) {
+      record(pInstruction, pValues.toArray(SourceValue[]::new));
+      return super.naryOperation(pInstruction, pValues);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package de.uni_passau.fim.se2.sa.sign.slice;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Stores the {@link BackwardSlice} of every method per {@link SliceCriterion}.
+ *
+ * <p>A cache is created per analysis run and shared by the call graph and all interpreters of the
+ * run, such that every method is sliced once per criterion. Methods are compared by identity,
+ * which is stable as long as the parsed classes are. The cache is thread-safe.
+ */
+public class SliceCache {
+
+  private final Map<Key, BackwardSlice> slices = new ConcurrentHashMap<>();
+
+  /**
+   * Retrieve the slice of a method, computing it on the first request.
+   *
+   * @param pOwner The internal name of the class that declares the method
+   * @param pMethod The method
+   * @param pCriterion The values the slice is taken from
+   * @return The slice
+   * @see BackwardSlice#compute(String, MethodNode, SliceCriterion)
+   */
+  public BackwardSlice get(
+      final String pOwner, final MethodNode pMethod, final SliceCriterion pCriterion) {
+    return slices.computeIfAbsent(
+        new Key(pMethod, pCriterion),
+        key -> BackwardSlice.compute(pOwner, pMethod, pCriterion));
+  }
+
+  public int size() {
+    return slices.size();
+  }
+
+  private record Key(MethodNode method, SliceCriterion criterion) {}
+}
@@ -0,0 +1,60 @@
+package de.uni_passau.fim.se2.sa.sign.slice;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
+import de.uni_passau.fim.se2.sa.sign.check.CheckerRegistry;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+
+/**
+ * The values a {@link BackwardSlice} is taken from.
+ *
+ * @param checkers The checkers whose operands are relevant, or {@code null} if no check is
+ *     reported, as for a callee
+ * @param returns Whether the values returned by {@code IRETURN} are relevant
+ * @param branches Whether the ints compared by conditional jumps are relevant, since they decide
+ *     which code is reachable when branches are refined
+ */
+public record SliceCriterion(CheckerRegistry checkers, boolean returns, boolean branches) {
+
+  /**
+   * Retrieve the criterion of a method whose findings are reported: the operands of its checks.
+   *
+   * @param pOptions The settings of the analysis
+   * @return The criterion
+   */
+  public static SliceCriterion forAnalysedMethod(final AnalysisOptions pOptions) {
+    return new SliceCriterion(pOptions.checkers(), false, pOptions.refineBranches());
+  }
+
+  /**
+   * Retrieve the criterion of a callee, whose only result is the summary of its return values.
+   *
+   * @param pOptions The settings of the analysis
+   * @return The criterion
+   */
+  public static SliceCriterion forCallee(final AnalysisOptions pOptions) {
+    return new SliceCriterion(null, true, pOptions.refineBranches());
+  }
+
+  /**
+   * Retrieve the criterion of a method that is analysed and called as well.
+   *
+   * @param pOptions The settings of the analysis
+   * @return The criterion
+   */
+  public static SliceCriterion forAnalysedCallee(final AnalysisOptions pOptions) {
+    return new SliceCriterion(pOptions.checkers(), true, pOptions.refineBranches());
+  }
+
+  /**
+   * Retrieve whether all operands of an instruction are relevant, apart from checked operands.
+   *
+   * @param pInstruction The instruction
+   * @return {@code true} if the producers of all operands belong to the slice
+   */
+  boolean isRelevant(final AbstractInsnNode pInstruction) {
+    int opcode = pInstruction.getOpcode();
+    return (returns && opcode == Opcodes.IRETURN)
+        || (branches && opcode >= Opcodes.IFEQ && opcode <= Opcodes.IF_ICMPLE);
+  }
+}
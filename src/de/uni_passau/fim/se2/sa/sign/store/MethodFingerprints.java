@@ -0,0 +1,268 @@
+package de.uni_passau.fim.se2.sa.sign.store;
+
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassResolver;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+/**
+ * Computes the fingerprints that decide whether a stored result of a method is still valid.
+ *
+ * <p>The fingerprint of a method is a SHA-256 digest of its instructions, line numbers, and
+ * exception handlers, salted with the settings of the analysis. Labels are identified by their
+ * position, such that the fingerprint does not depend on the identity of the parsed nodes. The
+ * fingerprint of the dependencies of a method digests the fingerprints of all methods that the
+ * analysis may follow from it, i.e., of its transitive callees in the analysed class and in the
+ * classes known to the resolver.
+ *
+ * <p>An instance memoizes the fingerprints of one analysis run and is thread-safe.
+ */
+public class MethodFingerprints {
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  private final ClassResolver resolver;
+  private final String salt;
+  private final Map<String, byte[]> fingerprints = new ConcurrentHashMap<>();
+  private final Map<String, List<Callee>> callees = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the fingerprints of one analysis run.
+   *
+   * @param pResolver The index of the methods of other classes, or {@code null} if calls into
+   *     other classes are not followed
+   * @param pSalt Describes the settings of the analysis that the results depend on
+   */
+  public MethodFingerprints(final ClassResolver pResolver, final String pSalt) {
+    resolver = pResolver;
+    salt = pSalt;
+  }
+
+  /**
+   * Computes the fingerprint of the code of a method.
+   *
+   * @param pOwner The class that declares the method
+   * @param pMethod The method
+   * @return The fingerprint as a hexadecimal string
+   */
+  public String fingerprint(final ClassModel pOwner, final MethodNode pMethod) {
+    return HEX.formatHex(digestOf(pOwner.name(), pMethod));
+  }
+
+  /**
+   * Computes the fingerprint of the transitive callees of a method.
+   *
+   * @param pOwner The class that declares the method
+   * @param pMethod The method
+   * @return The fingerprint as a hexadecimal string
+   */
+  public String dependencies(final ClassModel pOwner, final MethodNode pMethod) {
+    Map<String, byte[]> reachable = new TreeMap<>();
+    Set<String> visited = new TreeSet<>();
+    Deque<Callee> pending = new ArrayDeque<>(calleesOf(pOwner, pMethod));
+    visited.add(idOf(pOwner.name(), pMethod));
+    while (!pending.isEmpty()) {
+      Callee callee = pending.pop();
+      String id = idOf(callee.owner().name(), callee.method());
+      if (visited.add(id)) {
+        reachable.put(id, digestOf(callee.owner().name(), callee.method()));
+        pending.addAll(calleesOf(callee.owner(), callee.method()));
+      }
+    }
+
+    MessageDigest digest = newDigest();
+    for (Map.Entry<String, byte[]> entry : reachable.entrySet()) {
+      digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+      digest.update(entry.getValue());
+    }
+    return HEX.formatHex(digest.digest());
+  }
+
+  /**
+   * Identifies a method across classes.
+   *
+   * @param pOwner The internal name of the class that declares the method
+   * @param pMethod The method
+   * @return The identifier in the {@code <owner>.<name>:<descriptor>} format
+   */
+  public static String idOf(final String pOwner, final MethodNode pMethod) {
+    return pOwner + "." + pMethod.name + ":" + pMethod.desc;
+  }
+
+  private byte[] digestOf(final String pOwner, final MethodNode pMethod) {
+    return fingerprints.computeIfAbsent(idOf(pOwner, pMethod), id -> digest(salt, pMethod));
+  }
+
+  /** Resolves the calls of a method the same way as the interpreter does. */
+  private List<Callee> calleesOf(final ClassModel pOwner, final MethodNode pMethod) {
+    return callees.computeIfAbsent(
+        idOf(pOwner.name(), pMethod),
+        id -> {
+          List<Callee> result = new ArrayList<>();
+          for (AbstractInsnNode insn : pMethod.instructions) {
+            if (insn instanceof MethodInsnNode call) {
+              Callee callee = resolve(pOwner, call);
+              if (callee != null) {
+                result.add(callee);
+              }
+            }
+          }
+          return result;
+        });
+  }
+
+  private Callee resolve(final ClassModel pOwner, final MethodInsnNode pCall) {
+    if (pCall.owner.equals(pOwner.name())) {
+      MethodNode local = pOwner.method(pCall.name + ":" + pCall.desc);
+      if (local != null) {
+        return new Callee(pOwner, local);
+      }
+    }
+    if (resolver == null) {
+      return null;
+    }
+    try {
+      ClassResolver.ResolvedMethod resolved =
+          resolver.resolve(pCall.owner, pCall.name, pCall.desc);
+      return resolved == null ? null : new Callee(resolved.owner(), resolved.method());
+    } catch (UncheckedIOException e) {
+      return null;
+    }
+  }
+
+  private static byte[] digest(final String pSalt, final MethodNode pMethod) {
+    MessageDigest digest = newDigest();
+    try (DataOutputStream out =
+        new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+      out.writeUTF(pSalt);
+      out.writeInt(pMethod.access);
+      out.writeUTF(pMethod.name);
+      out.writeUTF(pMethod.desc);
+      for (AbstractInsnNode insn : pMethod.instructions) {
+        write(out, pMethod, insn);
+      }
+      for (TryCatchBlockNode handler : pMethod.tryCatchBlocks) {
+        out.writeInt(indexOf(pMethod, handler.start));
+        out.writeInt(indexOf(pMethod, handler.end));
+        out.writeInt(indexOf(pMethod, handler.handler));
+        out.writeUTF(String.valueOf(handler.type));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return digest.digest();
+  }
+
+  private static void write(
+      final DataOutputStream pOut, final MethodNode pMethod, final AbstractInsnNode pInsn)
+      throws IOException {
+    pOut.writeByte(pInsn.getType());
+    pOut.writeShort(pInsn.getOpcode());
+    switch (pInsn) {
+      case IntInsnNode insn -> pOut.writeInt(insn.operand);
+      case VarInsnNode insn -> pOut.writeInt(insn.var);
+      case TypeInsnNode insn -> pOut.writeUTF(insn.desc);
+      case FieldInsnNode insn -> {
+        pOut.writeUTF(insn.owner);
+        pOut.writeUTF(insn.name);
+        pOut.writeUTF(insn.desc);
+      }
+      case MethodInsnNode insn -> {
+        pOut.writeUTF(insn.owner);
+        pOut.writeUTF(insn.name);
+        pOut.writeUTF(insn.desc);
+        pOut.writeBoolean(insn.itf);
+      }
+      case InvokeDynamicInsnNode insn -> {
+        pOut.writeUTF(insn.name);
+        pOut.writeUTF(insn.desc);
+        pOut.writeUTF(String.valueOf(insn.bsm));
+        for (Object argument : insn.bsmArgs) {
+          pOut.writeUTF(String.valueOf(argument));
+        }
+      }
+      case JumpInsnNode insn -> pOut.writeInt(indexOf(pMethod, insn.label));
+      case LdcInsnNode insn -> {
+        pOut.writeUTF(insn.cst.getClass().getName());
+        pOut.writeUTF(String.valueOf(insn.cst));
+      }
+      case IincInsnNode insn -> {
+        pOut.writeInt(insn.var);
+        pOut.writeInt(insn.incr);
+      }
+      case TableSwitchInsnNode insn -> {
+        pOut.writeInt(insn.min);
+        pOut.writeInt(insn.max);
+        pOut.writeInt(indexOf(pMethod, insn.dflt));
+        for (LabelNode label : insn.labels) {
+          pOut.writeInt(indexOf(pMethod, label));
+        }
+      }
+      case LookupSwitchInsnNode insn -> {
+        pOut.writeInt(indexOf(pMethod, insn.dflt));
+        for (int i = 0; i < insn.keys.size(); i++) {
+          pOut.writeInt(insn.keys.get(i));
+          pOut.writeInt(indexOf(pMethod, insn.labels.get(i)));
+        }
+      }
+      case MultiANewArrayInsnNode insn -> {
+        pOut.writeUTF(insn.desc);
+        pOut.writeInt(insn.dims);
+      }
+      case LineNumberNode insn -> {
+        pOut.writeInt(insn.line);
+        pOut.writeInt(indexOf(pMethod, insn.start));
+      }
+      default -> {
+        // Labels are identified by their position, frames are derived from the instructions.
+      }
+    }
+  }
+
+  private static int indexOf(final MethodNode pMethod, final LabelNode pLabel) {
+    return pMethod.instructions.indexOf(pLabel);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private record Callee(ClassModel owner, MethodNode method) {}
+}
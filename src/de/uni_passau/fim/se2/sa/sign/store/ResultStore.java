@@ -0,0 +1,200 @@
+package de.uni_passau.fim.se2.sa.sign.store;
+
+import com.google.common.collect.SortedSetMultimap;
+import com.google.common.collect.TreeMultimap;
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the findings of analysed methods on disk across runs.
+ *
+ * <p>Every entry records the fingerprint of the code of a method and the fingerprint of its
+ * transitive callees, see {@link MethodFingerprints}. A stored result is only returned if both
+ * fingerprints still match, such that changing a method invalidates the results of the method
+ * and of all its transitive callers, while all other methods are served from the store.
+ *
+ * <p>The store is a text file with one entry per line. It is read completely by {@link
+ * #open(Path)} and replaced atomically by {@link #save()}. Entries of methods that are not
+ * analysed in a run are kept. The store is thread-safe.
+ */
+public class ResultStore {
+
+  private static final String HEADER = "sign-analysis-store 1";
+  private static final char SEPARATOR = '\t';
+
+  private final Path file;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private ResultStore(final Path pFile) {
+    file = pFile;
+  }
+
+  /**
+   * Opens a store, reading its entries if the file exists.
+   *
+   * <p>A file written by another version of the store, or with malformed content, e.g., since a
+   * save was interrupted, is ignored and replaced on the next {@link #save()}.
+   *
+   * @param pFile The file of the store
+   * @return The store
+   * @throws IOException In case of an I/O error
+   */
+  public static ResultStore open(final Path pFile) throws IOException {
+    ResultStore store = new ResultStore(pFile);
+    if (!Files.exists(pFile)) {
+      return store;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(pFile, StandardCharsets.UTF_8)) {
+      if (!HEADER.equals(reader.readLine())) {
+        return store;
+      }
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+        SortedSetMultimap<Integer, AnalysisResult> findings =
+            fields.length == 4 ? parseFindings(fields[3]) : null;
+        if (findings == null) {
+          return new ResultStore(pFile);
+        }
+        store.entries.put(fields[0], new Entry(fields[1], fields[2], findings));
+      }
+    }
+    return store;
+  }
+
+  /**
+   * Looks up the findings of a method.
+   *
+   * @param pMethodId The method in the {@code <owner>.<name>:<descriptor>} format
+   * @param pFingerprint The current fingerprint of the method
+   * @param pDependencies The current fingerprint of the transitive callees of the method
+   * @return A copy of the stored findings, or {@code null} if there is no valid entry
+   */
+  public SortedSetMultimap<Integer, AnalysisResult> get(
+      final String pMethodId, final String pFingerprint, final String pDependencies) {
+    Entry entry = entries.get(pMethodId);
+    if (entry == null
+        || !entry.fingerprint().equals(pFingerprint)
+        || !entry.dependencies().equals(pDependencies)) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return TreeMultimap.create(entry.findings());
+  }
+
+  /**
+   * Stores the findings of a method, replacing a previous entry.
+   *
+   * @param pMethodId The method in the {@code <owner>.<name>:<descriptor>} format
+   * @param pFingerprint The fingerprint of the method
+   * @param pDependencies The fingerprint of the transitive callees of the method
+   * @param pFindings The findings of the method
+   */
+  public void put(
+      final String pMethodId,
+      final String pFingerprint,
+      final String pDependencies,
+      final SortedSetMultimap<Integer, AnalysisResult> pFindings) {
+    entries.put(pMethodId, new Entry(pFingerprint, pDependencies, TreeMultimap.create(pFindings)));
+  }
+
+  /**
+   * Writes all entries to the file of the store.
+   *
+   * @throws IOException In case of an I/O error
+   */
+  public void save() throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+        writer.write(HEADER);
+        writer.newLine();
+        for (Map.Entry<String, Entry> entry : new TreeMap<>(entries).entrySet()) {
+          Entry value = entry.getValue();
+          writer.write(entry.getKey());
+          writer.write(SEPARATOR);
+          writer.write(value.fingerprint());
+          writer.write(SEPARATOR);
+          writer.write(value.dependencies());
+          writer.write(SEPARATOR);
+          writer.write(formatFindings(value.findings()));
+          writer.newLine();
+        }
+      }
+      Files.move(
+          temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public String toString() {
+    return size() + " stored methods, " + getHits() + " reused, " + getMisses() + " analysed";
+  }
+
+  private static String formatFindings(final SortedSetMultimap<Integer, AnalysisResult> pFindings) {
+    StringBuilder result = new StringBuilder();
+    for (Map.Entry<Integer, AnalysisResult> finding : pFindings.entries()) {
+      if (!result.isEmpty()) {
+        result.append(',');
+      }
+      result.append(finding.getKey()).append(':').append(finding.getValue().name());
+    }
+    return result.toString();
+  }
+
+  /** Parses the findings of an entry, {@code null} if they are malformed. */
+  private static SortedSetMultimap<Integer, AnalysisResult> parseFindings(final String pFindings) {
+    SortedSetMultimap<Integer, AnalysisResult> findings = TreeMultimap.create();
+    if (pFindings.isEmpty()) {
+      return findings;
+    }
+    for (String finding : pFindings.split(",")) {
+      int colon = finding.indexOf(':');
+      if (colon < 0) {
+        return null;
+      }
+      try {
+        findings.put(
+            Integer.parseInt(finding.substring(0, colon)),
+            AnalysisResult.valueOf(finding.substring(colon + 1)));
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+    return findings;
+  }
+
+  private record Entry(
+      String fingerprint,
+      String dependencies,
+      SortedSetMultimap<Integer, AnalysisResult> findings) {}
+}
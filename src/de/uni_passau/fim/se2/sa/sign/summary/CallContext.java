@@ -0,0 +1,61 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import java.util.List;
+
+/**
+ * Identifies one analysis of a callee: the called method together with the abstract values its
+ * parameters start with and, for call-site sensitivity, the call sites that lead to it.
+ *
+ * <p>An empty argument list stands for the context-insensitive analysis, in which all parameters
+ * are unknown. A call-site sensitive context has no arguments either; the values its parameters
+ * start with are kept by the {@link ContextTable}, since they grow with further calls.
+ *
+ * @param owner The internal name of the class that declares the callee
+ * @param name The name of the callee
+ * @param descriptor The descriptor of the callee
+ * @param arguments The abstract values of the arguments, including the receiver for instance calls
+ * @param callSites The most recent call sites leading to the callee, the innermost last
+ */
+public record CallContext(
+    String owner,
+    String name,
+    String descriptor,
+    List<SignValue> arguments,
+    List<String> callSites) {
+
+  public CallContext {
+    arguments = List.copyOf(arguments);
+    callSites = List.copyOf(callSites);
+  }
+
+  /**
+   * Creates a context that does not distinguish call sites.
+   *
+   * @param owner The internal name of the class that declares the callee
+   * @param name The name of the callee
+   * @param descriptor The descriptor of the callee
+   * @param arguments The abstract values of the arguments
+   */
+  public CallContext(
+      final String owner,
+      final String name,
+      final String descriptor,
+      final List<SignValue> arguments) {
+    this(owner, name, descriptor, arguments, List.of());
+  }
+
+  /**
+   * Retrieve the key of the callee in the {@code name:descriptor} format.
+   *
+   * @return The method key of the callee
+   */
+  public String methodKey() {
+    return name + ":" + descriptor;
+  }
+
+  @Override
+  public String toString() {
+    return owner + "." + methodKey() + arguments + (callSites.isEmpty() ? "" : callSites);
+  }
+}
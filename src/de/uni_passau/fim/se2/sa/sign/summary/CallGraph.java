@@ -0,0 +1,263 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassResolver;
+import de.uni_passau.fim.se2.sa.sign.slice.BackwardSlice;
+import de.uni_passau.fim.se2.sa.sign.slice.SliceCache;
+import de.uni_passau.fim.se2.sa.sign.slice.SliceCriterion;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.connectivity.KosarajuStrongConnectivityInspector;
+import org.jgrapht.graph.AsUnmodifiableGraph;
+import org.jgrapht.graph.DefaultDirectedGraph;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.traverse.TopologicalOrderIterator;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * The methods that the analysis may follow from a set of analysed methods, with an edge from every
+ * caller to each of its callees.
+ *
+ * <p>Every method is represented by its merged {@link CallContext}, in which all parameters are
+ * unknown, i.e., by the key of its context-insensitive summary. Calls are resolved the same way as
+ * the interpreter resolves them: within the analysed class first, then through the resolver.
+ * With {@link AnalysisOptions#backwardSlicing() backward slicing}, calls outside the slice of the
+ * caller are left out, since the interpreter does not analyse them either.
+ *
+ * <p>The strongly connected components of the graph are the groups of mutually recursive
+ * methods. Processing them in reverse topological order visits every callee before its callers,
+ * such that summaries can be computed bottom-up, see {@link #computeBottomUp(Consumer, Executor)}.
+ */
+public class CallGraph {
+
+  private final Graph<CallContext, DefaultEdge> graph;
+
+  private CallGraph(final Graph<CallContext, DefaultEdge> pGraph) {
+    graph = pGraph;
+  }
+
+  /**
+   * Builds the call graph of the given methods and of their transitive callees.
+   *
+   * @param pModel The class that declares the methods
+   * @param pMethods The methods the graph starts from
+   * @param pResolver The index of the methods of other classes, or {@code null} if calls into other
+   *     classes are not followed
+   * @return The call graph
+   */
+  public static CallGraph build(
+      final ClassModel pModel,
+      final Collection<MethodNode> pMethods,
+      final ClassResolver pResolver) {
+    return build(pModel, pMethods, pResolver, AnalysisOptions.defaults());
+  }
+
+  /**
+   * Builds the call graph of the given methods and of their transitive callees, as far as the
+   * analysis with the given options follows calls.
+   *
+   * @param pModel The class that declares the methods
+   * @param pMethods The methods the graph starts from
+   * @param pResolver The index of the methods of other classes, or {@code null} if calls into other
+   *     classes are not followed
+   * @param pOptions The settings of the analysis
+   * @return The call graph
+   */
+  public static CallGraph build(
+      final ClassModel pModel,
+      final Collection<MethodNode> pMethods,
+      final ClassResolver pResolver,
+      final AnalysisOptions pOptions) {
+    return build(pModel, pMethods, pResolver, pOptions, new SliceCache());
+  }
+
+  /**
+   * Builds the call graph of the given methods and of their transitive callees, as far as the
+   * analysis with the given options follows calls, reusing the slices of the analysis run.
+   *
+   * @param pModel The class that declares the methods
+   * @param pMethods The methods the graph starts from
+   * @param pResolver The index of the methods of other classes, or {@code null} if calls into other
+   *     classes are not followed
+   * @param pOptions The settings of the analysis
+   * @param pSlices The slices of the analysis run, which are extended by the slices of the graph,
+   *     or {@code null} without backward slicing
+   * @return The call graph
+   */
+  public static CallGraph build(
+      final ClassModel pModel,
+      final Collection<MethodNode> pMethods,
+      final ClassResolver pResolver,
+      final AnalysisOptions pOptions,
+      final SliceCache pSlices) {
+    Graph<CallContext, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+    Map<CallContext, ClassModel> owners = new HashMap<>();
+    Deque<CallContext> pending = new ArrayDeque<>();
+    Set<CallContext> roots = new HashSet<>();
+    Set<CallContext> calledRoots = new HashSet<>();
+    for (MethodNode method : pMethods) {
+      CallContext root = contextOf(pModel, method);
+      if (graph.addVertex(root)) {
+        owners.put(root, pModel);
+        pending.push(root);
+        roots.add(root);
+      }
+    }
+
+    while (!pending.isEmpty()) {
+      CallContext caller = pending.pop();
+      ClassModel owner = owners.get(caller);
+      MethodNode method = owner.method(caller.methodKey());
+      BackwardSlice slice = null;
+      if (pOptions.backwardSlicing()) {
+        // An analysed method that turns out to be called is visited again with the calls of both
+        // roles.
+        SliceCriterion criterion;
+        if (!roots.contains(caller)) {
+          criterion = SliceCriterion.forCallee(pOptions);
+        } else if (calledRoots.contains(caller)) {
+          criterion = SliceCriterion.forAnalysedCallee(pOptions);
+        } else {
+          criterion = SliceCriterion.forAnalysedMethod(pOptions);
+        }
+        slice = pSlices.get(owner.name(), method, criterion);
+      }
+      for (AbstractInsnNode insn : method.instructions) {
+        if (!(insn instanceof MethodInsnNode call) || (slice != null && !slice.contains(call))) {
+          continue;
+        }
+        ClassModel calleeOwner = resolveOwner(owner, call, pResolver);
+        if (calleeOwner == null) {
+          continue;
+        }
+        CallContext callee = new CallContext(calleeOwner.name(), call.name, call.desc, List.of());
+        if (graph.addVertex(callee)) {
+          owners.put(callee, calleeOwner);
+          pending.push(callee);
+        } else if (pOptions.backwardSlicing()
+            && roots.contains(callee)
+            && calledRoots.add(callee)) {
+          pending.push(callee);
+        }
+        graph.addEdge(caller, callee);
+      }
+    }
+    return new CallGraph(graph);
+  }
+
+  /**
+   * Retrieve the graph of the methods and their calls.
+   *
+   * @return An unmodifiable view on the graph
+   */
+  public Graph<CallContext, DefaultEdge> graph() {
+    return new AsUnmodifiableGraph<>(graph);
+  }
+
+  /**
+   * Retrieve the strongly connected components that contain a called method, callees first.
+   *
+   * <p>Components that consist of analysed methods that are never called are left out, since
+   * their summaries would never be read.
+   *
+   * @return The components in reverse topological order
+   */
+  public List<Set<CallContext>> components() {
+    List<Set<CallContext>> components = new ArrayList<>();
+    for (Graph<CallContext, DefaultEdge> component : bottomUp(condensation())) {
+      if (isCalled(component.vertexSet())) {
+        components.add(component.vertexSet());
+      }
+    }
+    return components;
+  }
+
+  /**
+   * Runs a task for every component that contains a called method, once the tasks of all
+   * components it calls are complete. Components that do not depend on each other run in
+   * parallel.
+   *
+   * @param pSummarize Computes the summaries of the methods of one component
+   * @param pExecutor Runs the tasks, e.g., a {@link java.util.concurrent.ForkJoinPool}
+   * @return Completes when the tasks of all components are complete, or exceptionally with the
+   *     first failure of a task
+   */
+  public CompletableFuture<Void> computeBottomUp(
+      final Consumer<Set<CallContext>> pSummarize, final Executor pExecutor) {
+    Graph<Graph<CallContext, DefaultEdge>, DefaultEdge> condensation = condensation();
+    Map<Graph<CallContext, DefaultEdge>, CompletableFuture<Void>> tasks = new IdentityHashMap<>();
+    for (Graph<CallContext, DefaultEdge> component : bottomUp(condensation)) {
+      CompletableFuture<?>[] callees =
+          Graphs.successorListOf(condensation, component).stream()
+              .map(tasks::get)
+              .toArray(CompletableFuture<?>[]::new);
+      CompletableFuture<Void> task = CompletableFuture.allOf(callees);
+      if (isCalled(component.vertexSet())) {
+        task = task.thenRunAsync(() -> pSummarize.accept(component.vertexSet()), pExecutor);
+      }
+      tasks.put(component, task);
+    }
+    return CompletableFuture.allOf(tasks.values().toArray(CompletableFuture<?>[]::new));
+  }
+
+  private Graph<Graph<CallContext, DefaultEdge>, DefaultEdge> condensation() {
+    return new KosarajuStrongConnectivityInspector<>(graph).getCondensation();
+  }
+
+  private static List<Graph<CallContext, DefaultEdge>> bottomUp(
+      final Graph<Graph<CallContext, DefaultEdge>, DefaultEdge> pCondensation) {
+    List<Graph<CallContext, DefaultEdge>> order = new ArrayList<>();
+    new TopologicalOrderIterator<>(pCondensation).forEachRemaining(order::add);
+    Collections.reverse(order);
+    return order;
+  }
+
+  private boolean isCalled(final Set<CallContext> pComponent) {
+    for (CallContext method : pComponent) {
+      if (graph.inDegreeOf(method) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static CallContext contextOf(final ClassModel pOwner, final MethodNode pMethod) {
+    return new CallContext(pOwner.name(), pMethod.name, pMethod.desc, List.of());
+  }
+
+  private static ClassModel resolveOwner(
+      final ClassModel pCaller, final MethodInsnNode pCall, final ClassResolver pResolver) {
+    if (pCall.owner.equals(pCaller.name())
+        && pCaller.method(pCall.name + ":" + pCall.desc) != null) {
+      return pCaller;
+    }
+    if (pResolver == null) {
+      return null;
+    }
+    try {
+      ClassResolver.ResolvedMethod resolved =
+          pResolver.resolve(pCall.owner, pCall.name, pCall.desc);
+      return resolved == null ? null : resolved.owner();
+    } catch (UncheckedIOException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+/** How the analyses of a callee are distinguished. */
+public enum ContextSensitivity {
+  /** One analysis per method, in which all parameters are unknown. */
+  INSENSITIVE,
+  /** One analysis per method and combination of argument signs. */
+  ARGUMENT_SIGNS,
+  /**
+   * One analysis per method and sequence of the most recent call sites. The parameters start with
+   * the join of the arguments of all calls along that sequence.
+   */
+  CALL_SITE
+}
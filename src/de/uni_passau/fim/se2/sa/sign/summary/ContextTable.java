@@ -0,0 +1,174 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import com.google.common.base.Preconditions;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Chooses the {@link CallContext} of every call according to a {@link ContextSensitivity}.
+ *
+ * <p>The table bounds the number of contexts per method. Once a method has reached the limit, all
+ * further calls of it that would need a new context use the merged context instead, in which all
+ * parameters are unknown. The table is thread-safe.
+ *
+ * <p>A call-site sensitive context is identified by its call string alone, so that every call
+ * string has one stable context. Its parameters start with the join of the arguments of all calls
+ * along the call string, which the table keeps and which grows with every {@link
+ * #joinArguments(CallContext, List) joined} call.
+ */
+public class ContextTable {
+
+  private final ContextSensitivity sensitivity;
+  private final int callSiteDepth;
+  private final int limit;
+  private final Map<String, Set<Object>> contextsByMethod = new HashMap<>();
+  private final Map<CallContext, List<SignValue>> joinedArguments = new HashMap<>();
+  private long fallbacks = 0;
+
+  /**
+   * Creates a table.
+   *
+   * @param pSensitivity How the analyses of a callee are distinguished
+   * @param pCallSiteDepth The number of call sites of a call-site sensitive context
+   * @param pLimit The maximum number of contexts per method
+   */
+  public ContextTable(
+      final ContextSensitivity pSensitivity, final int pCallSiteDepth, final int pLimit) {
+    Preconditions.checkArgument(pCallSiteDepth >= 1, "Call-site depth must be positive");
+    Preconditions.checkArgument(pLimit >= 1, "Context limit must be positive");
+    sensitivity = pSensitivity;
+    callSiteDepth = pCallSiteDepth;
+    limit = pLimit;
+  }
+
+  /**
+   * Chooses the context of a call.
+   *
+   * @param pOwner The internal name of the class that declares the callee
+   * @param pName The name of the callee
+   * @param pDescriptor The descriptor of the callee
+   * @param pArguments The abstract values of the arguments, including the receiver
+   * @param pCaller The context of the calling method, {@code null} for the analysed method
+   * @param pCallSite Identifies the call instruction within the calling method
+   * @return The context the callee is analysed in
+   * @see #joinArguments(CallContext, List)
+   */
+  public synchronized CallContext contextFor(
+      final String pOwner,
+      final String pName,
+      final String pDescriptor,
+      final List<? extends SignValue> pArguments,
+      final CallContext pCaller,
+      final String pCallSite) {
+    String method = pOwner + "." + pName + ":" + pDescriptor;
+    switch (sensitivity) {
+      case ARGUMENT_SIGNS -> {
+        List<SignValue> arguments = normalize(pArguments);
+        if (admit(method, arguments)) {
+          return new CallContext(pOwner, pName, pDescriptor, arguments);
+        }
+      }
+      case CALL_SITE -> {
+        List<String> callSites = new ArrayList<>();
+        if (pCaller != null) {
+          callSites.addAll(pCaller.callSites());
+        }
+        callSites.add(pCallSite);
+        if (callSites.size() > callSiteDepth) {
+          callSites = callSites.subList(callSites.size() - callSiteDepth, callSites.size());
+        }
+        if (admit(method, callSites)) {
+          return new CallContext(pOwner, pName, pDescriptor, List.of(), callSites);
+        }
+      }
+      case INSENSITIVE -> {
+        return merged(pOwner, pName, pDescriptor);
+      }
+    }
+    fallbacks++;
+    return merged(pOwner, pName, pDescriptor);
+  }
+
+  /**
+   * Joins the arguments of a call into the start values of its context.
+   *
+   * @param pContext The context of the call
+   * @param pArguments The abstract values of the arguments, including the receiver
+   * @return {@code true} if the start values of a call-site sensitive context grew, such that its
+   *     summary has to be computed again; always {@code false} for other contexts
+   */
+  public synchronized boolean joinArguments(
+      final CallContext pContext, final List<? extends SignValue> pArguments) {
+    if (pContext.callSites().isEmpty()) {
+      return false;
+    }
+    List<SignValue> previous = joinedArguments.get(pContext);
+    List<SignValue> joined =
+        previous == null ? List.copyOf(normalize(pArguments)) : join(previous, pArguments);
+    joinedArguments.put(pContext, joined);
+    return !joined.equals(previous);
+  }
+
+  /**
+   * Retrieve the abstract values the parameters of a context start with.
+   *
+   * @param pContext A context chosen by this table
+   * @return The start values, which are empty if all parameters are unknown
+   */
+  public synchronized List<SignValue> argumentsOf(final CallContext pContext) {
+    if (pContext.callSites().isEmpty()) {
+      return pContext.arguments();
+    }
+    return joinedArguments.getOrDefault(pContext, List.of());
+  }
+
+  /**
+   * Retrieve how often a call used the merged context because its method reached the limit.
+   *
+   * @return The number of fallbacks to the merged context
+   */
+  public synchronized long getFallbacks() {
+    return fallbacks;
+  }
+
+  private boolean admit(final String pMethod, final Object pDistinction) {
+    Set<Object> contexts = contextsByMethod.computeIfAbsent(pMethod, key -> new HashSet<>());
+    if (contexts.contains(pDistinction)) {
+      return true;
+    }
+    if (contexts.size() >= limit) {
+      return false;
+    }
+    contexts.add(List.copyOf((List<?>) pDistinction));
+    return true;
+  }
+
+  private static CallContext merged(
+      final String pOwner, final String pName, final String pDescriptor) {
+    return new CallContext(pOwner, pName, pDescriptor, List.of());
+  }
+
+  /** An uninitialized argument of the analysed method may hold any value. */
+  private static List<SignValue> normalize(final List<? extends SignValue> pArguments) {
+    List<SignValue> arguments = new ArrayList<>(pArguments.size());
+    for (SignValue argument : pArguments) {
+      arguments.add(argument == SignValue.UNINITIALIZED_VALUE ? SignValue.TOP : argument);
+    }
+    return arguments;
+  }
+
+  private static List<SignValue> join(
+      final List<SignValue> pJoined, final List<? extends SignValue> pArguments) {
+    List<SignValue> arguments = normalize(pArguments);
+    List<SignValue> joined = new ArrayList<>(pJoined.size());
+    for (int i = 0; i < pJoined.size(); i++) {
+      joined.add(pJoined.get(i).join(arguments.get(i)));
+    }
+    return List.copyOf(joined);
+  }
+}
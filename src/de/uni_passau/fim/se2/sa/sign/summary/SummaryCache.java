@@ -0,0 +1,76 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stores the joined return value of every analysed callee per {@link CallContext}.
+ *
+ * <p>A cache is usually created per analysis run, such that every distinct callee context is
+ * analysed exactly once during the run. The {@link #shared() shared} instance lives as long as the
+ * process and may be used to reuse summaries across runs on classes that do not change.
+ */
+public class SummaryCache {
+
+  private static final SummaryCache SHARED = new SummaryCache();
+
+  private final Map<CallContext, SignValue> summaries = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Retrieve the process-wide summary cache.
+   *
+   * @return The shared summary cache
+   */
+  public static SummaryCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Looks up the summary for a callee context.
+   *
+   * @param pContext The callee context
+   * @return The joined return value of the callee, or {@code null} if it has not been computed yet
+   */
+  public SignValue get(final CallContext pContext) {
+    final SignValue summary = summaries.get(pContext);
+    if (summary == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return summary;
+  }
+
+  /**
+   * Stores the final summary of a callee context.
+   *
+   * @param pContext The callee context
+   * @param pSummary The joined return value of the callee
+   */
+  public void put(final CallContext pContext, final SignValue pSummary) {
+    summaries.put(pContext, pSummary);
+  }
+
+  public int size() {
+    return summaries.size();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /** Removes all summaries and resets the counters. */
+  public void clear() {
+    summaries.clear();
+    hits.reset();
+    misses.reset();
+  }
+}
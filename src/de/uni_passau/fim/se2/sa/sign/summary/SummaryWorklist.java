@@ -0,0 +1,140 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The state of one interprocedural fixpoint computation.
+ *
+ * <p>Every callee context that is reached during the computation starts with the summary {@link
+ * SignValue#BOTTOM} and is put on the worklist. Callers that read the summary of a context are
+ * recorded as its dependents; whenever the summary of a context grows, its dependents are put back
+ * on the worklist. The computation is finished once the worklist is empty, at which point the
+ * summaries of all reached contexts, including recursive and mutually recursive ones, are stable.
+ */
+public class SummaryWorklist {
+
+  private final Map<CallContext, SignValue> approximations = new LinkedHashMap<>();
+  private final Map<CallContext, Set<CallContext>> dependents = new HashMap<>();
+  private final Deque<CallContext> worklist = new ArrayDeque<>();
+  private final Set<CallContext> queued = new HashSet<>();
+  private final Map<CallContext, Integer> depths = new HashMap<>();
+  private int analyses = 0;
+
+  /**
+   * Reads the current summary of a callee context on behalf of a caller.
+   *
+   * <p>A context that has not been reached before is initialised with {@link SignValue#BOTTOM} and
+   * scheduled for analysis.
+   *
+   * @param pCallee The callee context whose summary is read
+   * @param pCaller The context whose analysis reads the summary, or {@code null} for the root
+   * @return The current approximation of the callee's summary
+   */
+  public SignValue lookup(final CallContext pCallee, final CallContext pCaller) {
+    if (pCaller != null) {
+      dependents.computeIfAbsent(pCallee, pKey -> new HashSet<>()).add(pCaller);
+    }
+    final SignValue approximation = approximations.get(pCallee);
+    if (approximation != null) {
+      return approximation;
+    }
+    approximations.put(pCallee, SignValue.BOTTOM);
+    depths.put(pCallee, pCaller == null ? 1 : depth(pCaller) + 1);
+    schedule(pCallee);
+    return SignValue.BOTTOM;
+  }
+
+  /**
+   * Retrieve the current summary of a context that has been reached before.
+   *
+   * @param pContext The context
+   * @return The current approximation of its summary
+   */
+  public SignValue approximation(final CallContext pContext) {
+    return approximations.get(pContext);
+  }
+
+  /**
+   * Stores a new summary for a context and reschedules its dependents if the summary changed.
+   *
+   * @param pContext The analysed context
+   * @param pSummary The new summary, which has to be at least the previous approximation
+   */
+  public void update(final CallContext pContext, final SignValue pSummary) {
+    analyses++;
+    if (approximations.put(pContext, pSummary) == pSummary) {
+      return;
+    }
+    for (final CallContext dependent : dependents.getOrDefault(pContext, Set.of())) {
+      schedule(dependent);
+    }
+  }
+
+  /**
+   * Schedules a context that has been reached before for another analysis, e.g., since its
+   * parameters start with wider values now. Its dependents are rescheduled once its summary grows.
+   *
+   * @param pContext The context
+   */
+  public void reschedule(final CallContext pContext) {
+    if (approximations.containsKey(pContext)) {
+      schedule(pContext);
+    }
+  }
+
+  /**
+   * Takes the next context to analyse from the worklist.
+   *
+   * @return The next context, or {@code null} if the fixpoint has been reached
+   */
+  public CallContext poll() {
+    final CallContext next = worklist.pollFirst();
+    if (next != null) {
+      queued.remove(next);
+    }
+    return next;
+  }
+
+  /**
+   * Retrieve the length of the call chain on which a context has first been reached.
+   *
+   * @param pContext A context that has been reached before
+   * @return The call depth, {@code 1} for the root context
+   */
+  public int depth(final CallContext pContext) {
+    return depths.getOrDefault(pContext, 1);
+  }
+
+  /**
+   * Retrieve the summaries of all contexts reached so far.
+   *
+   * @return An unmodifiable view on the summaries
+   */
+  public Map<CallContext, SignValue> approximations() {
+    return Collections.unmodifiableMap(approximations);
+  }
+
+  /**
+   * Retrieve the number of callee analyses that have been run.
+   *
+   * @return The number of analyses
+   */
+  public int getAnalyses() {
+    return analyses;
+  }
+
+  private void schedule(final CallContext pContext) {
+    // Newly reached callees are analysed before their callers are revisited.
+    if (queued.add(pContext)) {
+      worklist.addFirst(pContext);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package de.uni_passau.fim.se2.sa.examples;
+
+public class CheckedOpcodesFunctional {
+
+  public int remainderByZero() {
+    int zero = 0;
+    return 7 % zero;
+  }
+
+  public byte negativeByteLoad() {
+    byte[] bytes = new byte[4];
+    return bytes[-1];
+  }
+
+  public void negativeIntStore() {
+    int[] values = new int[4];
+    values[-2] = 1;
+  }
+
+  public void negativeLongStore() {
+    long[] values = new long[4];
+    values[-1] = 5L;
+  }
+
+  public Object maybeNegativeObjectLoad() {
+    Object[] objects = new Object[4];
+    return objects[Math.abs(3) - 2];
+  }
+}
@@ -0,0 +1,30 @@
+package de.uni_passau.fim.se2.sa.examples;
+
+public class ContextFunctional {
+
+  public int twoSitesCall() {
+    int a = identity(1);
+    int b = identity(0);
+    return a / b;
+  }
+
+  public int nestedSitesCall() {
+    int a = pass(1);
+    int b = pass(0);
+    return a / b;
+  }
+
+  public int reversedSitesCall() {
+    int b = pass(0);
+    int a = pass(1);
+    return a / b;
+  }
+
+  public int pass(int parameter) {
+    return identity(parameter);
+  }
+
+  public int identity(int parameter) {
+    return parameter;
+  }
+}
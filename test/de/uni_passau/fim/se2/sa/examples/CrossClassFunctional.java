@@ -0,0 +1,25 @@
+package de.uni_passau.fim.se2.sa.examples;
+
+public class CrossClassFunctional {
+
+  public int helperZeroCall() {
+    return 10 / CrossClassHelper.zero();
+  }
+
+  public int localZeroCall() {
+    return 10 / zero();
+  }
+
+  public int zero() {
+    return 1;
+  }
+
+  public int inheritedMinusOneCall() {
+    int[] values = {1, 2};
+    return values[CrossClassChild.minusOne()];
+  }
+
+  public int platformCall() {
+    return 10 / Math.abs(-3);
+  }
+}
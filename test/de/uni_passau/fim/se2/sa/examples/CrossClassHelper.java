@@ -0,0 +1,12 @@
+package de.uni_passau.fim.se2.sa.examples;
+
+public class CrossClassHelper {
+
+  public static int zero() {
+    return 0;
+  }
+
+  public static int minusOne() {
+    return -1;
+  }
+}
@@ -0,0 +1,57 @@
+package de.uni_passau.fim.se2.sa.examples;
+
+public class LoopFunctional {
+
+  public int nestedLoops() {
+    int sum = 0;
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j < 10; j++) {
+        for (int k = 1; k < 10; k++) {
+          sum = sum + i / k;
+        }
+      }
+    }
+    return sum;
+  }
+
+  public int errorBeforeLoop(int x) {
+    int quotient = x / 0;
+    int sum = 0;
+    for (int i = 0; i < 10; i++) {
+      sum = sum + i / x;
+    }
+    return quotient + sum;
+  }
+
+  public int loopWithSwitch(int x) {
+    int result = 1;
+    while (result < 100) {
+      switch (x) {
+        case 0 -> result = result * 2;
+        case 1 -> result = result + 3;
+        default -> result = result - 1;
+      }
+    }
+    return result;
+  }
+
+  public int loopWithHandler(int[] values) {
+    int count = 0;
+    for (int i = 0; i < 3; i++) {
+      try {
+        count = count + values[i] / i;
+      } catch (ArithmeticException e) {
+        count = -1;
+      }
+    }
+    return count;
+  }
+
+  public long wideLocals(long a, double b) {
+    long total = a;
+    for (int i = 0; i < 4; i++) {
+      total += (long) b * i;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,44 @@
+package de.uni_passau.fim.se2.sa.examples;
+
+public class RecursiveFunctional {
+
+  public int factorialCall() {
+    int f = factorial(5);
+    return 10 / f;
+  }
+
+  public int factorial(int n) {
+    if (n <= 1) {
+      return 1;
+    }
+    return n * factorial(n - 1);
+  }
+
+  public int countDownCall() {
+    int z = countDown(3);
+    return 10 / z;
+  }
+
+  public int countDown(int n) {
+    if (n <= 0) {
+      return 0;
+    }
+    return countDown(n - 1);
+  }
+
+  public int pingPongCall() {
+    int[] array = {0, 1, 2};
+    return array[ping(4)];
+  }
+
+  public int ping(int n) {
+    if (n <= 0) {
+      return -1;
+    }
+    return pong(n - 1);
+  }
+
+  public int pong(int n) {
+    return ping(n);
+  }
+}
@@ -0,0 +1,37 @@
+package de.uni_passau.fim.se2.sa.examples;
+
+public class SlicedCallsFunctional {
+
+  public int divisorFromCall() {
+    int dividend = positive();
+    int divisor = zero();
+    return dividend / divisor;
+  }
+
+  public int indexFromCall() {
+    int[] array = {1, 2, 3};
+    int unused = positive();
+    return array[minusOne()];
+  }
+
+  public int divisorAfterBranchOnCall() {
+    int divisor = 0;
+    if (positive() > 0) {
+      divisor = 1;
+    }
+    return 10 / divisor;
+  }
+
+  public int zero() {
+    return 0;
+  }
+
+  public int positive() {
+    return 1;
+  }
+
+  public int minusOne() {
+    positive();
+    return -1;
+  }
+}
@@ -0,0 +1,135 @@
+package de.uni_passau.fim.se2.sa.sign;
+
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModelCache;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassProvider;
+import de.uni_passau.fim.se2.sa.sign.report.ReportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnalysisRequestTest {
+  private static final String PUBLIC_FUNCTIONAL = "de.uni_passau.fim.se2.sa.examples.PublicFunctional";
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+  private int execute(final AnalysisRequest pRequest, final ReportFormat pFormat) throws Exception {
+    return pRequest.execute(new SignAnalysisImpl(), pFormat,
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+  }
+
+  private List<String> outLines() {
+    return out.toString(StandardCharsets.UTF_8).lines().toList();
+  }
+
+  @Test
+  void testConstructor_exclusiveTargets_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class,
+            () -> new AnalysisRequest(PUBLIC_FUNCTIONAL, "*", Path.of("a.jar"), null));
+    assertThrows(IllegalArgumentException.class,
+            () -> new AnalysisRequest(null, null, Path.of("a.jar"), Path.of("targets")));
+    assertThrows(IllegalArgumentException.class, () -> new AnalysisRequest(PUBLIC_FUNCTIONAL, null, null, null));
+    assertThrows(IllegalArgumentException.class, () -> new AnalysisRequest(null, null, null, null));
+  }
+
+  @Test
+  void testExecute_text_keepsCommandLineLayout() throws Exception {
+    assertEquals(0, execute(new AnalysisRequest(PUBLIC_FUNCTIONAL, "div:()I", null, null), ReportFormat.TEXT));
+
+    assertEquals(List.of("Line 73: ERROR: Division by Zero detected"), outLines());
+  }
+
+  @Test
+  void testExecute_exhaustedBudget_marksDegradedMethod() throws Exception {
+    SignAnalysisImpl limited = new SignAnalysisImpl(AnalysisOptions.builder()
+            .budget(new AnalysisBudget(null, 1, Integer.MAX_VALUE, Integer.MAX_VALUE))
+            .build());
+
+    new AnalysisRequest(PUBLIC_FUNCTIONAL, "div:()I", null, null).execute(limited,
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+    assertEquals(List.of("Line 73: WARNING: Division by Zero detected",
+            "Degraded: analysis budget exhausted"), outLines());
+  }
+
+  @Test
+  void testExecute_exhaustedBudget_marksDegradedRecords() throws Exception {
+    SignAnalysisImpl limited = new SignAnalysisImpl(AnalysisOptions.builder()
+            .budget(new AnalysisBudget(null, 1, Integer.MAX_VALUE, Integer.MAX_VALUE))
+            .build());
+
+    new AnalysisRequest(PUBLIC_FUNCTIONAL, "div:()I", null, null).execute(limited, ReportFormat.JSONL,
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+    assertEquals(1, outLines().size());
+    assertTrue(outLines().get(0).endsWith(",\"degraded\":true}"));
+    assertTrue(err.toString(StandardCharsets.UTF_8).contains("Degraded "));
+  }
+
+  @Test
+  void testExecute_targets_streamsFindingsOfAllTargets(@TempDir Path directory) throws Exception {
+    Path targets = directory.resolve("targets.txt");
+    Files.writeString(targets, String.join("\n",
+            "# targets",
+            PUBLIC_FUNCTIONAL + " div:()I",
+            "",
+            "de/uni_passau/fim/se2/sa/examples/PublicFunctional   divZero*",
+            PUBLIC_FUNCTIONAL + " loop0:()V"));
+
+    assertEquals(0, execute(new AnalysisRequest(null, null, null, targets), ReportFormat.JSONL));
+
+    List<String> lines = outLines();
+    assertEquals(4, lines.size());
+    assertTrue(lines.get(0).startsWith(
+            "{\"class\":\"" + PUBLIC_FUNCTIONAL + "\",\"method\":\"div:()I\",\"line\":73,"));
+    assertTrue(lines.get(1).contains("\"method\":\"divZeroCall:()I\""));
+    assertTrue(lines.get(2).contains("\"method\":\"divZeroIndirectCall:()I\""));
+    assertTrue(lines.get(3).contains("\"method\":\"loop0:()V\""));
+    assertEquals("", err.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testExecute_targets_skipsFailedTargets(@TempDir Path directory) throws Exception {
+    Path targets = directory.resolve("targets.txt");
+    Files.writeString(targets, String.join("\n",
+            "non.existing.Class foo:()V",
+            PUBLIC_FUNCTIONAL + " div:()I"));
+
+    assertEquals(1, execute(new AnalysisRequest(null, null, null, targets), ReportFormat.TEXT));
+
+    assertEquals(List.of(PUBLIC_FUNCTIONAL + ".div:()I Line 73: ERROR: Division by Zero detected"), outLines());
+    assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Skipped non.existing.Class foo:()V: Invalid class name"));
+  }
+
+  @Test
+  void testExecute_targets_skipsUnreadableTargets(@TempDir Path directory) throws Exception {
+    Path targets = directory.resolve("targets.txt");
+    Files.writeString(targets, String.join("\n",
+            "broken.Unreadable foo:()V",
+            PUBLIC_FUNCTIONAL + " div:()I"));
+    ClassProvider classpath = ClassProvider.classLoader(getClass().getClassLoader());
+    SignAnalysisImpl analysis = new SignAnalysisImpl(
+            AnalysisOptions.defaults(), null, new ClassModelCache(), internalName -> {
+              if (internalName.startsWith("broken/")) {
+                throw new IOException("cannot read " + internalName);
+              }
+              return classpath.read(internalName);
+            });
+
+    assertEquals(1, new AnalysisRequest(null, null, null, targets).execute(analysis, ReportFormat.TEXT,
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8)));
+
+    assertEquals(List.of(PUBLIC_FUNCTIONAL + ".div:()I Line 73: ERROR: Division by Zero detected"), outLines());
+    assertEquals("Skipped broken.Unreadable foo:()V: cannot read broken/Unreadable",
+            err.toString(StandardCharsets.UTF_8).strip());
+  }
+}
@@ -0,0 +1,65 @@
+package de.uni_passau.fim.se2.sa.sign;
+
+import com.google.common.collect.SortedSetMultimap;
+import com.google.common.collect.TreeMultimap;
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.uni_passau.fim.se2.sa.sign.AnalysisResult.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FindingListenerTest {
+
+  private static SortedSetMultimap<Integer, AnalysisResult> results() {
+    SortedSetMultimap<Integer, AnalysisResult> results = TreeMultimap.create();
+    results.put(3, MAYBE_DIVISION_BY_ZERO);
+    results.put(5, NEGATIVE_ARRAY_INDEX);
+    results.put(7, DIVISION_BY_ZERO);
+    return results;
+  }
+
+  @Test
+  void testOnResults_reportsFindingsInLineOrder() {
+    List<Finding> findings = new ArrayList<>();
+    FindingListener listener = findings::add;
+
+    assertTrue(listener.onResults("org.example.Foo", "foo:()I", results()));
+
+    assertEquals(List.of(
+            new Finding("org/example/Foo", "foo:()I", 3, MAYBE_DIVISION_BY_ZERO),
+            new Finding("org/example/Foo", "foo:()I", 5, NEGATIVE_ARRAY_INDEX),
+            new Finding("org/example/Foo", "foo:()I", 7, DIVISION_BY_ZERO)), findings);
+  }
+
+  @Test
+  void testUntilFirstError_cancelsAfterFirstError() {
+    List<Finding> findings = new ArrayList<>();
+    FindingListener listener = findings::add;
+
+    assertFalse(listener.untilFirstError().onResults("org/example/Foo", "foo:()I", results()));
+
+    assertEquals(2, findings.size());
+    assertEquals(NEGATIVE_ARRAY_INDEX, findings.get(1).result());
+  }
+
+  @Test
+  void testOnResults_cancellingListener_stopsReporting() {
+    List<Finding> findings = new ArrayList<>();
+
+    assertFalse(((FindingListener) finding -> findings.add(finding) && false)
+            .onResults("org/example/Foo", "foo:()I", results()));
+
+    assertEquals(1, findings.size());
+  }
+
+  @Test
+  void testIsError() {
+    assertTrue(DIVISION_BY_ZERO.isError());
+    assertTrue(NEGATIVE_ARRAY_INDEX.isError());
+    assertFalse(MAYBE_DIVISION_BY_ZERO.isError());
+    assertFalse(MAYBE_NEGATIVE_ARRAY_INDEX.isError());
+  }
+}
@@ -1,9 +1,37 @@
 package de.uni_passau.fim.se2.sa.sign;
 
 import com.google.common.collect.SortedSetMultimap;
+import com.google.common.collect.TreeMultimap;
+import de.uni_passau.fim.se2.sa.sign.check.Checker;
+import de.uni_passau.fim.se2.sa.sign.check.CheckerRegistry;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModelCache;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassProvider;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointStrategy;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import de.uni_passau.fim.se2.sa.sign.store.ResultStore;
+import de.uni_passau.fim.se2.sa.sign.summary.ContextSensitivity;
+import de.uni_passau.fim.se2.sa.sign.summary.SummaryCache;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.objectweb.asm.Opcodes;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static de.uni_passau.fim.se2.sa.sign.AnalysisResult.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 public class SignAnalysisImplTest {
   private final SignAnalysisImpl analysis = new SignAnalysisImpl();
@@ -41,4 +69,601 @@ void testAnalyse_methodNotFound_throwsIllegalArgumentException() {
 
     assertTrue(e.getMessage().contains("Method not found"));
   }
+
+  static Stream<Arguments> expectedResults() {
+    return Stream.of(
+            arguments("add:()I", results()),
+            arguments("allCases:()I", results(
+                    24, DIVISION_BY_ZERO, 25, MAYBE_DIVISION_BY_ZERO, 26, MAYBE_DIVISION_BY_ZERO,
+                    27, MAYBE_DIVISION_BY_ZERO, 30, NEGATIVE_ARRAY_INDEX,
+                    31, MAYBE_NEGATIVE_ARRAY_INDEX, 34, MAYBE_DIVISION_BY_ZERO)),
+            arguments("bar:()I", results(92, MAYBE_NEGATIVE_ARRAY_INDEX)),
+            arguments("div:()I", results(73, DIVISION_BY_ZERO)),
+            arguments("divMaybeZeroCall:()I", results(144, MAYBE_DIVISION_BY_ZERO)),
+            arguments("divZeroCall:()I", results(124, DIVISION_BY_ZERO)),
+            arguments("divZeroIndirectCall:()I", results(134, DIVISION_BY_ZERO)),
+            arguments("first:()I", results()),
+            arguments("foo:()I", results(80, NEGATIVE_ARRAY_INDEX)),
+            arguments("ifelse:()I", results(53, MAYBE_DIVISION_BY_ZERO)),
+            arguments("loop0:()V", results(59, MAYBE_DIVISION_BY_ZERO)),
+            arguments("negativeArrayAccessCall:()I", results(114, NEGATIVE_ARRAY_INDEX)),
+            arguments("twoErrors:()V", results(42, DIVISION_BY_ZERO, 42, NEGATIVE_ARRAY_INDEX)));
+  }
+
+  private static SortedSetMultimap<Integer, AnalysisResult> results(Object... lineResultPairs) {
+    SortedSetMultimap<Integer, AnalysisResult> results = TreeMultimap.create();
+    for (int i = 0; i < lineResultPairs.length; i += 2) {
+      results.put((Integer) lineResultPairs[i], (AnalysisResult) lineResultPairs[i + 1]);
+    }
+    return results;
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_publicFunctional_matchesExpectedResults(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    assertEquals(expected, analysis.analyse(pClassName, methodName));
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_asmReferenceMode_matchesExpectedResults(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl reference = new SignAnalysisImpl(
+            AnalysisOptions.builder().fixpointStrategy(FixpointStrategy.ASM_ANALYZER).build());
+    assertEquals(expected, reference.analyse(pClassName, methodName));
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_sparseFrames_matchesExpectedResults(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl sparse = new SignAnalysisImpl(AnalysisOptions.builder().sparseFrames(true).build());
+    assertEquals(expected, sparse.analyse(pClassName, methodName));
+    assertTrue(sparse.getStatistics().getTrackedLocals() <= sparse.getStatistics().getLocals());
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_packedFrames_matchesExpectedResults(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl packed = new SignAnalysisImpl(AnalysisOptions.builder().packedFrames(true).build());
+    assertEquals(expected, packed.analyse(pClassName, methodName));
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_packedSparseFrames_matchesSparseFrames(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl sparse = new SignAnalysisImpl(AnalysisOptions.builder().sparseFrames(true).build());
+    SignAnalysisImpl packed = new SignAnalysisImpl(
+            AnalysisOptions.builder().sparseFrames(true).packedFrames(true).build());
+    assertEquals(sparse.analyse(pClassName, methodName), packed.analyse(pClassName, methodName));
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_discardFrames_matchesExpectedResults(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl discarding = new SignAnalysisImpl(AnalysisOptions.builder().discardFrames(true).build());
+    assertEquals(expected, discarding.analyse(pClassName, methodName));
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_discardFramesWithAsmReference_matchesExpectedResults(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl discarding = new SignAnalysisImpl(AnalysisOptions.builder()
+            .fixpointStrategy(FixpointStrategy.ASM_ANALYZER)
+            .discardFrames(true)
+            .build());
+    assertEquals(expected, discarding.analyse(pClassName, methodName));
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_refinedBranches_findAtMostUnrefinedResults(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl refining = new SignAnalysisImpl(AnalysisOptions.builder().refineBranches(true).build());
+
+    SortedSetMultimap<Integer, AnalysisResult> refined = refining.analyse(pClassName, methodName);
+    for (var result : refined.entries()) {
+      assertTrue(expected.containsKey(result.getKey()), methodName + " line " + result.getKey());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("refinedResults")
+  void testAnalyse_refinedBranches_pruneInfeasibleEdges(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl refining = new SignAnalysisImpl(AnalysisOptions.builder().refineBranches(true).build());
+    SignAnalysisImpl packed = new SignAnalysisImpl(
+            AnalysisOptions.builder().refineBranches(true).packedFrames(true).build());
+
+    assertEquals(expected, refining.analyse(pClassName, methodName));
+    assertEquals(expected, packed.analyse(pClassName, methodName));
+    assertTrue(refining.getStatistics().getPrunedEdges() > 0);
+  }
+
+  private static Stream<Arguments> refinedResults() {
+    return Stream.of(
+            // The else branch of zero == 0 is dead, so pos and neg keep their signs.
+            arguments("allCases:()I", results(
+                    24, DIVISION_BY_ZERO, 30, NEGATIVE_ARRAY_INDEX, 31, NEGATIVE_ARRAY_INDEX)),
+            arguments("ifelse:()I", results()),
+            // The body of the loop is only entered with i > 0.
+            arguments("loop0:()V", results()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_unlimitedBudget_isNotDegraded(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    assertEquals(expected, analysis.analyse(pClassName, methodName));
+    assertFalse(analysis.isDegraded(pClassName, methodName));
+  }
+
+  @Test
+  void testAnalyse_depthBudget_approximatesCallsByTop() throws Exception {
+    SignAnalysisImpl limited = new SignAnalysisImpl(AnalysisOptions.builder()
+            .budget(new AnalysisBudget(null, Long.MAX_VALUE, Integer.MAX_VALUE, 0))
+            .build());
+
+    assertEquals(results(124, MAYBE_DIVISION_BY_ZERO), limited.analyse(pClassName, "divZeroCall:()I"));
+    assertTrue(limited.isDegraded(pClassName, "divZeroCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_visitBudgetExhausted_warnsAtAllCheckSites() throws Exception {
+    SignAnalysisImpl limited = new SignAnalysisImpl(AnalysisOptions.builder()
+            .budget(new AnalysisBudget(null, 1, Integer.MAX_VALUE, Integer.MAX_VALUE))
+            .build());
+
+    assertEquals(results(73, MAYBE_DIVISION_BY_ZERO), limited.analyse(pClassName, "div:()I"));
+    assertTrue(limited.isDegraded(pClassName, "div:()I"));
+  }
+
+  @Test
+  void testAnalyseMethod_returnsDegradedFlagWithResults() throws Exception {
+    SignAnalysisImpl limited = new SignAnalysisImpl(AnalysisOptions.builder()
+            .budget(new AnalysisBudget(null, Long.MAX_VALUE, Integer.MAX_VALUE, 0))
+            .build());
+
+    MethodResults degraded = limited.analyseMethod(pClassName, "divZeroCall:()I");
+    MethodResults complete = limited.analyseMethod(pClassName, "div:()I");
+
+    assertEquals(results(124, MAYBE_DIVISION_BY_ZERO), degraded.findings());
+    assertTrue(degraded.degraded());
+    assertFalse(complete.degraded());
+  }
+
+  @Test
+  void testAnalyseMethods_returnsDegradedFlagPerMethod() throws Exception {
+    SignAnalysisImpl limited = new SignAnalysisImpl(AnalysisOptions.builder()
+            .budget(new AnalysisBudget(null, Long.MAX_VALUE, Integer.MAX_VALUE, 0))
+            .build());
+
+    SortedMap<String, MethodResults> results = limited.analyseMethods(pClassName, "div*");
+
+    assertTrue(results.get("divZeroCall:()I").degraded());
+    assertFalse(results.get("div:()I").degraded());
+  }
+
+  @Test
+  void testAnalyse_visitBudgetExhausted_doesNotStoreResults(@TempDir Path directory)
+          throws Exception {
+    ResultStore store = ResultStore.open(directory.resolve("store"));
+    SignAnalysisImpl limited = new SignAnalysisImpl(
+            AnalysisOptions.builder()
+                    .budget(new AnalysisBudget(null, 1, Integer.MAX_VALUE, Integer.MAX_VALUE))
+                    .build(),
+            null, new ClassModelCache(), ClassProvider.classLoader(getClass().getClassLoader()), store);
+
+    limited.analyse(pClassName, "div:()I");
+
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  void testAnalyse_weakTopologicalOrder_countsIterations() throws Exception {
+    analysis.analyse(pClassName, "loop0:()V");
+
+    assertEquals(1, analysis.getStatistics().getAnalyses());
+    assertTrue(analysis.getStatistics().getComponentIterations() > 0);
+    assertTrue(analysis.getStatistics().getInstructionVisits()
+            >= analysis.getStatistics().getBlockVisits());
+  }
+
+  @ParameterizedTest
+  @MethodSource("expectedResults")
+  void testAnalyse_sharedSummaryCache_matchesExpectedResults(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    SignAnalysisImpl cachingAnalysis = new SignAnalysisImpl(new SummaryCache());
+    assertEquals(expected, cachingAnalysis.analyse(pClassName, methodName));
+    assertEquals(expected, cachingAnalysis.analyse(pClassName, methodName));
+  }
+
+  @Test
+  void testAnalyse_selfRecursiveCallee_reachesFixpoint() throws Exception {
+    String recursive = "de.uni_passau.fim.se2.sa.examples.RecursiveFunctional";
+
+    assertEquals(results(7, MAYBE_DIVISION_BY_ZERO), analysis.analyse(recursive, "factorialCall:()I"));
+    assertEquals(results(19, DIVISION_BY_ZERO), analysis.analyse(recursive, "countDownCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_mutuallyRecursiveCallees_reachFixpoint() throws Exception {
+    String recursive = "de.uni_passau.fim.se2.sa.examples.RecursiveFunctional";
+
+    assertEquals(results(31, NEGATIVE_ARRAY_INDEX), analysis.analyse(recursive, "pingPongCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_crossClassCallee_isResolvedByOwner() throws Exception {
+    String crossClass = "de.uni_passau.fim.se2.sa.examples.CrossClassFunctional";
+
+    assertEquals(results(6, DIVISION_BY_ZERO), analysis.analyse(crossClass, "helperZeroCall:()I"));
+    assertEquals(results(), analysis.analyse(crossClass, "localZeroCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_inheritedStaticCallee_isResolvedInSuperclass() throws Exception {
+    String crossClass = "de.uni_passau.fim.se2.sa.examples.CrossClassFunctional";
+
+    assertEquals(results(19, NEGATIVE_ARRAY_INDEX),
+            analysis.analyse(crossClass, "inheritedMinusOneCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_platformCallee_isNotFollowed() throws Exception {
+    String crossClass = "de.uni_passau.fim.se2.sa.examples.CrossClassFunctional";
+
+    assertEquals(results(23, MAYBE_DIVISION_BY_ZERO), analysis.analyse(crossClass, "platformCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_argumentSigns_distinguishesCallContexts() throws Exception {
+    SignAnalysisImpl sensitive = new SignAnalysisImpl(
+            AnalysisOptions.builder().contextSensitivity(ContextSensitivity.ARGUMENT_SIGNS).build());
+
+    assertEquals(results(144, DIVISION_BY_ZERO), sensitive.analyse(pClassName, "divMaybeZeroCall:()I"));
+    assertEquals(results(144, MAYBE_DIVISION_BY_ZERO), analysis.analyse(pClassName, "divMaybeZeroCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_contextLimit_fallsBackToMergedContext() throws Exception {
+    String context = "de.uni_passau.fim.se2.sa.examples.ContextFunctional";
+    SignAnalysisImpl limited = new SignAnalysisImpl(AnalysisOptions.builder()
+            .contextSensitivity(ContextSensitivity.ARGUMENT_SIGNS)
+            .contextLimit(1)
+            .build());
+
+    assertEquals(results(8, MAYBE_DIVISION_BY_ZERO), limited.analyse(context, "twoSitesCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_callSiteDepth_distinguishesCallStrings() throws Exception {
+    String context = "de.uni_passau.fim.se2.sa.examples.ContextFunctional";
+    AnalysisOptions callSites = AnalysisOptions.builder()
+            .contextSensitivity(ContextSensitivity.CALL_SITE)
+            .build();
+
+    assertEquals(results(8, DIVISION_BY_ZERO),
+            new SignAnalysisImpl(callSites).analyse(context, "twoSitesCall:()I"));
+    assertEquals(results(14, MAYBE_DIVISION_BY_ZERO),
+            new SignAnalysisImpl(callSites).analyse(context, "nestedSitesCall:()I"));
+    assertEquals(results(14, DIVISION_BY_ZERO),
+            new SignAnalysisImpl(callSites.toBuilder().callSiteDepth(2).build())
+                    .analyse(context, "nestedSitesCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_callSites_resultsDoNotDependOnCallOrder() throws Exception {
+    String context = "de.uni_passau.fim.se2.sa.examples.ContextFunctional";
+    SignAnalysisImpl callSites = new SignAnalysisImpl(
+            AnalysisOptions.builder().contextSensitivity(ContextSensitivity.CALL_SITE).build());
+
+    // identity(parameter) within pass starts with the join of both arguments, whichever comes first.
+    assertEquals(results(14, MAYBE_DIVISION_BY_ZERO), callSites.analyse(context, "nestedSitesCall:()I"));
+    assertEquals(results(20, MAYBE_DIVISION_BY_ZERO), callSites.analyse(context, "reversedSitesCall:()I"));
+  }
+
+  @Test
+  void testAnalyseClass_resultStore_servesUnchangedMethods(@TempDir Path directory) throws Exception {
+    Path file = directory.resolve("store");
+    ResultStore first = ResultStore.open(file);
+    SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> expected =
+            storingAnalysis(first).analyseClass(pClassName, "*");
+    first.save();
+
+    ResultStore second = ResultStore.open(file);
+    SignAnalysisImpl reused = storingAnalysis(second);
+
+    assertEquals(expected, reused.analyseClass(pClassName, "*"));
+    assertEquals(expected.size(), second.getHits());
+    assertEquals(0, second.getMisses());
+    assertEquals(0, reused.getStatistics().getAnalyses());
+  }
+
+  @Test
+  void testAnalyse_resultStore_otherOptions_analyseAgain(@TempDir Path directory) throws Exception {
+    ResultStore store = ResultStore.open(directory.resolve("store"));
+    storingAnalysis(store).analyse(pClassName, "divMaybeZeroCall:()I");
+
+    SignAnalysisImpl sensitive = new SignAnalysisImpl(
+            AnalysisOptions.builder().contextSensitivity(ContextSensitivity.ARGUMENT_SIGNS).build(),
+            null, new ClassModelCache(), ClassProvider.classLoader(getClass().getClassLoader()), store);
+
+    assertEquals(results(144, DIVISION_BY_ZERO), sensitive.analyse(pClassName, "divMaybeZeroCall:()I"));
+    assertEquals(2, store.getMisses());
+  }
+
+  private static SignAnalysisImpl storingAnalysis(final ResultStore pStore) {
+    return new SignAnalysisImpl(AnalysisOptions.defaults(), null, new ClassModelCache(),
+            ClassProvider.classLoader(SignAnalysisImplTest.class.getClassLoader()), pStore);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+          "de.uni_passau.fim.se2.sa.examples.PublicFunctional",
+          "de.uni_passau.fim.se2.sa.examples.RecursiveFunctional",
+          "de.uni_passau.fim.se2.sa.examples.LoopFunctional"})
+  void testAnalyseClass_skipUncheckedMethods_matchesFullAnalysis(String className) throws Exception {
+    SignAnalysisImpl skipping = new SignAnalysisImpl(AnalysisOptions.builder().skipUncheckedMethods(true).build());
+    SignAnalysisImpl skippingBottomUp = new SignAnalysisImpl(
+            AnalysisOptions.builder().skipUncheckedMethods(true).bottomUpSummaries(true).build());
+
+    assertEquals(analysis.analyseClass(className, "*"), skipping.analyseClass(className, "*"));
+    assertEquals(analysis.analyseClass(className, "*"), skippingBottomUp.analyseClass(className, "*"));
+    assertTrue(skipping.getStatistics().getSkippedMethods() > 0);
+  }
+
+  @Test
+  void testAnalyse_skipUncheckedMethods_skipsFixpoint() throws Exception {
+    SignAnalysisImpl skipping = new SignAnalysisImpl(AnalysisOptions.builder().skipUncheckedMethods(true).build());
+
+    assertEquals(results(), skipping.analyse(pClassName, "add:()I"));
+    assertEquals(results(), skipping.analyse(pClassName, "first:()I"));
+    assertEquals(results(73, DIVISION_BY_ZERO), skipping.analyse(pClassName, "div:()I"));
+
+    assertEquals(2, skipping.getStatistics().getSkippedMethods());
+    assertEquals(1, skipping.getStatistics().getAnalyses());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+          "de.uni_passau.fim.se2.sa.examples.PublicFunctional",
+          "de.uni_passau.fim.se2.sa.examples.RecursiveFunctional",
+          "de.uni_passau.fim.se2.sa.examples.CrossClassFunctional",
+          "de.uni_passau.fim.se2.sa.examples.ContextFunctional",
+          "de.uni_passau.fim.se2.sa.examples.SlicedCallsFunctional"})
+  void testAnalyseClass_backwardSlicing_matchesFullAnalysis(String className) throws Exception {
+    for (AnalysisOptions.Builder options : List.of(
+            AnalysisOptions.builder(),
+            AnalysisOptions.builder().refineBranches(true),
+            AnalysisOptions.builder().bottomUpSummaries(true),
+            AnalysisOptions.builder().contextSensitivity(ContextSensitivity.ARGUMENT_SIGNS))) {
+      SignAnalysisImpl full = new SignAnalysisImpl(options.build());
+      SignAnalysisImpl sliced = new SignAnalysisImpl(options.backwardSlicing(true).build());
+
+      assertEquals(full.analyseClass(className, "*"), sliced.analyseClass(className, "*"),
+              options.build().toString());
+    }
+  }
+
+  @Test
+  void testAnalyse_backwardSlicing_skipsCallsThatReachNoCheck() throws Exception {
+    String sliced = "de.uni_passau.fim.se2.sa.examples.SlicedCallsFunctional";
+    SignAnalysisImpl full = new SignAnalysisImpl();
+    SignAnalysisImpl slicing = new SignAnalysisImpl(AnalysisOptions.builder().backwardSlicing(true).build());
+
+    assertEquals(results(8, DIVISION_BY_ZERO), slicing.analyse(sliced, "divisorFromCall:()I"));
+    assertEquals(results(14, NEGATIVE_ARRAY_INDEX), slicing.analyse(sliced, "indexFromCall:()I"));
+    full.analyse(sliced, "divisorFromCall:()I");
+    full.analyse(sliced, "indexFromCall:()I");
+
+    // positive() is neither analysed for the callers nor for minusOne().
+    assertEquals(3, slicing.getStatistics().getSlicedCalls());
+    assertTrue(slicing.getStatistics().getAnalyses() < full.getStatistics().getAnalyses());
+  }
+
+  @Test
+  void testAnalyse_backwardSlicingWithCallSites_joinsOnlyRelevantArguments() throws Exception {
+    String context = "de.uni_passau.fim.se2.sa.examples.ContextFunctional";
+    AnalysisOptions.Builder callSites = AnalysisOptions.builder().contextSensitivity(ContextSensitivity.CALL_SITE);
+    SignAnalysisImpl full = new SignAnalysisImpl(callSites.build());
+    SignAnalysisImpl sliced = new SignAnalysisImpl(callSites.backwardSlicing(true).build());
+
+    // The dividend pass(1) is not analysed, so its argument is not joined into the shared context
+    // of identity(parameter) within pass.
+    assertEquals(results(14, MAYBE_DIVISION_BY_ZERO), full.analyse(context, "nestedSitesCall:()I"));
+    assertEquals(results(14, DIVISION_BY_ZERO), sliced.analyse(context, "nestedSitesCall:()I"));
+  }
+
+  @Test
+  void testAnalyse_backwardSlicingWithRefinedBranches_keepsBranchConditions() throws Exception {
+    String sliced = "de.uni_passau.fim.se2.sa.examples.SlicedCallsFunctional";
+    SignAnalysisImpl slicing = new SignAnalysisImpl(AnalysisOptions.builder().backwardSlicing(true).build());
+    SignAnalysisImpl refining = new SignAnalysisImpl(
+            AnalysisOptions.builder().backwardSlicing(true).refineBranches(true).build());
+
+    assertEquals(results(22, MAYBE_DIVISION_BY_ZERO), slicing.analyse(sliced, "divisorAfterBranchOnCall:()I"));
+    assertEquals(results(), refining.analyse(sliced, "divisorAfterBranchOnCall:()I"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+          "de.uni_passau.fim.se2.sa.examples.PublicFunctional",
+          "de.uni_passau.fim.se2.sa.examples.RecursiveFunctional",
+          "de.uni_passau.fim.se2.sa.examples.CrossClassFunctional"})
+  void testAnalyseClass_bottomUpSummaries_matchesTopDown(String className) throws Exception {
+    SignAnalysisImpl bottomUp = new SignAnalysisImpl(AnalysisOptions.builder().bottomUpSummaries(true).build());
+
+    assertEquals(analysis.analyseClass(className, "*"), bottomUp.analyseClass(className, "*"));
+  }
+
+  @Test
+  void testAnalyseClass_bottomUpSummaries_callersReadPrecomputedSummaries() throws Exception {
+    SummaryCache summaries = new SummaryCache();
+    SignAnalysisImpl bottomUp = new SignAnalysisImpl(
+            AnalysisOptions.builder().bottomUpSummaries(true).build(), summaries, new ClassModelCache());
+
+    bottomUp.analyseClass("de.uni_passau.fim.se2.sa.examples.RecursiveFunctional", "*Call");
+
+    // The callers of the three components hit the summaries that have been computed ahead.
+    assertTrue(summaries.getHits() >= 3);
+    assertEquals(4, summaries.size());
+  }
+
+  @ParameterizedTest
+  @MethodSource("checkedOpcodeResults")
+  void testAnalyse_allIntDivisorAndArrayIndexOpcodes_areChecked(
+          String methodName, SortedSetMultimap<Integer, AnalysisResult> expected) throws Exception {
+    String checked = "de.uni_passau.fim.se2.sa.examples.CheckedOpcodesFunctional";
+    SignAnalysisImpl discarding = new SignAnalysisImpl(AnalysisOptions.builder().discardFrames(true).build());
+
+    assertEquals(expected, analysis.analyse(checked, methodName));
+    assertEquals(expected, discarding.analyse(checked, methodName));
+  }
+
+  private static Stream<Arguments> checkedOpcodeResults() {
+    return Stream.of(
+            arguments("remainderByZero:()I", results(7, DIVISION_BY_ZERO)),
+            arguments("negativeByteLoad:()B", results(12, NEGATIVE_ARRAY_INDEX)),
+            arguments("negativeIntStore:()V", results(17, NEGATIVE_ARRAY_INDEX)),
+            arguments("negativeLongStore:()V", results(22, NEGATIVE_ARRAY_INDEX)),
+            arguments("maybeNegativeObjectLoad:()Ljava/lang/Object;", results(27, MAYBE_NEGATIVE_ARRAY_INDEX)));
+  }
+
+  @Test
+  void testAnalyse_customChecker_isRunForItsOpcode() throws Exception {
+    Checker remainder = new Checker() {
+      @Override
+      public int operandDepth() {
+        return 1;
+      }
+
+      @Override
+      public AnalysisResult check(SignValue pOperand) {
+        return pOperand == SignValue.PLUS ? MAYBE_DIVISION_BY_ZERO : null;
+      }
+    };
+    SignAnalysisImpl custom = new SignAnalysisImpl(AnalysisOptions.builder()
+            .checkers(CheckerRegistry.builder().register(remainder, Opcodes.IREM).build())
+            .build());
+
+    assertEquals(results(7, MAYBE_DIVISION_BY_ZERO),
+            custom.analyse("de.uni_passau.fim.se2.sa.examples.CheckedOpcodesFunctional", "remainderByZero:()I"));
+    assertEquals(results(), custom.analyse(pClassName, "div:()I"));
+  }
+
+  @Test
+  void testAnalyseClass_listener_receivesAllFindings() throws Exception {
+    SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> expected = analysis.analyseClass(pClassName, "*");
+    List<Finding> findings = Collections.synchronizedList(new ArrayList<>());
+
+    assertTrue(analysis.analyseClass(pClassName, "*", findings::add));
+
+    SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> received = new TreeMap<>();
+    for (Finding finding : findings) {
+      assertEquals(pClassName.replace('.', '/'), finding.className());
+      received.computeIfAbsent(finding.methodKey(), key -> TreeMultimap.create())
+              .put(finding.lineNumber(), finding.result());
+    }
+    expected.values().removeIf(SortedSetMultimap::isEmpty);
+    assertEquals(expected, received);
+  }
+
+  @Test
+  void testAnalyseClass_untilFirstError_cancelsAnalysis() throws Exception {
+    List<Finding> findings = new ArrayList<>();
+    FindingListener listener = findings::add;
+
+    assertFalse(analysis.analyseClass(pClassName, "*", listener.untilFirstError()));
+
+    assertTrue(findings.get(findings.size() - 1).result().isError());
+    assertEquals(1, findings.stream().filter(finding -> finding.result().isError()).count());
+  }
+
+  @Test
+  void testAnalyse_listener_receivesFindingsOfMethod() throws Exception {
+    List<Finding> findings = new ArrayList<>();
+
+    assertTrue(analysis.analyse(pClassName, "div:()I", findings::add));
+
+    assertEquals(List.of(new Finding(pClassName.replace('.', '/'), "div:()I", 73, DIVISION_BY_ZERO)), findings);
+  }
+
+  @Test
+  void testAnalyse_untilFirstError_skipsRemainingInstructions() throws Exception {
+    String className = "de.uni_passau.fim.se2.sa.examples.LoopFunctional";
+    String owner = className.replace('.', '/');
+    SignAnalysisImpl cancelled = new SignAnalysisImpl();
+    List<Finding> findings = new ArrayList<>();
+    FindingListener listener = findings::add;
+
+    assertFalse(cancelled.analyse(className, "errorBeforeLoop:(I)I", listener.untilFirstError()));
+
+    assertEquals(List.of(new Finding(owner, "errorBeforeLoop:(I)I", 18, DIVISION_BY_ZERO)), findings);
+    assertEquals(0, cancelled.getStatistics().getComponentIterations());
+
+    SignAnalysisImpl complete = new SignAnalysisImpl();
+    findings.clear();
+    assertTrue(complete.analyse(className, "errorBeforeLoop:(I)I", listener));
+
+    assertTrue(complete.getStatistics().getComponentIterations() > 0);
+    assertTrue(complete.getStatistics().getInstructionVisits()
+            > cancelled.getStatistics().getInstructionVisits());
+    SortedSetMultimap<Integer, AnalysisResult> streamed = TreeMultimap.create();
+    findings.forEach(finding -> streamed.put(finding.lineNumber(), finding.result()));
+    assertEquals(complete.analyse(className, "errorBeforeLoop:(I)I"), streamed);
+  }
+
+  @Test
+  void testAnalyseClass_allMethods_matchesSingleMethodAnalyses() throws Exception {
+    SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> results =
+            analysis.analyseClass(pClassName, "*");
+
+    assertTrue(results.containsKey("<init>:()V"));
+    assertTrue(results.containsKey("second:(I)I"));
+    for (Arguments expected : expectedResults().toList()) {
+      assertEquals(expected.get()[1], results.get((String) expected.get()[0]));
+    }
+  }
+
+  @Test
+  void testAnalyseClass_namePattern_selectsMatchingMethods() throws Exception {
+    SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> results =
+            analysis.analyseClass(pClassName, "div*");
+
+    assertEquals(
+            Set.of("div:()I", "divZeroCall:()I", "divZeroIndirectCall:()I", "divMaybeZeroCall:()I"),
+            results.keySet());
+  }
+
+  @Test
+  void testAnalyseClass_keyPattern_matchesDescriptor() throws Exception {
+    SortedMap<String, SortedSetMultimap<Integer, AnalysisResult>> results =
+            analysis.analyseClass(pClassName, "get*:(?)I");
+
+    assertEquals(Set.of("getMaybeZero:(I)I"), results.keySet());
+  }
+
+  @Test
+  void testAnalyseClass_classNotFound_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () ->
+            analysis.analyseClass("non.existing.Class", "*"));
+  }
+
+  @Test
+  void testAnalyse_repeatedQueries_reuseParsedClass() throws Exception {
+    SignAnalysisImpl cachingAnalysis = new SignAnalysisImpl();
+
+    cachingAnalysis.analyse(pClassName, "div:()I");
+    cachingAnalysis.analyse(pClassName, "foo:()I");
+    cachingAnalysis.analyseClass(pClassName, "*");
+
+    assertEquals(1, cachingAnalysis.getClassModelCache().statistics().misses());
+    assertEquals(2, cachingAnalysis.getClassModelCache().statistics().hits());
+  }
 }
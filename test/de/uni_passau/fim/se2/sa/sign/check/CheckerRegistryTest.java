@@ -0,0 +1,116 @@
+package de.uni_passau.fim.se2.sa.sign.check;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckerRegistryTest {
+
+  @Test
+  void testDefaults_coverIntDivisorsAndArrayIndices() {
+    CheckerRegistry registry = CheckerRegistry.defaults();
+
+    for (int opcode : new int[] {Opcodes.IDIV, Opcodes.IREM}) {
+      assertArrayEquals(new Checker[] {StandardChecker.INT_DIVISOR}, registry.checkersFor(opcode));
+    }
+    for (int opcode = Opcodes.IALOAD; opcode <= Opcodes.SALOAD; opcode++) {
+      assertArrayEquals(new Checker[] {StandardChecker.ARRAY_LOAD_INDEX}, registry.checkersFor(opcode));
+    }
+    for (int opcode = Opcodes.IASTORE; opcode <= Opcodes.SASTORE; opcode++) {
+      assertArrayEquals(new Checker[] {StandardChecker.ARRAY_STORE_INDEX}, registry.checkersFor(opcode));
+    }
+    assertNull(registry.checkersFor(Opcodes.LDIV));
+    assertNull(registry.checkersFor(Opcodes.IADD));
+    assertNull(registry.checkersFor(-1));
+  }
+
+  @Test
+  void testIsChecked_instructionList_findsAnyCheckedInstruction() {
+    InsnList unchecked = new InsnList();
+    unchecked.add(new InsnNode(Opcodes.ICONST_1));
+    unchecked.add(new InsnNode(Opcodes.ICONST_2));
+    unchecked.add(new InsnNode(Opcodes.IADD));
+    unchecked.add(new InsnNode(Opcodes.IRETURN));
+    InsnList checked = new InsnList();
+    checked.add(new InsnNode(Opcodes.ICONST_1));
+    checked.add(new InsnNode(Opcodes.ICONST_0));
+    checked.add(new InsnNode(Opcodes.IREM));
+
+    assertFalse(CheckerRegistry.defaults().isChecked(unchecked));
+    assertFalse(CheckerRegistry.defaults().isChecked(new InsnList()));
+    assertTrue(CheckerRegistry.defaults().isChecked(checked));
+    assertTrue(CheckerRegistry.defaults().toBuilder()
+            .register(StandardChecker.INT_DIVISOR, Opcodes.IADD)
+            .build()
+            .isChecked(unchecked));
+  }
+
+  @Test
+  void testRegister_appendsToExistingCheckers_withoutChangingOriginal() {
+    CheckerRegistry extended = CheckerRegistry.defaults().toBuilder()
+            .register(StandardChecker.ARRAY_STORE_INDEX, Opcodes.IDIV)
+            .build();
+
+    assertArrayEquals(new Checker[] {StandardChecker.INT_DIVISOR, StandardChecker.ARRAY_STORE_INDEX},
+            extended.checkersFor(Opcodes.IDIV));
+    assertEquals(1, CheckerRegistry.defaults().checkersFor(Opcodes.IDIV).length);
+    assertNotEquals(CheckerRegistry.defaults(), extended);
+  }
+
+  @Test
+  void testRegister_invalidOpcode_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class,
+            () -> CheckerRegistry.builder().register(StandardChecker.INT_DIVISOR, 256));
+  }
+
+  @Test
+  void testIdentity_doesNotDependOnToStringOfCheckers() {
+    Checker custom = new Checker() {
+      private final Object state = new Object();
+
+      @Override
+      public int operandDepth() {
+        return 0;
+      }
+
+      @Override
+      public AnalysisResult check(final SignValue pOperand) {
+        return null;
+      }
+
+      @Override
+      public String toString() {
+        return "Checker@" + state.hashCode();
+      }
+    };
+    CheckerRegistry registry = CheckerRegistry.builder()
+            .register(StandardChecker.INT_DIVISOR, Opcodes.IDIV)
+            .register(custom, Opcodes.IDIV)
+            .register(StandardChecker.ARRAY_LOAD_INDEX, Opcodes.IREM)
+            .build();
+
+    String identity = registry.identity();
+
+    assertEquals("IDIV=" + StandardChecker.class.getName() + ".INT_DIVISOR;"
+            + CheckerRegistryTest.class.getName() + "$1;"
+            + "IREM=" + StandardChecker.class.getName() + ".ARRAY_LOAD_INDEX;", identity);
+    assertFalse(registry.toString().equals(identity));
+    assertNotEquals(CheckerRegistry.defaults().identity(), identity);
+  }
+
+  @Test
+  void testStandardCheckers_classifyOperands() {
+    assertEquals(AnalysisResult.DIVISION_BY_ZERO, StandardChecker.INT_DIVISOR.check(SignValue.ZERO));
+    assertEquals(AnalysisResult.MAYBE_DIVISION_BY_ZERO, StandardChecker.INT_DIVISOR.check(SignValue.TOP));
+    assertNull(StandardChecker.INT_DIVISOR.check(SignValue.PLUS));
+    assertEquals(AnalysisResult.NEGATIVE_ARRAY_INDEX, StandardChecker.ARRAY_LOAD_INDEX.check(SignValue.MINUS));
+    assertEquals(AnalysisResult.MAYBE_NEGATIVE_ARRAY_INDEX, StandardChecker.ARRAY_STORE_INDEX.check(SignValue.TOP));
+    assertNull(StandardChecker.ARRAY_STORE_INDEX.check(SignValue.ZERO));
+    assertEquals(1, StandardChecker.ARRAY_STORE_INDEX.operandDepth());
+  }
+}
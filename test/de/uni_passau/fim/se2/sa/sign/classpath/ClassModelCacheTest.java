@@ -0,0 +1,90 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static de.uni_passau.fim.se2.sa.sign.classpath.ClassModelTest.readClass;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassModelCacheTest {
+  private static final String PUBLIC_FUNCTIONAL = "de/uni_passau/fim/se2/sa/examples/PublicFunctional";
+  private static final String RECURSIVE_FUNCTIONAL = "de/uni_passau/fim/se2/sa/examples/RecursiveFunctional";
+
+  private static byte[] publicFunctional;
+  private static byte[] recursiveFunctional;
+
+  @BeforeAll
+  static void readClasses() throws IOException {
+    publicFunctional = readClass(PUBLIC_FUNCTIONAL);
+    recursiveFunctional = readClass(RECURSIVE_FUNCTIONAL);
+  }
+
+  @Test
+  void testGet_sameContent_returnsCachedModel() {
+    ClassModelCache cache = new ClassModelCache();
+
+    ClassModel first = cache.get(PUBLIC_FUNCTIONAL, publicFunctional);
+    ClassModel second = cache.get(PUBLIC_FUNCTIONAL, publicFunctional.clone());
+
+    assertSame(first, second);
+    ClassModelCache.Statistics statistics = cache.statistics();
+    assertEquals(1, statistics.hits());
+    assertEquals(1, statistics.misses());
+    assertEquals(1, statistics.models());
+    assertEquals(ClassModelCache.estimateSize(first), statistics.usedBytes());
+  }
+
+  @Test
+  void testGet_changedContent_parsesAgain() {
+    ClassModelCache cache = new ClassModelCache();
+
+    ClassModel first = cache.get(PUBLIC_FUNCTIONAL, publicFunctional);
+    ClassModel second = cache.get(PUBLIC_FUNCTIONAL, recursiveFunctional);
+
+    assertNotSame(first, second);
+    assertEquals(2, cache.statistics().misses());
+  }
+
+  @Test
+  void testGet_budgetExceeded_evictsLeastRecentlyUsed() {
+    long publicSize = ClassModelCache.estimateSize(ClassModel.parse(publicFunctional));
+    long recursiveSize = ClassModelCache.estimateSize(ClassModel.parse(recursiveFunctional));
+    ClassModelCache cache = new ClassModelCache(Math.max(publicSize, recursiveSize));
+
+    ClassModel first = cache.get(PUBLIC_FUNCTIONAL, publicFunctional);
+    cache.get(RECURSIVE_FUNCTIONAL, recursiveFunctional);
+
+    ClassModelCache.Statistics statistics = cache.statistics();
+    assertEquals(1, statistics.evictions());
+    assertEquals(1, statistics.models());
+    assertEquals(recursiveSize, statistics.usedBytes());
+    assertNotSame(first, cache.get(PUBLIC_FUNCTIONAL, publicFunctional));
+  }
+
+  @Test
+  void testGet_modelLargerThanBudget_isNotCached() {
+    ClassModelCache cache = new ClassModelCache(0);
+
+    assertNotNull(cache.get(PUBLIC_FUNCTIONAL, publicFunctional));
+    assertEquals(0, cache.statistics().models());
+    assertEquals(0, cache.statistics().evictions());
+  }
+
+  @Test
+  void testClear_removesModels() {
+    ClassModelCache cache = new ClassModelCache();
+    cache.get(PUBLIC_FUNCTIONAL, publicFunctional);
+
+    cache.clear();
+
+    assertEquals(0, cache.statistics().models());
+    assertEquals(0, cache.statistics().usedBytes());
+  }
+
+  @Test
+  void testConstructor_negativeBudget_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new ClassModelCache(-1));
+  }
+}
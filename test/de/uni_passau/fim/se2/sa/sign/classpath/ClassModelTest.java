@@ -0,0 +1,35 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassModelTest {
+
+  static byte[] readClass(String internalName) throws IOException {
+    try (InputStream in = ClassModelTest.class.getClassLoader()
+            .getResourceAsStream(internalName + ".class")) {
+      return in.readAllBytes();
+    }
+  }
+
+  @Test
+  void testParse_indexesMethodsByKey() throws IOException {
+    ClassModel model = ClassModel.parse(readClass("de/uni_passau/fim/se2/sa/examples/PublicFunctional"));
+
+    assertEquals("de/uni_passau/fim/se2/sa/examples/PublicFunctional", model.name());
+    assertEquals("second", model.method("second:(I)I").name);
+    assertNull(model.method("second:()I"));
+    assertEquals(model.classNode().methods.size(), model.methods().size());
+  }
+
+  @Test
+  void testMethods_isUnmodifiable() throws IOException {
+    ClassModel model = ClassModel.parse(readClass("de/uni_passau/fim/se2/sa/examples/PublicFunctional"));
+
+    assertThrows(UnsupportedOperationException.class, () -> model.methods().clear());
+  }
+}
@@ -0,0 +1,115 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static de.uni_passau.fim.se2.sa.sign.classpath.ClassModelTest.readClass;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassResolverTest {
+  private static final String HELPER = "de/uni_passau/fim/se2/sa/examples/CrossClassHelper";
+  private static final String CHILD = "de/uni_passau/fim/se2/sa/examples/CrossClassChild";
+  private static final String FUNCTIONAL = "de/uni_passau/fim/se2/sa/examples/CrossClassFunctional";
+
+  private static ClassProvider inMemory() throws IOException {
+    return ClassProvider.inMemory(Map.of(
+            HELPER, readClass(HELPER),
+            CHILD, readClass(CHILD),
+            FUNCTIONAL, readClass(FUNCTIONAL)));
+  }
+
+  @Test
+  void testResolve_distinguishesOwners() throws IOException {
+    ClassResolver resolver = new ClassResolver(inMemory(), new ClassModelCache());
+
+    ClassResolver.ResolvedMethod helperZero = resolver.resolve(HELPER, "zero", "()I");
+    ClassResolver.ResolvedMethod localZero = resolver.resolve(FUNCTIONAL, "zero", "()I");
+
+    assertEquals(HELPER, helperZero.owner().name());
+    assertEquals(FUNCTIONAL, localZero.owner().name());
+    assertNotSame(helperZero.method(), localZero.method());
+  }
+
+  @Test
+  void testResolve_inheritedMethod_isFoundInSuperclass() throws IOException {
+    ClassResolver resolver = new ClassResolver(inMemory(), new ClassModelCache());
+
+    ClassResolver.ResolvedMethod resolved = resolver.resolve(CHILD, "minusOne", "()I");
+
+    assertEquals(HELPER, resolved.owner().name());
+    assertEquals("minusOne", resolved.method().name);
+  }
+
+  @Test
+  void testResolve_unknownClassOrMethod_returnsNull() throws IOException {
+    ClassResolver resolver = new ClassResolver(inMemory(), new ClassModelCache());
+
+    assertNull(resolver.resolve("org/example/Missing", "zero", "()I"));
+    assertNull(resolver.resolve(HELPER, "one", "()I"));
+  }
+
+  @Test
+  void testFindClass_platformClass_isNotRead() {
+    AtomicInteger reads = new AtomicInteger();
+    ClassResolver resolver = new ClassResolver(name -> {
+      reads.incrementAndGet();
+      return null;
+    }, new ClassModelCache());
+
+    assertNull(resolver.findClass("java/lang/Math"));
+    assertEquals(0, reads.get());
+  }
+
+  @Test
+  void testFindClass_readsEveryClassOnce() throws IOException {
+    ClassProvider classes = inMemory();
+    AtomicInteger reads = new AtomicInteger();
+    ClassResolver resolver = new ClassResolver(name -> {
+      reads.incrementAndGet();
+      return classes.read(name);
+    }, new ClassModelCache());
+
+    resolver.resolve(CHILD, "minusOne", "()I");
+    resolver.resolve(CHILD, "zero", "()I");
+    resolver.resolve(HELPER, "zero", "()I");
+    resolver.findClass("org/example/Missing");
+    resolver.findClass("org/example/Missing");
+
+    assertEquals(3, reads.get());
+  }
+
+  @Test
+  void testProviders_readSameClass(@TempDir Path directory) throws IOException {
+    byte[] helper = readClass(HELPER);
+    Path classFile = directory.resolve(HELPER + ".class");
+    Files.createDirectories(classFile.getParent());
+    Files.write(classFile, helper);
+    Path jarFile = directory.resolve("classes.jar");
+    try (OutputStream out = Files.newOutputStream(jarFile);
+         ZipOutputStream jar = new ZipOutputStream(out)) {
+      jar.putNextEntry(new ZipEntry(HELPER + ".class"));
+      jar.write(helper);
+      jar.closeEntry();
+    }
+
+    assertArrayEquals(helper, ClassProvider.directory(directory).read(HELPER));
+    assertArrayEquals(helper, ClassProvider.classLoader(getClass().getClassLoader()).read(HELPER));
+    try (JarClassProvider jar = new JarClassProvider(jarFile)) {
+      assertArrayEquals(helper, jar.read(HELPER));
+      assertNull(jar.read(CHILD));
+    }
+    assertNull(ClassProvider.directory(directory).read(CHILD));
+    assertArrayEquals(helper,
+            ClassProvider.firstOf(ClassProvider.directory(directory.resolve("missing")),
+                    ClassProvider.directory(directory)).read(HELPER));
+  }
+}
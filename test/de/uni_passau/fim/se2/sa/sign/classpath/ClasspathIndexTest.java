@@ -0,0 +1,207 @@
+package de.uni_passau.fim.se2.sa.sign.classpath;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static de.uni_passau.fim.se2.sa.sign.classpath.ClassModelTest.readClass;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClasspathIndexTest {
+  private static final String HELPER = "de/uni_passau/fim/se2/sa/examples/CrossClassHelper";
+  private static final String CHILD = "de/uni_passau/fim/se2/sa/examples/CrossClassChild";
+  private static final String FUNCTIONAL = "de/uni_passau/fim/se2/sa/examples/CrossClassFunctional";
+
+  private static void writeJar(Path jarFile, boolean stored, String comment, String... classes) throws IOException {
+    try (OutputStream out = Files.newOutputStream(jarFile);
+         ZipOutputStream jar = new ZipOutputStream(out)) {
+      jar.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+      jar.write("Manifest-Version: 1.0\n".getBytes());
+      jar.closeEntry();
+      for (String name : classes) {
+        byte[] bytes = readClass(name);
+        ZipEntry entry = new ZipEntry(name + ".class");
+        if (stored) {
+          CRC32 crc = new CRC32();
+          crc.update(bytes);
+          entry.setMethod(ZipEntry.STORED);
+          entry.setSize(bytes.length);
+          entry.setCompressedSize(bytes.length);
+          entry.setCrc(crc.getValue());
+        }
+        jar.putNextEntry(entry);
+        jar.write(bytes);
+        jar.closeEntry();
+      }
+      if (comment != null) {
+        jar.setComment(comment);
+      }
+    }
+  }
+
+  @Test
+  void testRead_deflatedAndStoredEntries_matchClassFiles(@TempDir Path directory) throws IOException {
+    Path deflated = directory.resolve("deflated.jar");
+    Path stored = directory.resolve("stored.jar");
+    writeJar(deflated, false, null, HELPER);
+    writeJar(stored, true, "a comment before the end", CHILD);
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(deflated, stored))) {
+      assertArrayEquals(readClass(HELPER), index.read(HELPER));
+      assertArrayEquals(readClass(CHILD), index.read(CHILD));
+      assertNull(index.read(FUNCTIONAL));
+      assertNull(index.read("META-INF/MANIFEST"));
+      assertEquals(Set.of(HELPER, CHILD), index.classNames());
+    }
+  }
+
+  @Test
+  void testRead_classDirectory_matchesClassFiles(@TempDir Path directory) throws IOException {
+    Path classFile = directory.resolve(HELPER + ".class");
+    Files.createDirectories(classFile.getParent());
+    Files.write(classFile, readClass(HELPER));
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(directory))) {
+      assertArrayEquals(readClass(HELPER), index.read(HELPER));
+      assertEquals(Set.of(HELPER), index.classNames());
+    }
+  }
+
+  @Test
+  void testOpen_earlierEntriesShadowLaterOnes(@TempDir Path directory) throws IOException {
+    Path first = directory.resolve("first.jar");
+    Path second = directory.resolve("second.jar");
+    writeJar(first, false, null, HELPER);
+    writeJar(second, false, null, FUNCTIONAL);
+    Path shadowed = directory.resolve("classes").resolve(HELPER + ".class");
+    Files.createDirectories(shadowed.getParent());
+    Files.write(shadowed, new byte[] {1, 2, 3});
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(first, directory.resolve("classes"), second))) {
+      assertArrayEquals(readClass(HELPER), index.read(HELPER));
+      assertArrayEquals(readClass(FUNCTIONAL), index.read(FUNCTIONAL));
+    }
+  }
+
+  @Test
+  void testResolve_throughIndex_followsCallsIntoJar(@TempDir Path directory) throws IOException {
+    Path jar = directory.resolve("classes.jar");
+    writeJar(jar, false, null, HELPER, CHILD, FUNCTIONAL);
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(jar))) {
+      ClassResolver resolver = new ClassResolver(index, new ClassModelCache());
+
+      assertEquals(HELPER, resolver.resolve(CHILD, "minusOne", "()I").owner().name());
+    }
+  }
+
+  @Test
+  void testOpen_notAJar_throws(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("broken.jar");
+    Files.write(file, new byte[64]);
+
+    assertThrows(IOException.class, () -> ClasspathIndex.open(List.of(file)));
+  }
+
+  @Test
+  void testOpen_truncatedJar_throwsIOException(@TempDir Path directory) throws IOException {
+    Path jar = directory.resolve("classes.jar");
+    writeJar(jar, false, null, HELPER);
+    byte[] bytes = Files.readAllBytes(jar);
+    // Only the end of central directory record is left, which points before the file.
+    Files.write(jar, Arrays.copyOfRange(bytes, bytes.length - 22, bytes.length));
+
+    IOException exception = assertThrows(IOException.class, () -> ClasspathIndex.open(List.of(jar)));
+    assertInstanceOf(IndexOutOfBoundsException.class, exception.getCause());
+  }
+
+  @Test
+  void testRead_jarTruncatedInPlace_throwsIOException(@TempDir Path directory) throws IOException {
+    Path jar = directory.resolve("classes.jar");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+      // Random bytes do not deflate, so the class file starts beyond the first page of the jar.
+      out.putNextEntry(new ZipEntry("padding.bin"));
+      byte[] padding = new byte[64 * 1024];
+      new Random(0).nextBytes(padding);
+      out.write(padding);
+      out.putNextEntry(new ZipEntry(CHILD + ".class"));
+      out.write(readClass(CHILD));
+    }
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(jar))) {
+      Files.write(jar, new byte[10]);
+
+      assertThrows(IOException.class, () -> index.read(CHILD));
+      assertThrows(IOException.class, index::refresh);
+    }
+  }
+
+  @Test
+  void testRefresh_unchangedClasspath_keepsIndex(@TempDir Path directory) throws IOException {
+    Path jar = directory.resolve("classes.jar");
+    writeJar(jar, false, null, HELPER);
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(jar, directory))) {
+      assertFalse(index.refresh());
+      assertArrayEquals(readClass(HELPER), index.read(HELPER));
+    }
+  }
+
+  @Test
+  void testRefresh_rebuiltJar_readsNewEntries(@TempDir Path directory) throws IOException {
+    Path jar = directory.resolve("classes.jar");
+    writeJar(jar, false, null, HELPER);
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(jar))) {
+      writeJar(jar, true, null, CHILD, FUNCTIONAL);
+
+      assertTrue(index.refresh());
+      assertNull(index.read(HELPER));
+      assertArrayEquals(readClass(CHILD), index.read(CHILD));
+      assertArrayEquals(readClass(FUNCTIONAL), index.read(FUNCTIONAL));
+      assertEquals(Set.of(CHILD, FUNCTIONAL), index.classNames());
+    }
+  }
+
+  @Test
+  void testRefresh_classAddedToDirectory_findsClass(@TempDir Path directory) throws IOException {
+    Path helper = directory.resolve(HELPER + ".class");
+    Files.createDirectories(helper.getParent());
+    Files.write(helper, readClass(HELPER));
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(directory))) {
+      assertNull(index.read(CHILD));
+      Files.write(directory.resolve(CHILD + ".class"), readClass(CHILD));
+
+      assertTrue(index.refresh());
+      assertArrayEquals(readClass(CHILD), index.read(CHILD));
+      assertEquals(Set.of(HELPER, CHILD), index.classNames());
+    }
+  }
+
+  @Test
+  void testRefresh_removedJar_dropsEntries(@TempDir Path directory) throws IOException {
+    Path first = directory.resolve("first.jar");
+    Path second = directory.resolve("second.jar");
+    writeJar(first, false, null, HELPER);
+    writeJar(second, false, null, CHILD);
+
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(first, second))) {
+      Files.delete(first);
+
+      assertThrows(IOException.class, index::refresh);
+      assertArrayEquals(readClass(HELPER), index.read(HELPER));
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package de.uni_passau.fim.se2.sa.sign.daemon;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassProvider;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClasspathIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnalysisDaemonTest {
+  private static final String PUBLIC_FUNCTIONAL = "de.uni_passau.fim.se2.sa.examples.PublicFunctional";
+  private static final String HELPER = "de/uni_passau/fim/se2/sa/examples/CrossClassHelper";
+  private static final String CROSS_CLASS = "de.uni_passau.fim.se2.sa.examples.CrossClassFunctional";
+
+  private final ClassProvider classLoader = ClassProvider.classLoader(getClass().getClassLoader());
+
+  private static List<String> serve(final AnalysisDaemon pDaemon, final String... pRequests)
+          throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    pDaemon.serve(new BufferedReader(new StringReader(String.join("\n", pRequests))),
+            new PrintStream(out, true, StandardCharsets.UTF_8));
+    return out.toString(StandardCharsets.UTF_8).lines().toList();
+  }
+
+  @Test
+  void testServe_analysesRequestsInOrder() throws IOException {
+    AnalysisDaemon daemon = new AnalysisDaemon(AnalysisOptions.defaults(), classLoader, null);
+
+    List<String> response = serve(daemon,
+            "-c " + PUBLIC_FUNCTIONAL + " -m divZeroCall:()I",
+            "",
+            "--class " + PUBLIC_FUNCTIONAL + " --method loop0:()V");
+
+    assertEquals(List.of(
+            "Line 124: ERROR: Division by Zero detected", "OK",
+            "Line 59: WARNING: Division by Zero detected", "OK"), response);
+  }
+
+  @Test
+  void testServe_malformedRequest_reportsErrorAndContinues() throws IOException {
+    AnalysisDaemon daemon = new AnalysisDaemon(AnalysisOptions.defaults(), classLoader, null);
+
+    List<String> response = serve(daemon,
+            "-x foo",
+            "-c",
+            "-m foo:()V",
+            "-c non.existing.Class -m foo:()V",
+            "-c " + PUBLIC_FUNCTIONAL + " -m divZeroCall:()I");
+
+    assertEquals(6, response.size());
+    assertEquals("ERROR Unknown option -x", response.get(0));
+    assertEquals("ERROR Missing value for option -c", response.get(1));
+    assertEquals("ERROR Missing required options: --class and --method, --scan, or --targets", response.get(2));
+    assertTrue(response.get(3).startsWith("ERROR Invalid class name"));
+    assertEquals("OK", response.get(5));
+  }
+
+  @Test
+  void testServe_keepsSummariesWarmBetweenRequests() throws IOException {
+    AnalysisDaemon daemon = new AnalysisDaemon(AnalysisOptions.defaults(), classLoader, null);
+
+    List<String> response = serve(daemon,
+            "-c " + PUBLIC_FUNCTIONAL + " -m divZeroCall:()I",
+            "-c " + PUBLIC_FUNCTIONAL + " -m divZeroCall:()I",
+            "stats");
+
+    assertEquals(3, daemon.getAnalysis().getStatistics().getAnalyses());
+    assertTrue(response.stream().anyMatch(line -> line.startsWith("Summaries: 1 cached")));
+    assertEquals("OK", response.get(response.size() - 1));
+  }
+
+  @Test
+  void testServe_changedClass_dropsSummaries() throws IOException {
+    Map<String, byte[]> changed = new ConcurrentHashMap<>();
+    ClassProvider provider = ClassProvider.firstOf(changed::get, classLoader);
+    AnalysisDaemon daemon = new AnalysisDaemon(AnalysisOptions.defaults(), provider, null);
+    String request = "-c " + CROSS_CLASS + " -m helperZeroCall:()I";
+
+    assertEquals(List.of("Line 6: ERROR: Division by Zero detected", "OK"), serve(daemon, request));
+
+    changed.put(HELPER, returningOne(classLoader.read(HELPER)));
+
+    assertEquals(List.of("No warnings or errors found", "OK"), serve(daemon, request));
+  }
+
+  @Test
+  void testServe_rebuiltJar_readsRebuiltClass(@TempDir Path directory) throws IOException {
+    Path jar = directory.resolve("helper.jar");
+    writeJar(jar, HELPER, classLoader.read(HELPER));
+    try (ClasspathIndex index = ClasspathIndex.open(List.of(jar))) {
+      ClassProvider provider = ClassProvider.firstOf(index, classLoader);
+      AnalysisDaemon daemon = new AnalysisDaemon(AnalysisOptions.defaults(), provider, index, null);
+      String request = "-c " + CROSS_CLASS + " -m helperZeroCall:()I";
+
+      assertEquals(List.of("Line 6: ERROR: Division by Zero detected", "OK"), serve(daemon, request));
+
+      writeJar(jar, HELPER, returningOne(classLoader.read(HELPER)));
+
+      assertEquals(List.of("No warnings or errors found", "OK"), serve(daemon, request));
+    }
+  }
+
+  private static void writeJar(final Path pJar, final String pName, final byte[] pBytes)
+          throws IOException {
+    try (ZipOutputStream jar = new ZipOutputStream(Files.newOutputStream(pJar))) {
+      jar.putNextEntry(new ZipEntry(pName + ".class"));
+      jar.write(pBytes);
+      jar.closeEntry();
+    }
+  }
+
+  @Test
+  void testServe_socket_servesClientsUntilShutdown(@TempDir Path directory) throws Exception {
+    Path socket = directory.resolve("daemon.sock");
+    AnalysisDaemon daemon = new AnalysisDaemon(AnalysisOptions.defaults(), classLoader, null);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> serving = executor.submit(() -> {
+        daemon.serve(socket);
+        return null;
+      });
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      ByteArrayOutputStream err = new ByteArrayOutputStream();
+      int exitCode = 2;
+      for (int attempt = 0; attempt < 100 && exitCode == 2; attempt++) {
+        exitCode = DaemonClient.send(socket, "-c " + PUBLIC_FUNCTIONAL + " -m divZeroCall:()I",
+                new PrintStream(out, true), new PrintStream(new ByteArrayOutputStream(), true));
+        if (exitCode == 2) {
+          Thread.sleep(20);
+        }
+      }
+      assertEquals(0, exitCode);
+      assertEquals("Line 124: ERROR: Division by Zero detected", out.toString().strip());
+
+      assertEquals(1, DaemonClient.send(socket, "-c",
+              new PrintStream(new ByteArrayOutputStream(), true), new PrintStream(err, true)));
+      assertEquals("Missing value for option -c", err.toString().strip());
+
+      assertEquals(0, DaemonClient.send(socket, AnalysisDaemon.SHUTDOWN,
+              new PrintStream(new ByteArrayOutputStream(), true), new PrintStream(err, true)));
+      serving.get(10, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** Replaces the constant of {@code CrossClassHelper.zero()} by one. */
+  private static byte[] returningOne(final byte[] pClassBytes) {
+    ClassNode classNode = new ClassNode();
+    new ClassReader(pClassBytes).accept(classNode, 0);
+    for (MethodNode method : classNode.methods) {
+      if (method.name.equals("zero")) {
+        for (AbstractInsnNode insn : method.instructions) {
+          if (insn.getOpcode() == Opcodes.ICONST_0) {
+            method.instructions.set(insn, new InsnNode(Opcodes.ICONST_1));
+          }
+        }
+      }
+    }
+    ClassWriter writer = new ClassWriter(0);
+    classNode.accept(writer);
+    return writer.toByteArray();
+  }
+}
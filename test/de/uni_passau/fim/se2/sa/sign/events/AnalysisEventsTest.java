@@ -0,0 +1,105 @@
+package de.uni_passau.fim.se2.sa.sign.events;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
+import de.uni_passau.fim.se2.sa.sign.SignAnalysisImpl;
+import de.uni_passau.fim.se2.sa.sign.summary.ContextSensitivity;
+import de.uni_passau.fim.se2.sa.sign.summary.SummaryCache;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnalysisEventsTest {
+
+  private static final String CLASS_NAME = "de.uni_passau.fim.se2.sa.examples.PublicFunctional";
+  private static final String INTERNAL_NAME = CLASS_NAME.replace('.', '/');
+
+  @TempDir
+  Path directory;
+
+  private List<RecordedEvent> record(ThrowingRunnable pAction) throws Exception {
+    Path file = directory.resolve("sign.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(ClassLoadEvent.class);
+      recording.enable(MethodAnalysisEvent.class);
+      recording.enable(SummaryHitEvent.class);
+      recording.enable(FindingExtractionEvent.class);
+      recording.start();
+      pAction.run();
+      recording.stop();
+      recording.dump(file);
+    }
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private static List<RecordedEvent> named(List<RecordedEvent> pEvents, String pName) {
+    return pEvents.stream()
+            .filter(event -> event.getEventType().getName().equals("de.uni_passau.fim.se2.sa.sign." + pName))
+            .toList();
+  }
+
+  @Test
+  void testAnalyse_recordsPhases() throws Exception {
+    SignAnalysisImpl analysis = new SignAnalysisImpl();
+
+    List<RecordedEvent> events = record(() -> analysis.analyse(CLASS_NAME, "divZeroCall:()I"));
+
+    RecordedEvent load = named(events, "ClassLoad").get(0);
+    assertEquals(INTERNAL_NAME, load.getString("className"));
+    assertTrue(load.getLong("size") > 0);
+
+    List<RecordedEvent> analyses = named(events, "MethodAnalysis");
+    RecordedEvent top = analyses.stream()
+            .filter(event -> event.getInt("callDepth") == 0).findFirst().orElseThrow();
+    assertEquals(INTERNAL_NAME, top.getString("owner"));
+    assertEquals("divZeroCall:()I", top.getString("methodKey"));
+    assertTrue(top.getLong("visitedInstructions") >= top.getInt("instructions") / 2);
+    assertTrue(analyses.stream().anyMatch(event -> event.getInt("callDepth") == 1));
+
+    RecordedEvent extraction = named(events, "FindingExtraction").get(0);
+    assertEquals("divZeroCall:()I", extraction.getString("methodKey"));
+    assertEquals(1, extraction.getInt("findings"));
+  }
+
+  @Test
+  void testAnalyse_callSitesReanalysis_recordsEveryRun() throws Exception {
+    SignAnalysisImpl analysis = new SignAnalysisImpl(
+            AnalysisOptions.builder().contextSensitivity(ContextSensitivity.CALL_SITE).build());
+
+    List<RecordedEvent> events = record(() -> analysis.analyse(
+            "de.uni_passau.fim.se2.sa.examples.ContextFunctional", "nestedSitesCall:()I"));
+
+    List<RecordedEvent> runs = named(events, "MethodAnalysis").stream()
+            .filter(event -> event.getInt("callDepth") == 0)
+            .toList();
+    // The summaries read by the first run grow afterwards, so the method is analysed again.
+    assertTrue(runs.size() > 1);
+    assertTrue(runs.stream().allMatch(event -> event.getLong("visitedInstructions") > 0));
+  }
+
+  @Test
+  void testAnalyse_cachedSummary_recordsHit() throws Exception {
+    SignAnalysisImpl analysis = new SignAnalysisImpl(new SummaryCache());
+    analysis.analyse(CLASS_NAME, "divZeroCall:()I");
+
+    List<RecordedEvent> events = record(() -> analysis.analyse(CLASS_NAME, "divZeroCall:()I"));
+
+    RecordedEvent hit = named(events, "SummaryHit").get(0);
+    assertEquals(INTERNAL_NAME, hit.getString("owner"));
+    assertEquals(1, hit.getInt("callDepth"));
+    assertTrue(hit.getInt("instructions") > 0);
+    assertTrue(named(events, "MethodAnalysis").stream()
+            .allMatch(event -> event.getInt("callDepth") == 0));
+  }
+
+  @FunctionalInterface
+  private interface ThrowingRunnable {
+    void run() throws Exception;
+  }
+}
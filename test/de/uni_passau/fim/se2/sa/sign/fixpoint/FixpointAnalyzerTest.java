@@ -0,0 +1,215 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import de.uni_passau.fim.se2.sa.sign.interpretation.PackedSignFrame;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignInterpreter;
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.BasicInterpreter;
+import org.objectweb.asm.tree.analysis.BasicValue;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.Interpreter;
+import org.objectweb.asm.tree.analysis.Value;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixpointAnalyzerTest {
+
+  private static ClassModel load(String internalName) throws IOException {
+    try (InputStream in = FixpointAnalyzerTest.class.getClassLoader()
+            .getResourceAsStream(internalName + ".class")) {
+      return ClassModel.parse(in.readAllBytes());
+    }
+  }
+
+  private static <V extends Value> void assertSameFrames(
+          String owner, MethodNode method, Interpreter<V> reference, Interpreter<V> candidate)
+          throws AnalyzerException {
+    Frame<V>[] expected = new Analyzer<>(reference).analyze(owner, method);
+    FixpointAnalyzer<V> analyzer = new FixpointAnalyzer<>(candidate);
+    Frame<V>[] actual = analyzer.analyze(owner, method);
+
+    assertEquals(expected.length, actual.length);
+    assertSame(actual, analyzer.getFrames());
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(String.valueOf(expected[i]), String.valueOf(actual[i]),
+              method.name + method.desc + " at instruction " + i);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+          "de/uni_passau/fim/se2/sa/examples/PublicFunctional",
+          "de/uni_passau/fim/se2/sa/examples/RecursiveFunctional",
+          "de/uni_passau/fim/se2/sa/examples/LoopFunctional"})
+  void testAnalyze_signInterpreter_matchesAsmAnalyzer(String className) throws Exception {
+    ClassModel model = load(className);
+    for (MethodNode method : model.methods().values()) {
+      if (method.desc.contains("J") || method.desc.contains("D")) {
+        continue; // SignValue has size one, so wide values are rejected by both analyzers.
+      }
+      assertSameFrames(className, method,
+              new SignInterpreter(className, model.methods()),
+              new SignInterpreter(className, model.methods()));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+          "de/uni_passau/fim/se2/sa/examples/PublicFunctional",
+          "de/uni_passau/fim/se2/sa/examples/RecursiveFunctional",
+          "de/uni_passau/fim/se2/sa/examples/LoopFunctional"})
+  void testAnalyze_packedFrames_matchesAsmAnalyzer(String className) throws Exception {
+    ClassModel model = load(className);
+    for (MethodNode method : model.methods().values()) {
+      if (method.desc.contains("J") || method.desc.contains("D")) {
+        continue;
+      }
+      Frame<SignValue>[] expected = new Analyzer<>(new SignInterpreter(className, model.methods()))
+              .analyze(className, method);
+      Frame<SignValue>[] actual = new FixpointAnalyzer<>(
+              new SignInterpreter(className, model.methods()),
+              FixpointStrategy.WEAK_TOPOLOGICAL_ORDER, null, new FixpointStatistics(),
+              PackedSignFrame::new).analyze(className, method);
+
+      for (int i = 0; i < expected.length; i++) {
+        assertEquals(String.valueOf(expected[i]), String.valueOf(actual[i]),
+                method.name + method.desc + " at instruction " + i);
+        if (actual[i] != null) {
+          assertInstanceOf(PackedSignFrame.class, actual[i]);
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V extends Value> void assertObservedFramesJoinToFrames(
+          String owner, MethodNode method, Interpreter<V> interpreter) throws AnalyzerException {
+    Frame<V>[] expected = new FixpointAnalyzer<>(interpreter).analyze(owner, method);
+    Frame<V>[] joined = (Frame<V>[]) new Frame<?>[expected.length];
+    FixpointAnalyzer<V> analyzer = new FixpointAnalyzer<>(interpreter);
+    analyzer.analyze(owner, method, (index, insn, frame) -> {
+      assertSame(method.instructions.get(index), insn);
+      try {
+        if (joined[index] == null) {
+          joined[index] = new Frame<>(frame);
+        } else {
+          joined[index].merge(frame, interpreter);
+        }
+      } catch (AnalyzerException e) {
+        throw new AssertionError(e);
+      }
+    });
+
+    assertTrue(analyzer.getFrames().length <= 1);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(String.valueOf(expected[i]), String.valueOf(joined[i]),
+              method.name + method.desc + " at instruction " + i);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+          "de/uni_passau/fim/se2/sa/examples/PublicFunctional",
+          "de/uni_passau/fim/se2/sa/examples/LoopFunctional",
+          "de/uni_passau/fim/se2/sa/sign/scan/ScanPipeline"})
+  void testAnalyze_observer_joinsToKeptFrames(String className) throws Exception {
+    ClassModel model = load(className);
+    for (MethodNode method : model.methods().values()) {
+      assertObservedFramesJoinToFrames(className, method, new BasicInterpreter());
+      if (!method.desc.contains("J") && !method.desc.contains("D")
+              && className.contains("examples")) {
+        assertObservedFramesJoinToFrames(
+                className, method, new SignInterpreter(className, model.methods()));
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+          "de/uni_passau/fim/se2/sa/examples/LoopFunctional",
+          "de/uni_passau/fim/se2/sa/sign/fixpoint/WeakTopologicalOrder",
+          "de/uni_passau/fim/se2/sa/sign/scan/ScanPipeline"})
+  void testAnalyze_basicInterpreter_matchesAsmAnalyzer(String className) throws Exception {
+    ClassModel model = load(className);
+    for (MethodNode method : model.methods().values()) {
+      assertSameFrames(className, method, new BasicInterpreter(), new BasicInterpreter());
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+          "de/uni_passau/fim/se2/sa/examples/PublicFunctional",
+          "de/uni_passau/fim/se2/sa/examples/RecursiveFunctional",
+          "de/uni_passau/fim/se2/sa/examples/LoopFunctional"})
+  void testAnalyze_sparseFrames_overApproximateStackValues(String className) throws Exception {
+    ClassModel model = load(className);
+    for (FixpointStrategy strategy : FixpointStrategy.values()) {
+      for (MethodNode method : model.methods().values()) {
+        if (method.desc.contains("J") || method.desc.contains("D")) {
+          continue;
+        }
+        Frame<SignValue>[] dense = new FixpointAnalyzer<>(
+                new SignInterpreter(className, model.methods()), strategy, null,
+                new FixpointStatistics()).analyze(className, method);
+        Frame<SignValue>[] sparse = new FixpointAnalyzer<>(
+                new SignInterpreter(className, model.methods()), strategy, SignValue.TOP,
+                new FixpointStatistics()).analyze(className, method);
+        SignInterpreter lattice = new SignInterpreter(className, model.methods());
+
+        for (int i = 0; i < dense.length; i++) {
+          assertEquals(dense[i] == null, sparse[i] == null);
+          if (dense[i] != null) {
+            assertInstanceOf(SparseFrame.class, sparse[i]);
+            assertEquals(dense[i].getStackSize(), sparse[i].getStackSize());
+            for (int j = 0; j < dense[i].getStackSize(); j++) {
+              SignValue sparseValue = sparse[i].getStack(j);
+              assertEquals(sparseValue, lattice.merge(dense[i].getStack(j), sparseValue),
+                      method.name + method.desc + " at instruction " + i);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"nestedLoops:()I", "loopWithHandler:([I)I"})
+  void testAnalyze_loops_countComponentIterations(String methodKey) throws Exception {
+    String className = "de/uni_passau/fim/se2/sa/examples/LoopFunctional";
+    ClassModel model = load(className);
+    FixpointAnalyzer<BasicValue> analyzer = new FixpointAnalyzer<>(new BasicInterpreter());
+
+    analyzer.analyze(className, model.method(methodKey));
+
+    FixpointStatistics statistics = analyzer.getStatistics();
+    assertEquals(1, statistics.getAnalyses());
+    assertTrue(statistics.getComponentIterations() >= 1);
+    assertTrue(statistics.getBlockVisits() > 0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"nestedLoops:()I", "loopWithSwitch:(I)I"})
+  void testAnalyze_asmStrategy_delegatesToAsm(String methodKey) throws Exception {
+    String className = "de/uni_passau/fim/se2/sa/examples/LoopFunctional";
+    ClassModel model = load(className);
+    FixpointAnalyzer<SignValue> analyzer = new FixpointAnalyzer<>(
+            new SignInterpreter(className, model.methods()),
+            FixpointStrategy.ASM_ANALYZER,
+            null,
+            new FixpointStatistics());
+
+    Frame<SignValue>[] frames = analyzer.analyze(className, model.method(methodKey));
+
+    assertSame(frames, analyzer.getFrames());
+    assertEquals(1, analyzer.getStatistics().getAnalyses());
+    assertEquals(0, analyzer.getStatistics().getBlockVisits());
+  }
+}
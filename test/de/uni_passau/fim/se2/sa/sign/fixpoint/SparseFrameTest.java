@@ -0,0 +1,67 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseFrameTest {
+
+  private static MethodNode method() {
+    MethodNode method = new MethodNode(Opcodes.ACC_STATIC, "m", "(Ljava/lang/Object;II)I", null, null);
+    method.maxLocals = 5;
+    method.maxStack = 2;
+    method.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+    method.instructions.add(new InsnNode(Opcodes.POP));
+    method.instructions.add(new IincInsnNode(1, 1));
+    method.instructions.add(new InsnNode(Opcodes.ICONST_0));
+    method.instructions.add(new VarInsnNode(Opcodes.ISTORE, 3));
+    method.instructions.add(new VarInsnNode(Opcodes.ILOAD, 4));
+    method.instructions.add(new InsnNode(Opcodes.IRETURN));
+    return method;
+  }
+
+  @Test
+  void testSlotsOf_tracksLocalsReadAsInts() {
+    int[] slots = SparseFrame.slotsOf(method());
+
+    // The reference, the unused parameter, and the int that is only written are untracked.
+    assertArrayEquals(new int[] {SparseFrame.UNTRACKED, 0, SparseFrame.UNTRACKED, SparseFrame.UNTRACKED, 1}, slots);
+    assertEquals(2, SparseFrame.trackedLocals(slots));
+  }
+
+  @Test
+  void testLocals_untrackedLocalsAreConstant() {
+    int[] slots = SparseFrame.slotsOf(method());
+    SparseFrame<SignValue> frame = new SparseFrame<>(slots, 2, 2, SignValue.TOP);
+
+    frame.setLocal(0, SignValue.TOP);
+    frame.setLocal(1, SignValue.PLUS);
+    frame.setLocal(4, SignValue.MINUS);
+
+    assertEquals(5, frame.getLocals());
+    assertSame(SignValue.TOP, frame.getLocal(0));
+    assertSame(SignValue.PLUS, frame.getLocal(1));
+    assertSame(SignValue.MINUS, frame.getLocal(4));
+  }
+
+  @Test
+  void testCopy_sharesSlotsAndCopiesValues() {
+    int[] slots = SparseFrame.slotsOf(method());
+    SparseFrame<SignValue> frame = new SparseFrame<>(slots, 2, 2, SignValue.TOP);
+    frame.setLocal(1, SignValue.PLUS);
+    frame.push(SignValue.ZERO);
+
+    SparseFrame<SignValue> copy = new SparseFrame<>(frame);
+    frame.setLocal(1, SignValue.MINUS);
+
+    assertSame(SignValue.PLUS, copy.getLocal(1));
+    assertSame(SignValue.ZERO, copy.getStack(0));
+    assertSame(SignValue.TOP, copy.getLocal(2));
+  }
+}
@@ -0,0 +1,60 @@
+package de.uni_passau.fim.se2.sa.sign.fixpoint;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeakTopologicalOrderTest {
+
+  @Test
+  void testCompute_acyclicGraph_isTopologicalOrder() {
+    int[][] successors = {{1, 2}, {3}, {3}, {}};
+
+    assertEquals("0 2 1 3", WeakTopologicalOrder.compute(successors, 0).toString());
+  }
+
+  @Test
+  void testCompute_loop_becomesComponent() {
+    int[][] successors = {{1}, {2, 3}, {1}, {}};
+
+    assertEquals("0 (1 2) 3", WeakTopologicalOrder.compute(successors, 0).toString());
+  }
+
+  @Test
+  void testCompute_nestedLoops_areNestedComponents() {
+    // 1 heads the outer loop, 2 the inner loop 2 -> 3 -> 2.
+    int[][] successors = {{1}, {2, 5}, {3, 4}, {2}, {1}, {}};
+
+    assertEquals("0 (1 (2 3) 4) 5", WeakTopologicalOrder.compute(successors, 0).toString());
+  }
+
+  @Test
+  void testCompute_selfLoop_isComponentWithoutBody() {
+    int[][] successors = {{1}, {1, 2}, {}};
+
+    assertEquals("0 (1) 2", WeakTopologicalOrder.compute(successors, 0).toString());
+  }
+
+  @Test
+  void testCompute_unreachableNodes_areOmitted() {
+    int[][] successors = {{2}, {2}, {}};
+
+    assertEquals("0 2", WeakTopologicalOrder.compute(successors, 0).toString());
+  }
+
+  @Test
+  void testCompute_longChain_doesNotOverflowStack() {
+    int[][] successors = new int[100_000][];
+    for (int i = 0; i < successors.length - 1; i++) {
+      successors[i] = new int[] {i + 1};
+    }
+    successors[successors.length - 1] = new int[] {0};
+
+    WeakTopologicalOrder order = WeakTopologicalOrder.compute(successors, 0);
+
+    assertEquals(1, order.getElements().size());
+    WeakTopologicalOrder.Component loop = (WeakTopologicalOrder.Component) order.getElements().get(0);
+    assertEquals(0, loop.head());
+    assertEquals(successors.length - 1, loop.body().size());
+  }
+}
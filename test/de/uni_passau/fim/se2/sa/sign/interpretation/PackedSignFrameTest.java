@@ -0,0 +1,150 @@
+package de.uni_passau.fim.se2.sa.sign.interpretation;
+
+import de.uni_passau.fim.se2.sa.sign.fixpoint.SparseFrame;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedSignFrameTest {
+
+  private final SignInterpreter interpreter = new SignInterpreter("Foo", Map.of());
+
+  @Test
+  void testLocalsAndStack_roundTripAllValues() {
+    PackedSignFrame frame = new PackedSignFrame(20, SignValue.values().length);
+
+    for (SignValue value : SignValue.values()) {
+      frame.setLocal(value.ordinal() + 10, value);
+      frame.push(value);
+    }
+
+    for (SignValue value : SignValue.values()) {
+      assertSame(value, frame.getLocal(value.ordinal() + 10));
+      assertSame(value, frame.getStack(value.ordinal()));
+    }
+    assertEquals(20, frame.getLocals());
+    assertEquals(SignValue.values().length, frame.getStackSize());
+    assertSame(SignValue.UNINITIALIZED_VALUE, frame.pop());
+    assertEquals(SignValue.values().length - 1, frame.getStackSize());
+  }
+
+  @Test
+  void testMerge_matchesSignInterpreterInEverySlot() throws AnalyzerException {
+    SignValue[] values = SignValue.values();
+    for (int slot = 0; slot < 17; slot++) {
+      for (SignValue value1 : values) {
+        for (SignValue value2 : values) {
+          PackedSignFrame frame = new PackedSignFrame(17, 0);
+          PackedSignFrame other = new PackedSignFrame(17, 0);
+          frame.setLocal(slot, value1);
+          other.setLocal(slot, value2);
+
+          SignValue expected = interpreter.merge(value1, value2);
+          assertEquals(expected != value1, frame.merge(other, interpreter));
+          assertSame(expected, frame.getLocal(slot), value1 + " ⊔ " + value2);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testJoin_packedWords() {
+    long zeroAndUninitialized = SignValue.ZERO.mask() | ((long) SignValue.UNINITIALIZED_VALUE.mask() << 4);
+    long plusAndBottom = SignValue.PLUS.mask();
+
+    assertEquals(
+            SignValue.ZERO_PLUS.mask() | ((long) SignValue.UNINITIALIZED_VALUE.mask() << 4),
+            PackedSignFrame.join(zeroAndUninitialized, plusAndBottom));
+  }
+
+  @Test
+  void testMerge_differentStackHeights_throws() {
+    PackedSignFrame frame = new PackedSignFrame(1, 2);
+    PackedSignFrame other = new PackedSignFrame(1, 2);
+    other.push(SignValue.ZERO);
+
+    assertThrows(AnalyzerException.class, () -> frame.merge(other, interpreter));
+  }
+
+  @Test
+  void testPop_clearsSlot() throws AnalyzerException {
+    PackedSignFrame frame = new PackedSignFrame(1, 2);
+    PackedSignFrame other = new PackedSignFrame(1, 2);
+    frame.push(SignValue.MINUS);
+    frame.pop();
+
+    assertFalse(other.merge(frame, interpreter));
+    other.push(SignValue.BOTTOM);
+    assertSame(SignValue.BOTTOM, other.getStack(0));
+  }
+
+  @Test
+  void testMergeSubroutine_matchesAsmFrame() {
+    boolean[] localsUsed = {true, false, false};
+    PackedSignFrame packed = new PackedSignFrame(3, 1);
+    PackedSignFrame packedSubroutine = new PackedSignFrame(3, 1);
+    Frame<SignValue> frame = new Frame<>(3, 1);
+    Frame<SignValue> subroutine = new Frame<>(3, 1);
+    for (Frame<SignValue> f : List.of(packed, frame)) {
+      f.setLocal(0, SignValue.ZERO);
+      f.setLocal(1, SignValue.PLUS);
+      f.setLocal(2, SignValue.MINUS);
+    }
+    for (Frame<SignValue> f : List.of(packedSubroutine, subroutine)) {
+      f.setLocal(0, SignValue.MINUS);
+      f.setLocal(1, SignValue.MINUS);
+      f.setLocal(2, SignValue.MINUS);
+    }
+
+    assertTrue(packed.merge(packedSubroutine, localsUsed));
+    assertTrue(frame.merge(subroutine, localsUsed));
+    assertEquals(frame.toString(), packed.toString());
+    assertFalse(packed.merge(packedSubroutine, localsUsed));
+  }
+
+  @Test
+  void testCopy_isIndependent() {
+    PackedSignFrame frame = new PackedSignFrame(2, 2);
+    frame.setLocal(1, SignValue.PLUS);
+    frame.push(SignValue.ZERO);
+    frame.setReturn(SignValue.TOP);
+
+    PackedSignFrame copy = new PackedSignFrame(frame);
+    frame.setLocal(1, SignValue.MINUS);
+
+    assertSame(SignValue.PLUS, copy.getLocal(1));
+    assertSame(SignValue.MINUS, frame.getLocal(1));
+    assertSame(SignValue.ZERO, copy.getStack(0));
+  }
+
+  @Test
+  void testSparseSlots_untrackedLocalsAreConstant() {
+    int[] slots = {SparseFrame.UNTRACKED, 0, SparseFrame.UNTRACKED};
+    PackedSignFrame frame = new PackedSignFrame(slots, 1, 1, SignValue.TOP);
+
+    frame.setLocal(0, SignValue.ZERO);
+    frame.setLocal(1, SignValue.MINUS);
+
+    assertEquals(3, frame.getLocals());
+    assertSame(SignValue.TOP, frame.getLocal(0));
+    assertSame(SignValue.MINUS, frame.getLocal(1));
+  }
+
+  @Test
+  void testToString_matchesAsmFrame() {
+    PackedSignFrame packed = new PackedSignFrame(2, 2);
+    Frame<SignValue> frame = new Frame<>(2, 2);
+    for (Frame<SignValue> f : List.of(packed, frame)) {
+      f.setLocal(0, SignValue.ZERO_PLUS);
+      f.setLocal(1, SignValue.UNINITIALIZED_VALUE);
+      f.push(SignValue.MINUS);
+    }
+
+    assertEquals(frame.toString(), packed.toString());
+  }
+}
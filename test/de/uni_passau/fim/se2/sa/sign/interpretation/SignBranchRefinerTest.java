@@ -0,0 +1,109 @@
+package de.uni_passau.fim.se2.sa.sign.interpretation;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.objectweb.asm.tree.analysis.Frame;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SignBranchRefinerTest {
+
+  private final SignBranchRefiner refiner = new SignBranchRefiner();
+
+  private static JumpInsnNode jump(int opcode, AbstractInsnNode... loads) {
+    InsnList instructions = new InsnList();
+    for (AbstractInsnNode load : loads) {
+      instructions.add(load);
+    }
+    JumpInsnNode jump = new JumpInsnNode(opcode, new LabelNode());
+    instructions.add(jump);
+    return jump;
+  }
+
+  private static Frame<SignValue> frame(SignValue local0, SignValue local1) {
+    Frame<SignValue> frame = new Frame<>(2, 2);
+    frame.setLocal(0, local0);
+    frame.setLocal(1, local1);
+    return frame;
+  }
+
+  @Test
+  void testRefine_ifle_narrowsLoadedLocalOnBothEdges() {
+    JumpInsnNode jump = jump(Opcodes.IFLE, new VarInsnNode(Opcodes.ILOAD, 0));
+    Frame<SignValue> taken = frame(SignValue.TOP, SignValue.TOP);
+    Frame<SignValue> fallThrough = frame(SignValue.TOP, SignValue.TOP);
+
+    assertTrue(refiner.refine(jump, List.of(SignValue.TOP), taken, true));
+    assertTrue(refiner.refine(jump, List.of(SignValue.TOP), fallThrough, false));
+
+    assertEquals(SignValue.ZERO_MINUS, taken.getLocal(0));
+    assertEquals(SignValue.PLUS, fallThrough.getLocal(0));
+    assertEquals(SignValue.TOP, fallThrough.getLocal(1));
+  }
+
+  @Test
+  void testRefine_ifeq_zeroCannotBeNonZero() {
+    JumpInsnNode jump = jump(Opcodes.IFNE, new VarInsnNode(Opcodes.ILOAD, 0));
+
+    assertFalse(refiner.refine(jump, List.of(SignValue.ZERO), frame(SignValue.ZERO, SignValue.TOP), true));
+    assertTrue(refiner.refine(jump, List.of(SignValue.ZERO), frame(SignValue.ZERO, SignValue.TOP), false));
+  }
+
+  @Test
+  void testRefine_ificmplt_narrowsBothLocals() {
+    JumpInsnNode jump = jump(Opcodes.IF_ICMPLT,
+            new VarInsnNode(Opcodes.ILOAD, 0), new VarInsnNode(Opcodes.ILOAD, 1));
+    Frame<SignValue> taken = frame(SignValue.ZERO_PLUS, SignValue.TOP);
+
+    assertTrue(refiner.refine(jump, List.of(SignValue.ZERO_PLUS, SignValue.TOP), taken, true));
+
+    assertEquals(SignValue.ZERO_PLUS, taken.getLocal(0));
+    assertEquals(SignValue.PLUS, taken.getLocal(1));
+  }
+
+  @Test
+  void testRefine_ificmpeq_differentSignsAreNeverEqual() {
+    JumpInsnNode jump = jump(Opcodes.IF_ICMPEQ,
+            new VarInsnNode(Opcodes.ILOAD, 0), new InsnNode(Opcodes.ICONST_2));
+
+    assertFalse(refiner.refine(jump, List.of(SignValue.MINUS, SignValue.PLUS),
+            frame(SignValue.MINUS, SignValue.TOP), true));
+    assertTrue(refiner.refine(jump, List.of(SignValue.MINUS, SignValue.PLUS),
+            frame(SignValue.MINUS, SignValue.TOP), false));
+  }
+
+  @Test
+  void testRefine_uninitializedValue_countsAsTop() {
+    JumpInsnNode jump = jump(Opcodes.IFGE, new VarInsnNode(Opcodes.ILOAD, 0));
+    Frame<SignValue> taken = frame(SignValue.UNINITIALIZED_VALUE, SignValue.TOP);
+
+    assertTrue(refiner.refine(jump, List.of(SignValue.UNINITIALIZED_VALUE), taken, true));
+
+    assertEquals(SignValue.ZERO_PLUS, taken.getLocal(0));
+  }
+
+  @Test
+  void testRefine_labelBeforeJump_leavesLocalsUnchanged() {
+    JumpInsnNode jump = jump(Opcodes.IFLT, new VarInsnNode(Opcodes.ILOAD, 0), new LabelNode());
+    Frame<SignValue> taken = frame(SignValue.TOP, SignValue.TOP);
+
+    assertTrue(refiner.refine(jump, List.of(SignValue.TOP), taken, true));
+
+    assertEquals(SignValue.TOP, taken.getLocal(0));
+  }
+
+  @Test
+  void testRefine_otherJumps_areAlwaysFeasible() {
+    JumpInsnNode jump = jump(Opcodes.IFNULL);
+
+    assertTrue(refiner.refine(jump, List.of(SignValue.BOTTOM), frame(SignValue.TOP, SignValue.TOP), true));
+  }
+}
@@ -1,6 +1,10 @@
 package de.uni_passau.fim.se2.sa.sign.interpretation;
 
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
 import de.uni_passau.fim.se2.sa.sign.ContextAwareSignAnalyzer;
+import de.uni_passau.fim.se2.sa.sign.fixpoint.FixpointStatistics;
+import de.uni_passau.fim.se2.sa.sign.summary.ContextSensitivity;
+import de.uni_passau.fim.se2.sa.sign.summary.SummaryCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.objectweb.asm.Opcodes;
@@ -175,6 +179,73 @@ void testNaryOperation_ValidMethod_ReturnsMergedValue() throws Exception {
     assertEquals(SignValue.PLUS, result);
   }
 
+  @Test
+  void testNaryOperation_ContextInsensitive_AnalyzesCalleeOnce() throws Exception {
+    MethodInsnNode insn = new MethodInsnNode(Opcodes.INVOKESTATIC, "MyTestClass", "foo", "(I)I", false);
+    MethodNode methodNode = new MethodNode();
+    methodNode.instructions = new InsnList();
+    methodNode.instructions.add(new InsnNode(Opcodes.ICONST_1));
+    methodNode.instructions.add(new InsnNode(Opcodes.IRETURN));
+    when(methods.get("foo:(I)I")).thenReturn(methodNode);
+
+    ContextAwareSignAnalyzer analyzerMock = mock(ContextAwareSignAnalyzer.class);
+    Frame<SignValue>[] fakeFrames = new Frame[2];
+    fakeFrames[1] = mock(Frame.class);
+    when(fakeFrames[1].getStackSize()).thenReturn(1);
+    when(fakeFrames[1].getStack(0)).thenReturn(SignValue.PLUS);
+    doReturn(analyzerMock).when(si).createAnalyzer(any(), any(), any(), anyBoolean());
+    when(analyzerMock.analyze(className, methodNode)).thenReturn(fakeFrames);
+
+    assertEquals(SignValue.PLUS, si.naryOperation(insn, List.of(SignValue.ZERO)));
+    assertEquals(SignValue.PLUS, si.naryOperation(insn, List.of(SignValue.MINUS)));
+    verify(analyzerMock, times(1)).analyze(className, methodNode);
+    verify(si).createAnalyzer(any(), eq(List.of()), any(), anyBoolean());
+  }
+
+  @Test
+  void testNaryOperation_SameContext_AnalyzesCalleeOnce() throws Exception {
+    AnalysisOptions options =
+        AnalysisOptions.builder().contextSensitivity(ContextSensitivity.ARGUMENT_SIGNS).build();
+    si =
+        spy(
+            new SignInterpreter(
+                className, methods, new SummaryCache(), options, new FixpointStatistics(), null));
+    MethodInsnNode insn = new MethodInsnNode(Opcodes.INVOKESTATIC, "MyTestClass", "foo", "(I)I", false);
+    MethodNode methodNode = new MethodNode();
+    methodNode.instructions = new InsnList();
+    methodNode.instructions.add(new InsnNode(Opcodes.ICONST_1));
+    methodNode.instructions.add(new InsnNode(Opcodes.IRETURN));
+    when(methods.get("foo:(I)I")).thenReturn(methodNode);
+
+    ContextAwareSignAnalyzer analyzerMock = mock(ContextAwareSignAnalyzer.class);
+    Frame<SignValue>[] fakeFrames = new Frame[2];
+    fakeFrames[1] = mock(Frame.class);
+    when(fakeFrames[1].getStackSize()).thenReturn(1);
+    when(fakeFrames[1].getStack(0)).thenReturn(SignValue.PLUS);
+    doReturn(analyzerMock).when(si).createAnalyzer(any(), any(), any(), anyBoolean());
+    when(analyzerMock.analyze(className, methodNode)).thenReturn(fakeFrames);
+
+    assertEquals(SignValue.PLUS, si.naryOperation(insn, List.of(SignValue.ZERO)));
+    assertEquals(SignValue.PLUS, si.naryOperation(insn, List.of(SignValue.ZERO)));
+    verify(analyzerMock, times(1)).analyze(className, methodNode);
+
+    assertEquals(SignValue.PLUS, si.naryOperation(insn, List.of(SignValue.MINUS)));
+    verify(analyzerMock, times(2)).analyze(className, methodNode);
+  }
+
+  @Test
+  void testNaryOperation_OtherOwnerWithSameKey_IsNotResolvedLocally() throws Exception {
+    MethodInsnNode insn = new MethodInsnNode(Opcodes.INVOKESTATIC, "OtherClass", "foo", "()I", false);
+    MethodNode methodNode = new MethodNode();
+    methodNode.instructions = new InsnList();
+    methodNode.instructions.add(new InsnNode(Opcodes.ICONST_1));
+    methodNode.instructions.add(new InsnNode(Opcodes.IRETURN));
+    when(methods.get("foo:()I")).thenReturn(methodNode);
+
+    assertEquals(SignValue.TOP, si.naryOperation(insn, List.of()));
+    verify(si, never()).createAnalyzer(any(), any(), any(), anyBoolean());
+  }
+
   @Test
   void testNaryOperation_AnalyzerThrows_ReturnsTOP() throws Exception {
     MethodInsnNode insn = new MethodInsnNode(Opcodes.INVOKESTATIC, "SomeClass", "bar", "()I", false);
@@ -5,6 +5,8 @@
 import org.objectweb.asm.Opcodes;
 
 import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static de.uni_passau.fim.se2.sa.sign.interpretation.SignTransferRelation.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -154,4 +156,30 @@ public void testGetOperationFromOpcode_UnsupportedOpcode() {
     );
     assertTrue(exception.getMessage().contains("Not supported operation"));
   }
+
+  @Test
+  public void testEvaluateBinary_TableMatchesSignwiseEvaluation() {
+    for (Operation operation : EnumSet.of(Operation.ADD, Operation.SUB, Operation.MUL, Operation.DIV)) {
+      for (SignValue lhs : SignValue.values()) {
+        for (SignValue rhs : SignValue.values()) {
+          if (lhs == SignValue.UNINITIALIZED_VALUE || rhs == SignValue.UNINITIALIZED_VALUE) {
+            continue;
+          }
+          Set<Sign> expected = EnumSet.noneOf(Sign.class);
+          for (Sign l : lhs.getSigns()) {
+            for (Sign r : rhs.getSigns()) {
+              expected.addAll(switch (operation) {
+                case ADD -> Sign.evaluateAdd(l, r);
+                case SUB -> Sign.evaluateSub(l, r);
+                case MUL -> Sign.evaluateMul(l, r);
+                default -> Sign.evaluateDiv(l, r);
+              });
+            }
+          }
+          assertSame(SignValue.fromSigns(expected), str.evaluate(operation, lhs, rhs),
+                  operation + " " + lhs + " " + rhs);
+        }
+      }
+    }
+  }
 }
@@ -168,4 +168,23 @@ public void testFromSigns() {
     assertEquals(SignValue.ZERO_PLUS, SignValue.fromSigns(Set.of(Sign.PLUS, Sign.ZERO)));
     assertEquals(SignValue.TOP, SignValue.fromSigns(Set.of(Sign.MINUS, Sign.ZERO, Sign.PLUS)));
   }
+
+  @Test
+  public void testMask_RoundTripsThroughFromMask() {
+    for (SignValue value : SignValue.values()) {
+      assertSame(value, SignValue.fromMask(value.mask()));
+    }
+    assertEquals(0, SignValue.BOTTOM.mask());
+    assertEquals(7, SignValue.TOP.mask());
+    assertEquals(SignValue.MINUS.mask() | SignValue.ZERO.mask() | SignValue.PLUS.mask(), SignValue.TOP.mask());
+  }
+
+  @Test
+  public void testMask_MatchesSigns() {
+    for (SignValue value : SignValue.values()) {
+      if (value != SignValue.UNINITIALIZED_VALUE) {
+        assertSame(value, SignValue.fromSigns(value.getSigns()));
+      }
+    }
+  }
 }
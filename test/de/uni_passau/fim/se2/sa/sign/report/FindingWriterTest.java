@@ -0,0 +1,101 @@
+package de.uni_passau.fim.se2.sa.sign.report;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.scan.Finding;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FindingWriterTest {
+  private static final Finding DIV = new Finding("org/example/Foo", "div:()I", 12, AnalysisResult.DIVISION_BY_ZERO);
+  private static final Finding INDEX =
+          new Finding("org/example/Foo$Bar", "get:(I)I", 7, AnalysisResult.MAYBE_NEGATIVE_ARRAY_INDEX);
+
+  private static String write(final ReportFormat pFormat, final Finding... pFindings) throws IOException {
+    StringWriter out = new StringWriter();
+    try (FindingWriter writer = FindingWriter.create(pFormat, out)) {
+      for (Finding finding : pFindings) {
+        writer.write(finding);
+      }
+    }
+    return out.toString();
+  }
+
+  @Test
+  void testText_writesOneLinePerFinding() throws IOException {
+    assertEquals(
+            DIV + System.lineSeparator() + INDEX + System.lineSeparator(),
+            write(ReportFormat.TEXT, DIV, INDEX));
+    assertEquals("No warnings or errors found" + System.lineSeparator(), write(ReportFormat.TEXT));
+  }
+
+  @Test
+  void testJsonLines_writesOneObjectPerLine() throws IOException {
+    assertEquals(
+            "{\"class\":\"org.example.Foo\",\"method\":\"div:()I\",\"line\":12,"
+                    + "\"result\":\"DIVISION_BY_ZERO\",\"level\":\"error\","
+                    + "\"message\":\"Division by Zero detected\"}\n"
+                    + "{\"class\":\"org.example.Foo$Bar\",\"method\":\"get:(I)I\",\"line\":7,"
+                    + "\"result\":\"MAYBE_NEGATIVE_ARRAY_INDEX\",\"level\":\"warning\","
+                    + "\"message\":\"Negative Array Index detected\"}\n",
+            write(ReportFormat.JSONL, DIV, INDEX));
+    assertEquals("", write(ReportFormat.JSONL));
+  }
+
+  @Test
+  void testJsonLines_escapesStrings() throws IOException {
+    Finding finding = new Finding("a/\"B\\", "m:()V", 1, AnalysisResult.DIVISION_BY_ZERO);
+
+    assertTrue(write(ReportFormat.JSONL, finding).startsWith("{\"class\":\"a.\\\"B\\\\\","));
+  }
+
+  @Test
+  void testSarif_writesCompleteLog() throws IOException {
+    String log = write(ReportFormat.SARIF, DIV, INDEX);
+
+    assertTrue(log.startsWith("{\"$schema\":"));
+    assertTrue(log.contains("\"version\":\"2.1.0\""));
+    assertTrue(log.contains("{\"id\":\"MAYBE_DIVISION_BY_ZERO\""));
+    assertTrue(log.contains("{\"ruleId\":\"DIVISION_BY_ZERO\",\"level\":\"error\""));
+    assertTrue(log.contains("\"artifactLocation\":{\"uri\":\"org/example/Foo.java\"},\"region\":{\"startLine\":7}"));
+    assertTrue(log.contains("\"fullyQualifiedName\":\"org.example.Foo$Bar.get:(I)I\""));
+    assertTrue(log.endsWith("]}]}\n"));
+    assertEquals(count(log, '{'), count(log, '}'));
+    assertEquals(count(log, '['), count(log, ']'));
+  }
+
+  @Test
+  void testSarif_withoutFindings_isComplete() throws IOException {
+    String log = write(ReportFormat.SARIF);
+
+    assertTrue(log.endsWith("\"results\":[\n\n]}]}\n"));
+  }
+
+  @Test
+  void testDegraded_marksJsonLinesAndSarifRecords() throws IOException {
+    for (ReportFormat format : ReportFormat.values()) {
+      StringWriter out = new StringWriter();
+      try (FindingWriter writer = FindingWriter.create(format, out)) {
+        writer.write(DIV, true);
+      }
+      String report = out.toString();
+
+      switch (format) {
+        case TEXT -> assertEquals(write(ReportFormat.TEXT, DIV), report);
+        case JSONL -> assertTrue(report.endsWith(",\"degraded\":true}\n"));
+        case SARIF -> {
+          assertTrue(report.contains("\"function\"}]}],\"properties\":{\"degraded\":true}}"));
+          assertEquals(count(report, '{'), count(report, '}'));
+        }
+      }
+      assertFalse(write(format, DIV).contains("degraded"));
+    }
+  }
+
+  private static long count(final String pText, final char pChar) {
+    return pText.chars().filter(c -> c == pChar).count();
+  }
+}
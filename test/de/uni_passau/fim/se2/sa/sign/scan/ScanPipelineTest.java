@@ -0,0 +1,104 @@
+package de.uni_passau.fim.se2.sa.sign.scan;
+
+import de.uni_passau.fim.se2.sa.examples.PublicFunctional;
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import de.uni_passau.fim.se2.sa.sign.SignAnalysisImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanPipelineTest {
+  private static final String PUBLIC_FUNCTIONAL = "de/uni_passau/fim/se2/sa/examples/PublicFunctional";
+
+  @TempDir
+  Path tempDir;
+
+  private static byte[] classBytes() throws IOException {
+    try (InputStream in = PublicFunctional.class.getResourceAsStream("PublicFunctional.class")) {
+      return in.readAllBytes();
+    }
+  }
+
+  private Path writeJar(String... entries) throws IOException {
+    Path jar = tempDir.resolve("classes.jar");
+    try (OutputStream out = Files.newOutputStream(jar);
+         JarOutputStream jarOut = new JarOutputStream(out)) {
+      for (int i = 0; i < entries.length; i += 2) {
+        jarOut.putNextEntry(new ZipEntry(entries[i]));
+        jarOut.write(entries[i + 1].equals("valid") ? classBytes() : new byte[] {1, 2, 3});
+        jarOut.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  @Test
+  void testScan_jar_reportsSortedFindings() throws Exception {
+    Path jar = writeJar(PUBLIC_FUNCTIONAL + ".class", "valid", "META-INF/MANIFEST.MF", "broken");
+
+    ScanResult result = new ScanPipeline(new SignAnalysisImpl(), "*", 2).scan(jar);
+
+    assertEquals(1, result.classes());
+    assertTrue(result.failures().isEmpty());
+    assertEquals(18, result.findings().size());
+    List<Finding> sorted = new ArrayList<>(result.findings());
+    sorted.sort(null);
+    assertEquals(sorted, result.findings());
+    assertEquals(
+            new Finding(PUBLIC_FUNCTIONAL, "allCases:()I", 24, AnalysisResult.DIVISION_BY_ZERO),
+            result.findings().get(0));
+  }
+
+  @Test
+  void testScan_methodPattern_restrictsMethods() throws Exception {
+    Path jar = writeJar(PUBLIC_FUNCTIONAL + ".class", "valid");
+
+    ScanResult result = new ScanPipeline(new SignAnalysisImpl(), "div", 2).scan(jar);
+
+    assertEquals(
+            List.of(new Finding(PUBLIC_FUNCTIONAL, "div:()I", 73, AnalysisResult.DIVISION_BY_ZERO)),
+            result.findings());
+  }
+
+  @Test
+  void testScan_brokenClassFile_isReportedAsFailure() throws Exception {
+    Path jar = writeJar("Broken.class", "broken", PUBLIC_FUNCTIONAL + ".class", "valid");
+
+    ScanResult result = new ScanPipeline(new SignAnalysisImpl(), "*", 2).scan(jar);
+
+    assertEquals(1, result.classes());
+    assertEquals(1, result.failures().size());
+    assertTrue(result.failures().get(0).startsWith("Broken.class"));
+  }
+
+  @Test
+  void testScan_directory_findsNestedClassFiles() throws Exception {
+    Path classFile = tempDir.resolve(PUBLIC_FUNCTIONAL + ".class");
+    Files.createDirectories(classFile.getParent());
+    Files.write(classFile, classBytes());
+
+    ScanResult result = new ScanPipeline(new SignAnalysisImpl(), "twoErrors").scan(tempDir);
+
+    assertEquals(1, result.classes());
+    assertEquals(2, result.findings().size());
+    assertEquals("de.uni_passau.fim.se2.sa.examples.PublicFunctional.twoErrors:()V Line 42: "
+            + "ERROR: Division by Zero detected", result.findings().get(0).toString());
+  }
+
+  @Test
+  void testScan_missingSource_throwsIOException() {
+    assertThrows(IOException.class, () ->
+            new ScanPipeline(new SignAnalysisImpl(), "*").scan(tempDir.resolve("missing.jar")));
+  }
+}
@@ -0,0 +1,109 @@
+package de.uni_passau.fim.se2.sa.sign.slice;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BackwardSliceTest {
+  private static final String SLICED = "de/uni_passau/fim/se2/sa/examples/SlicedCallsFunctional";
+
+  private static ClassModel load(String internalName) throws IOException {
+    try (InputStream in = BackwardSliceTest.class.getClassLoader()
+            .getResourceAsStream(internalName + ".class")) {
+      return ClassModel.parse(in.readAllBytes());
+    }
+  }
+
+  private static MethodInsnNode call(MethodNode method, String name) {
+    for (AbstractInsnNode instruction : method.instructions) {
+      if (instruction instanceof MethodInsnNode call && call.name.equals(name)) {
+        return call;
+      }
+    }
+    throw new AssertionError("No call of " + name);
+  }
+
+  @Test
+  void testCompute_checkedOperand_containsOnlyCallsThatReachIt() throws IOException {
+    MethodNode method = load(SLICED).method("divisorFromCall:()I");
+
+    BackwardSlice slice = BackwardSlice.compute(
+            SLICED, method, SliceCriterion.forAnalysedMethod(AnalysisOptions.defaults()));
+
+    assertTrue(slice.contains(call(method, "zero")));
+    assertFalse(slice.contains(call(method, "positive")));
+    assertTrue(slice.size() > 0);
+  }
+
+  @Test
+  void testCompute_withoutCalls_containsAllInstructions() throws IOException {
+    MethodNode method = load(SLICED).method("zero:()I");
+
+    BackwardSlice slice = BackwardSlice.compute(
+            SLICED, method, SliceCriterion.forCallee(AnalysisOptions.defaults()));
+
+    assertEquals(-1, slice.size());
+    assertTrue(slice.contains(method.instructions.getFirst()));
+  }
+
+  @Test
+  void testSliceCache_computesEverySliceOnce() throws IOException {
+    ClassModel model = load(SLICED);
+    MethodNode method = model.method("divisorFromCall:()I");
+    SliceCache cache = new SliceCache();
+    SliceCriterion analysed = SliceCriterion.forAnalysedMethod(AnalysisOptions.defaults());
+    SliceCriterion callee = SliceCriterion.forCallee(AnalysisOptions.defaults());
+
+    BackwardSlice slice = cache.get(SLICED, method, analysed);
+
+    assertSame(slice, cache.get(SLICED, method, analysed));
+    assertNotSame(slice, cache.get(SLICED, method, callee));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void testCompute_arrayIndex_followsLocalsAndStack() throws IOException {
+    MethodNode method = load(SLICED).method("indexFromCall:()I");
+
+    BackwardSlice slice = BackwardSlice.compute(
+            SLICED, method, SliceCriterion.forAnalysedMethod(AnalysisOptions.defaults()));
+
+    assertTrue(slice.contains(call(method, "minusOne")));
+    assertFalse(slice.contains(call(method, "positive")));
+  }
+
+  @Test
+  void testCompute_callee_containsOnlyCallsThatReachReturns() throws IOException {
+    ClassModel model = load(SLICED);
+    MethodNode callee = model.method("minusOne:()I");
+    MethodNode caller = model.method("divisorFromCall:()I");
+
+    SliceCriterion criterion = SliceCriterion.forCallee(AnalysisOptions.defaults());
+
+    assertFalse(BackwardSlice.compute(SLICED, callee, criterion).contains(call(callee, "positive")));
+    assertTrue(BackwardSlice.compute(SLICED, caller, criterion).contains(call(caller, "positive")));
+    assertTrue(BackwardSlice.compute(SLICED, caller, criterion).contains(call(caller, "zero")));
+  }
+
+  @Test
+  void testCompute_refinedBranches_containBranchConditions() throws IOException {
+    MethodNode method = load(SLICED).method("divisorAfterBranchOnCall:()I");
+    AnalysisOptions refining = AnalysisOptions.builder().refineBranches(true).build();
+
+    BackwardSlice plain = BackwardSlice.compute(
+            SLICED, method, SliceCriterion.forAnalysedMethod(AnalysisOptions.defaults()));
+    BackwardSlice refined = BackwardSlice.compute(
+            SLICED, method, SliceCriterion.forAnalysedMethod(refining));
+
+    assertFalse(plain.contains(call(method, "positive")));
+    assertTrue(refined.contains(call(method, "positive")));
+  }
+}
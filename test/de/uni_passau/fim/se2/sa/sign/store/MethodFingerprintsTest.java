@@ -0,0 +1,85 @@
+package de.uni_passau.fim.se2.sa.sign.store;
+
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModelCache;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassProvider;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassResolver;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MethodFingerprintsTest {
+  private static final String PUBLIC_FUNCTIONAL = "de/uni_passau/fim/se2/sa/examples/PublicFunctional";
+  private static final String HELPER = "de/uni_passau/fim/se2/sa/examples/CrossClassHelper";
+  private static final String FUNCTIONAL = "de/uni_passau/fim/se2/sa/examples/CrossClassFunctional";
+
+  private static byte[] readClass(final String pInternalName) throws IOException {
+    return ClassProvider.classLoader(MethodFingerprintsTest.class.getClassLoader()).read(pInternalName);
+  }
+
+  @Test
+  void testFingerprint_reparsedClass_isStable() throws IOException {
+    ClassModel first = ClassModel.parse(readClass(PUBLIC_FUNCTIONAL));
+    ClassModel second = ClassModel.parse(readClass(PUBLIC_FUNCTIONAL));
+    MethodFingerprints fingerprints = new MethodFingerprints(null, "");
+
+    assertEquals(
+            fingerprints.fingerprint(first, first.method("loop0:()V")),
+            new MethodFingerprints(null, "").fingerprint(second, second.method("loop0:()V")));
+    assertNotEquals(
+            fingerprints.fingerprint(first, first.method("loop0:()V")),
+            fingerprints.fingerprint(first, first.method("div:()I")));
+  }
+
+  @Test
+  void testFingerprint_differentSalt_differs() throws IOException {
+    ClassModel model = ClassModel.parse(readClass(PUBLIC_FUNCTIONAL));
+    MethodNode method = model.method("div:()I");
+
+    assertNotEquals(
+            new MethodFingerprints(null, "a").fingerprint(model, method),
+            new MethodFingerprints(null, "b").fingerprint(model, method));
+  }
+
+  @Test
+  void testDependencies_changedCallee_changesCallersOnly() throws IOException {
+    ClassModel original = ClassModel.parse(readClass(PUBLIC_FUNCTIONAL));
+    ClassModel changed = ClassModel.parse(readClass(PUBLIC_FUNCTIONAL));
+    MethodNode callee = changed.method("getMaybeZero:(I)I");
+    callee.instructions.insert(new InsnNode(Opcodes.NOP));
+
+    MethodFingerprints before = new MethodFingerprints(null, "");
+    MethodFingerprints after = new MethodFingerprints(null, "");
+
+    assertNotEquals(
+            before.dependencies(original, original.method("divMaybeZeroCall:()I")),
+            after.dependencies(changed, changed.method("divMaybeZeroCall:()I")));
+    assertEquals(
+            before.fingerprint(original, original.method("divMaybeZeroCall:()I")),
+            after.fingerprint(changed, changed.method("divMaybeZeroCall:()I")));
+    assertEquals(
+            before.dependencies(original, original.method("div:()I")),
+            after.dependencies(changed, changed.method("div:()I")));
+  }
+
+  @Test
+  void testDependencies_includeCalleesOfOtherClasses() throws IOException {
+    ClassProvider provider = ClassProvider.inMemory(Map.of(
+            HELPER, readClass(HELPER),
+            FUNCTIONAL, readClass(FUNCTIONAL)));
+    ClassModel model = ClassModel.parse(readClass(FUNCTIONAL));
+    MethodNode method = model.method("helperZeroCall:()I");
+
+    String withResolver = new MethodFingerprints(
+            new ClassResolver(provider, new ClassModelCache()), "").dependencies(model, method);
+    String withoutResolver = new MethodFingerprints(null, "").dependencies(model, method);
+
+    assertNotEquals(withoutResolver, withResolver);
+  }
+}
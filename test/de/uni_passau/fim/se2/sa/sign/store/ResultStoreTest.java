@@ -0,0 +1,87 @@
+package de.uni_passau.fim.se2.sa.sign.store;
+
+import com.google.common.collect.SortedSetMultimap;
+import com.google.common.collect.TreeMultimap;
+import de.uni_passau.fim.se2.sa.sign.AnalysisResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultStoreTest {
+
+  private static SortedSetMultimap<Integer, AnalysisResult> findings() {
+    SortedSetMultimap<Integer, AnalysisResult> findings = TreeMultimap.create();
+    findings.put(12, AnalysisResult.DIVISION_BY_ZERO);
+    findings.put(12, AnalysisResult.MAYBE_NEGATIVE_ARRAY_INDEX);
+    findings.put(20, AnalysisResult.MAYBE_DIVISION_BY_ZERO);
+    return findings;
+  }
+
+  @Test
+  void testGet_matchingFingerprints_returnsFindings(@TempDir Path directory) throws IOException {
+    ResultStore store = ResultStore.open(directory.resolve("store"));
+    store.put("a/B.foo:()I", "f", "d", findings());
+
+    assertEquals(findings(), store.get("a/B.foo:()I", "f", "d"));
+    assertEquals(1, store.getHits());
+  }
+
+  @Test
+  void testGet_changedFingerprints_returnsNull(@TempDir Path directory) throws IOException {
+    ResultStore store = ResultStore.open(directory.resolve("store"));
+    store.put("a/B.foo:()I", "f", "d", findings());
+
+    assertNull(store.get("a/B.foo:()I", "g", "d"));
+    assertNull(store.get("a/B.foo:()I", "f", "e"));
+    assertNull(store.get("a/B.bar:()I", "f", "d"));
+    assertEquals(3, store.getMisses());
+  }
+
+  @Test
+  void testSave_roundTripsEntries(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("nested").resolve("store");
+    ResultStore store = ResultStore.open(file);
+    store.put("a/B.foo:()I", "f", "d", findings());
+    store.put("a/B.bar:()V", "g", "e", TreeMultimap.create());
+    store.save();
+
+    ResultStore reopened = ResultStore.open(file);
+
+    assertEquals(2, reopened.size());
+    assertEquals(findings(), reopened.get("a/B.foo:()I", "f", "d"));
+    assertEquals(TreeMultimap.create(), reopened.get("a/B.bar:()V", "g", "e"));
+  }
+
+  @Test
+  void testOpen_otherFormat_isIgnored(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("store");
+    Files.writeString(file, "something else\nx\ty\n");
+
+    assertEquals(0, ResultStore.open(file).size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"a/B.bar:()V\tg", "a/B.bar:()V\tg\te\t12:NO_SUCH_RESULT", "a/B.bar:()V\tg\te\t12"})
+  void testOpen_malformedEntry_startsEmpty(String entry, @TempDir Path directory) throws IOException {
+    Path file = directory.resolve("store");
+    ResultStore store = ResultStore.open(file);
+    store.put("a/B.foo:()I", "f", "d", findings());
+    store.save();
+    Files.writeString(file, entry + "\n", StandardOpenOption.APPEND);
+
+    ResultStore reopened = ResultStore.open(file);
+    assertEquals(0, reopened.size());
+
+    reopened.put("a/B.foo:()I", "f", "d", findings());
+    reopened.save();
+    assertEquals(findings(), ResultStore.open(file).get("a/B.foo:()I", "f", "d"));
+  }
+}
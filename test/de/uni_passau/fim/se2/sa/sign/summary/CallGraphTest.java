@@ -0,0 +1,119 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import de.uni_passau.fim.se2.sa.sign.AnalysisOptions;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModel;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassModelCache;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassProvider;
+import de.uni_passau.fim.se2.sa.sign.classpath.ClassResolver;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallGraphTest {
+  private static final String RECURSIVE = "de/uni_passau/fim/se2/sa/examples/RecursiveFunctional";
+  private static final String CROSS_CLASS = "de/uni_passau/fim/se2/sa/examples/CrossClassFunctional";
+
+  private static ClassModel load(String internalName) throws IOException {
+    try (InputStream in = CallGraphTest.class.getClassLoader()
+            .getResourceAsStream(internalName + ".class")) {
+      return ClassModel.parse(in.readAllBytes());
+    }
+  }
+
+  private static CallContext method(String owner, String methodKey) {
+    String[] parts = methodKey.split(":");
+    return new CallContext(owner, parts[0], parts[1], List.of());
+  }
+
+  @Test
+  void testBuild_recursiveMethods_formComponents() throws IOException {
+    ClassModel model = load(RECURSIVE);
+    CallGraph graph = CallGraph.build(model,
+            List.of(model.method("factorialCall:()I"), model.method("pingPongCall:()I")), null);
+
+    assertEquals(List.of(
+            Set.of(method(RECURSIVE, "factorial:(I)I")),
+            Set.of(method(RECURSIVE, "ping:(I)I"), method(RECURSIVE, "pong:(I)I"))),
+            sorted(graph.components()));
+    assertTrue(graph.graph().containsEdge(
+            method(RECURSIVE, "factorial:(I)I"), method(RECURSIVE, "factorial:(I)I")));
+    assertEquals(5, graph.graph().vertexSet().size());
+  }
+
+  @Test
+  void testBuild_calledRoot_isSummarised() throws IOException {
+    ClassModel model = load(RECURSIVE);
+    CallGraph graph = CallGraph.build(model,
+            List.of(model.method("countDownCall:()I"), model.method("countDown:(I)I")), null);
+
+    assertEquals(List.of(Set.of(method(RECURSIVE, "countDown:(I)I"))), graph.components());
+  }
+
+  @Test
+  void testBuild_resolver_followsCallsIntoOtherClasses() throws IOException {
+    ClassModel model = load(CROSS_CLASS);
+    ClassResolver resolver = new ClassResolver(
+            ClassProvider.classLoader(getClass().getClassLoader()), new ClassModelCache());
+
+    CallGraph local = CallGraph.build(model, List.of(model.method("helperZeroCall:()I")), null);
+    CallGraph resolved = CallGraph.build(model, List.of(model.method("helperZeroCall:()I")), resolver);
+
+    assertEquals(List.of(), local.components());
+    assertEquals(List.of(Set.of(method("de/uni_passau/fim/se2/sa/examples/CrossClassHelper", "zero:()I"))),
+            resolved.components());
+  }
+
+  @Test
+  void testBuild_backwardSlicing_leavesOutCallsThatReachNoCheck() throws IOException {
+    String sliced = "de/uni_passau/fim/se2/sa/examples/SlicedCallsFunctional";
+    ClassModel model = load(sliced);
+    AnalysisOptions slicing = AnalysisOptions.builder().backwardSlicing(true).build();
+
+    CallGraph graph = CallGraph.build(model,
+            List.of(model.method("divisorFromCall:()I"), model.method("indexFromCall:()I")), null, slicing);
+
+    assertEquals(Set.of(Set.of(method(sliced, "zero:()I")), Set.of(method(sliced, "minusOne:()I"))),
+            Set.copyOf(graph.components()));
+    assertFalse(graph.graph().containsVertex(method(sliced, "positive:()I")));
+  }
+
+  @Test
+  void testComputeBottomUp_summarisesCalleesBeforeCallers() throws Exception {
+    ClassModel model = load(RECURSIVE);
+    CallGraph graph = CallGraph.build(model, List.copyOf(model.methods().values()), null);
+    List<Set<CallContext>> order = Collections.synchronizedList(new ArrayList<>());
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      graph.computeBottomUp(order::add, executor).join();
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(Set.copyOf(graph.components()), Set.copyOf(order));
+    for (int i = 0; i < order.size(); i++) {
+      for (CallContext caller : order.get(i)) {
+        for (int j = i + 1; j < order.size(); j++) {
+          for (CallContext callee : order.get(j)) {
+            assertFalse(graph.graph().containsEdge(caller, callee), caller + " before " + callee);
+          }
+        }
+      }
+    }
+  }
+
+  private static List<Set<CallContext>> sorted(List<Set<CallContext>> components) {
+    List<Set<CallContext>> result = new ArrayList<>(components);
+    result.sort((a, b) -> Integer.compare(a.size(), b.size()));
+    return result;
+  }
+}
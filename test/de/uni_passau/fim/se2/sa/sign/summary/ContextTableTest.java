@@ -0,0 +1,116 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContextTableTest {
+
+  @Test
+  void testContextFor_insensitive_returnsMergedContext() {
+    ContextTable table = new ContextTable(ContextSensitivity.INSENSITIVE, 1, 32);
+
+    CallContext context = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.ZERO), null, null);
+
+    assertEquals(new CallContext("Owner", "foo", "(I)I", List.of()), context);
+    assertEquals(0, table.getFallbacks());
+  }
+
+  @Test
+  void testContextFor_argumentSigns_distinguishesArguments() {
+    ContextTable table = new ContextTable(ContextSensitivity.ARGUMENT_SIGNS, 1, 32);
+
+    CallContext zero = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.ZERO), null, null);
+    CallContext minus = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.MINUS), null, null);
+
+    assertEquals(List.of(SignValue.ZERO), zero.arguments());
+    assertEquals(List.of(SignValue.MINUS), minus.arguments());
+  }
+
+  @Test
+  void testContextFor_argumentSigns_uninitializedArgumentIsTop() {
+    ContextTable table = new ContextTable(ContextSensitivity.ARGUMENT_SIGNS, 1, 32);
+
+    CallContext context = table.contextFor(
+            "Owner", "foo", "(I)I", List.of(SignValue.UNINITIALIZED_VALUE), null, null);
+
+    assertEquals(List.of(SignValue.TOP), context.arguments());
+  }
+
+  @Test
+  void testContextFor_limitReached_fallsBackToMergedContext() {
+    ContextTable table = new ContextTable(ContextSensitivity.ARGUMENT_SIGNS, 1, 1);
+
+    table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.ZERO), null, null);
+    CallContext known = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.ZERO), null, null);
+    CallContext merged = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.PLUS), null, null);
+    CallContext other = table.contextFor("Owner", "bar", "(I)I", List.of(SignValue.PLUS), null, null);
+
+    assertEquals(List.of(SignValue.ZERO), known.arguments());
+    assertEquals(List.of(), merged.arguments());
+    assertEquals(List.of(SignValue.PLUS), other.arguments());
+    assertEquals(1, table.getFallbacks());
+  }
+
+  @Test
+  void testContextFor_callSite_keepsMostRecentCallSites() {
+    ContextTable table = new ContextTable(ContextSensitivity.CALL_SITE, 2, 32);
+
+    CallContext first = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.ZERO), null, "a@1");
+    CallContext second = table.contextFor("Owner", "bar", "(I)I", List.of(SignValue.ZERO), first, "b@2");
+    CallContext third = table.contextFor("Owner", "baz", "(I)I", List.of(SignValue.ZERO), second, "c@3");
+
+    assertEquals(List.of("a@1"), first.callSites());
+    assertEquals(List.of("a@1", "b@2"), second.callSites());
+    assertEquals(List.of("b@2", "c@3"), third.callSites());
+  }
+
+  @Test
+  void testContextFor_callSite_joinsArgumentsOfSameCallString() {
+    ContextTable table = new ContextTable(ContextSensitivity.CALL_SITE, 1, 32);
+
+    CallContext first = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.ZERO), null, "a@1");
+    CallContext joined = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.PLUS), null, "a@1");
+    CallContext other = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.MINUS), null, "a@2");
+
+    assertTrue(table.joinArguments(first, List.of(SignValue.ZERO)));
+    assertTrue(table.joinArguments(joined, List.of(SignValue.PLUS)));
+    assertTrue(table.joinArguments(other, List.of(SignValue.MINUS)));
+
+    assertEquals(first, joined);
+    assertNotEquals(first, other);
+    assertEquals(List.of(SignValue.ZERO_PLUS), table.argumentsOf(joined));
+    assertEquals(List.of(SignValue.MINUS), table.argumentsOf(other));
+  }
+
+  @Test
+  void testJoinArguments_callSite_reportsOnlyGrowth() {
+    ContextTable table = new ContextTable(ContextSensitivity.CALL_SITE, 1, 32);
+    CallContext context = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.PLUS), null, "a@1");
+
+    assertTrue(table.joinArguments(context, List.of(SignValue.ZERO_PLUS)));
+    assertFalse(table.joinArguments(context, List.of(SignValue.PLUS)));
+    assertFalse(table.joinArguments(context, List.of(SignValue.ZERO)));
+    assertEquals(List.of(SignValue.ZERO_PLUS), table.argumentsOf(context));
+  }
+
+  @Test
+  void testJoinArguments_argumentSigns_keepsArgumentsOfContext() {
+    ContextTable table = new ContextTable(ContextSensitivity.ARGUMENT_SIGNS, 1, 32);
+    CallContext context = table.contextFor("Owner", "foo", "(I)I", List.of(SignValue.PLUS), null, null);
+
+    assertFalse(table.joinArguments(context, List.of(SignValue.PLUS)));
+    assertEquals(List.of(SignValue.PLUS), table.argumentsOf(context));
+  }
+
+  @Test
+  void testConstructor_nonPositiveLimit_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class,
+            () -> new ContextTable(ContextSensitivity.ARGUMENT_SIGNS, 1, 0));
+    assertThrows(IllegalArgumentException.class,
+            () -> new ContextTable(ContextSensitivity.CALL_SITE, 0, 1));
+  }
+}
@@ -0,0 +1,65 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SummaryCacheTest {
+  private final SummaryCache cache = new SummaryCache();
+  private final CallContext context =
+          new CallContext("Owner", "foo", "(I)I", List.of(SignValue.PLUS));
+
+  @Test
+  void testGet_unknownContext_returnsNullAndCountsMiss() {
+    assertNull(cache.get(context));
+    assertEquals(1, cache.getMisses());
+    assertEquals(0, cache.getHits());
+  }
+
+  @Test
+  void testGet_storedContext_returnsSummaryAndCountsHit() {
+    cache.put(context, SignValue.ZERO);
+
+    assertSame(SignValue.ZERO, cache.get(context));
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testGet_differentArguments_areDistinctContexts() {
+    cache.put(context, SignValue.ZERO);
+
+    assertNull(cache.get(new CallContext("Owner", "foo", "(I)I", List.of(SignValue.MINUS))));
+    assertNull(cache.get(new CallContext("Other", "foo", "(I)I", List.of(SignValue.PLUS))));
+  }
+
+  @Test
+  void testCallContext_copiesArguments() {
+    List<SignValue> arguments = new ArrayList<>(List.of(SignValue.PLUS));
+    CallContext copy = new CallContext("Owner", "foo", "(I)I", arguments);
+    arguments.set(0, SignValue.MINUS);
+
+    assertEquals(context, copy);
+    assertEquals("foo:(I)I", copy.methodKey());
+  }
+
+  @Test
+  void testClear_removesSummariesAndCounters() {
+    cache.put(context, SignValue.ZERO);
+    cache.get(context);
+    cache.clear();
+
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHits());
+    assertNull(cache.get(context));
+  }
+
+  @Test
+  void testShared_returnsSameInstance() {
+    assertSame(SummaryCache.shared(), SummaryCache.shared());
+  }
+}
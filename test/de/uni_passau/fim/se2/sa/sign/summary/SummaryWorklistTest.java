@@ -0,0 +1,65 @@
+package de.uni_passau.fim.se2.sa.sign.summary;
+
+import de.uni_passau.fim.se2.sa.sign.interpretation.SignValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SummaryWorklistTest {
+  private final SummaryWorklist worklist = new SummaryWorklist();
+  private final CallContext caller = new CallContext("Owner", "caller", "()I", List.of());
+  private final CallContext callee = new CallContext("Owner", "callee", "()I", List.of());
+
+  @Test
+  void testLookup_newContext_startsAtBottomAndIsScheduled() {
+    assertSame(SignValue.BOTTOM, worklist.lookup(callee, caller));
+    assertEquals(callee, worklist.poll());
+    assertNull(worklist.poll());
+  }
+
+  @Test
+  void testLookup_knownContext_isNotScheduledAgain() {
+    worklist.lookup(callee, caller);
+    worklist.poll();
+
+    assertSame(SignValue.BOTTOM, worklist.lookup(callee, caller));
+    assertNull(worklist.poll());
+  }
+
+  @Test
+  void testUpdate_changedSummary_reschedulesDependents() {
+    worklist.lookup(caller, null);
+    worklist.poll();
+    worklist.lookup(callee, caller);
+    worklist.poll();
+
+    worklist.update(callee, SignValue.ZERO);
+
+    assertSame(SignValue.ZERO, worklist.approximation(callee));
+    assertEquals(caller, worklist.poll());
+    assertEquals(1, worklist.getAnalyses());
+  }
+
+  @Test
+  void testUpdate_unchangedSummary_doesNotRescheduleDependents() {
+    worklist.lookup(caller, null);
+    worklist.poll();
+    worklist.lookup(callee, caller);
+    worklist.poll();
+
+    worklist.update(callee, SignValue.BOTTOM);
+
+    assertNull(worklist.poll());
+  }
+
+  @Test
+  void testPoll_newestContextFirst() {
+    worklist.lookup(caller, null);
+    worklist.lookup(callee, caller);
+
+    assertEquals(callee, worklist.poll());
+    assertEquals(caller, worklist.poll());
+  }
+}